@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.testutil.BookingBuilder;
+
+/**
+ * Benchmarks the capacity checks made when bookings are added or the capacity is changed.
+ * The capacity is just enough for the generated bookings, so a booking at the time of the first booking overlaps
+ * every booking and is only accommodated after the last one, the worst case for suggesting a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CapacityBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private RestaurantBook restaurantBook;
+    private Booking conflictingBooking;
+    private Capacity largerCapacity;
+
+    @Setup
+    public void setUp() {
+        restaurantBook = new GeneratedRestaurantBookBuilder().withMembers(size).withBookings(size).build();
+        restaurantBook.setCapacity(new Capacity(GeneratedRestaurantBookBuilder.BOOKING_SIZE + 1));
+        conflictingBooking = new BookingBuilder(restaurantBook.getBookingList().get(0))
+                .withNumPersons(GeneratedRestaurantBookBuilder.BOOKING_SIZE).build();
+        largerCapacity = new Capacity(GeneratedRestaurantBookBuilder.BOOKING_SIZE + 2);
+    }
+
+    @Benchmark
+    public boolean canAccommodate() {
+        return restaurantBook.canAccommodate(conflictingBooking);
+    }
+
+    @Benchmark
+    public Object suggestNextAvailableTime() {
+        return restaurantBook.suggestNextAvailableTime(conflictingBooking);
+    }
+
+    @Benchmark
+    public boolean canUpdateCapacity() {
+        return restaurantBook.canUpdateCapacity(largerCapacity);
+    }
+}
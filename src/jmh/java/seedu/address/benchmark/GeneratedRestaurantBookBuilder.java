@@ -0,0 +1,160 @@
+package seedu.address.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Shift;
+import seedu.address.model.person.staff.ShiftRoster;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.IngredientBuilder;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.ShiftRosterBuilder;
+import seedu.address.testutil.StaffBuilder;
+
+/**
+ * A utility class to help with building large restaurant books for benchmarks.
+ * Example usage: <br>
+ *     {@code RestaurantBook rb = new GeneratedRestaurantBookBuilder().withMembers(1000).withBookings(1000).build();}
+ */
+public class GeneratedRestaurantBookBuilder {
+
+    public static final int BOOKING_SIZE = 2;
+    public static final int INGREDIENT_QUANTITY = 1000000;
+    public static final int INGREDIENTS_PER_RECIPE = 3;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<Booking> bookings = new ArrayList<>();
+    private final List<Ingredient> ingredients = new ArrayList<>();
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final List<Staff> staff = new ArrayList<>();
+
+    /**
+     * Adds {@code count} generated members to the {@code RestaurantBook} that we are building.
+     */
+    public GeneratedRestaurantBookBuilder withMembers(int count) {
+        for (int i = 0; i < count; i++) {
+            members.add(getMember(members.size()));
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code count} generated bookings to the {@code RestaurantBook} that we are building, one every hour up to
+     * the start of today, made by the members in turn. There must be at least one member.
+     * The bookings do not overlap, so any capacity of at least {@code BOOKING_SIZE} can accommodate them.
+     */
+    public GeneratedRestaurantBookBuilder withBookings(int count) {
+        LocalDateTime firstStartTime = LocalDate.now().atStartOfDay().minusHours(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(new BookingBuilder().withCustomer(members.get(i % members.size()))
+                    .withDate(firstStartTime.plusHours(i)).withNumPersons(BOOKING_SIZE).build());
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code count} generated ingredients to the {@code RestaurantBook} that we are building, each with
+     * {@code INGREDIENT_QUANTITY} in stock.
+     */
+    public GeneratedRestaurantBookBuilder withIngredients(int count) {
+        for (int i = 0; i < count; i++) {
+            ingredients.add(new IngredientBuilder().withIngredientName("Ingredient " + toLetters(ingredients.size()))
+                    .withIngredientQuantity(INGREDIENT_QUANTITY).build());
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code count} generated recipes to the {@code RestaurantBook} that we are building, each requiring
+     * {@code INGREDIENTS_PER_RECIPE} of the ingredients in turn. There must be at least that many ingredients.
+     */
+    public GeneratedRestaurantBookBuilder withRecipes(int count) {
+        for (int i = 0; i < count; i++) {
+            int number = recipes.size();
+            Map<Ingredient, IngredientQuantity> requiredIngredients = new HashMap<>();
+            for (int j = 0; j < INGREDIENTS_PER_RECIPE; j++) {
+                Ingredient ingredient = ingredients.get((number + j) % ingredients.size());
+                requiredIngredients.put(ingredient, new IngredientQuantity(j + 1));
+            }
+            recipes.add(new Recipe(new RecipeName("Recipe " + toLetters(number)),
+                    new RecipeIngredientSet(requiredIngredients)));
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code count} generated staff to the {@code RestaurantBook} that we are building, each rostered for a
+     * lunch and a dinner shift on every day of the week.
+     */
+    public GeneratedRestaurantBookBuilder withStaff(int count) {
+        for (int i = 0; i < count; i++) {
+            int number = staff.size();
+            staff.add(new StaffBuilder().withName("Staff " + number).withPhone(String.format("8%07d", number))
+                    .withEmail("staff" + number + "@example.com").withShiftRoster(getWeeklyShiftRoster()).build());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the generated member with the number {@code number}, which is different from the members with other
+     * numbers.
+     */
+    public static Member getMember(int number) {
+        return new MemberBuilder().withName("Member " + number).withPhone(String.format("9%07d", number))
+                .withEmail("member" + number + "@example.com").build();
+    }
+
+    /**
+     * Returns a roster of a lunch and a dinner shift on every day of the week.
+     */
+    private static ShiftRoster getWeeklyShiftRoster() {
+        ShiftRosterBuilder shiftRosterBuilder = new ShiftRosterBuilder();
+        shiftRosterBuilder.buildEmptyShiftRoster();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            shiftRosterBuilder.withShift(new Shift(day, LocalTime.of(11, 0), day, LocalTime.of(15, 0)))
+                    .withShift(new Shift(day, LocalTime.of(17, 0), day, LocalTime.of(22, 0)));
+        }
+        return shiftRosterBuilder.build();
+    }
+
+    /**
+     * Returns {@code number} written in letters, as the names of ingredients and recipes cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.insert(0, (char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+
+    /**
+     * Builds a {@code RestaurantBook} with the generated items, replacing each list in one step.
+     */
+    public RestaurantBook build() {
+        RestaurantBook restaurantBook = new RestaurantBook();
+        restaurantBook.setMembers(members);
+        restaurantBook.setBookings(bookings);
+        restaurantBook.setIngredients(ingredients);
+        restaurantBook.setRecipes(recipes);
+        restaurantBook.setStaffList(staff);
+        return restaurantBook;
+    }
+}
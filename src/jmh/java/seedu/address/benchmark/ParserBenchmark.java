@@ -0,0 +1,75 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.booking.AddBookingCommand;
+import seedu.address.logic.commands.booking.ListBookingsCommand;
+import seedu.address.logic.commands.member.DeleteMemberCommand;
+import seedu.address.logic.parser.RestaurantBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.BookingUtil;
+import seedu.address.testutil.MemberUtil;
+
+/**
+ * Benchmarks parsing user input into commands. Parsing does not depend on the size of the restaurant book, so the
+ * benchmark is parameterized by the kind of command instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+    /**
+     * The kinds of command that are parsed.
+     */
+    public enum CommandKind {
+        ADD_MEMBER, ADD_BOOKING, LIST_BOOKINGS, DELETE_MEMBER
+    }
+
+    @Param({"ADD_MEMBER", "ADD_BOOKING", "LIST_BOOKINGS", "DELETE_MEMBER"})
+    private CommandKind commandKind;
+
+    private final RestaurantBookParser parser = new RestaurantBookParser();
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        switch (commandKind) {
+        case ADD_MEMBER:
+            userInput = MemberUtil.getAddCommand(GeneratedRestaurantBookBuilder.getMember(1));
+            break;
+        case ADD_BOOKING:
+            userInput = AddBookingCommand.COMMAND_WORD
+                    + BookingUtil.getAddBookingCommand("2019-02-23T14:30", INDEX_FIRST, 5);
+            break;
+        case LIST_BOOKINGS:
+            userInput = ListBookingsCommand.COMMAND_WORD + " " + PREFIX_START_TIME + "2019-02-23 "
+                    + PREFIX_END_TIME + "2019-02-24T18:00";
+            break;
+        case DELETE_MEMBER:
+            userInput = DeleteMemberCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased();
+            break;
+        default:
+            throw new AssertionError("Unknown command kind: " + commandKind);
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
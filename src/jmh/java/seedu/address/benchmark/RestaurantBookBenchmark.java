@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.MemberBuilder;
+
+/**
+ * Benchmarks the operations of {@code RestaurantBook} that keep its lists and indices up to date.
+ * Every benchmark undoes its own modification, so the restaurant book is the same before every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private RestaurantBook restaurantBook;
+    private Booking middleBooking;
+    private Member member;
+    private Member editedMember;
+
+    @Setup
+    public void setUp() {
+        restaurantBook = new GeneratedRestaurantBookBuilder().withMembers(size).withBookings(size).build();
+        Booking existingBooking = restaurantBook.getBookingList().get(size / 2);
+        // half an hour after an existing booking, so it is inserted in the middle of the booking list
+        middleBooking = new BookingBuilder(existingBooking).withDate(existingBooking.getStartTime().plusMinutes(30))
+                .build();
+        member = restaurantBook.getMemberList().get(size / 2);
+        editedMember = new MemberBuilder(member).withLoyaltyPoints(member.getLoyaltyPoints().value + 1).build();
+    }
+
+    /**
+     * Adds a booking in the middle of the booking list, then removes it.
+     */
+    @Benchmark
+    public void addAndRemoveBooking() {
+        restaurantBook.addBooking(middleBooking);
+        restaurantBook.removeBooking(middleBooking);
+    }
+
+    /**
+     * Edits a member, which also replaces the member's booking, then edits the member back.
+     */
+    @Benchmark
+    public void setMemberAndRevert() {
+        restaurantBook.setMember(member, editedMember);
+        restaurantBook.setMember(editedMember, member);
+    }
+}
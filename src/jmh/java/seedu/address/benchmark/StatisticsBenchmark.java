@@ -0,0 +1,50 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.scene.chart.XYChart.Data;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Statistics;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Benchmarks generating the data of the statistics graphs over all the days that can be shown, which cover every
+ * generated booking.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatisticsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Model model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(new GeneratedRestaurantBookBuilder().withMembers(size).withBookings(size).build(),
+                new UserPrefs());
+    }
+
+    @Benchmark
+    public List<Data<String, Integer>> generateGraphDataDays() {
+        return model.getStatistics(Statistics.getMaxDays()).generateGraphDataDays();
+    }
+
+    @Benchmark
+    public List<Data<String, Integer>> generateGraphDataTime() {
+        return model.getStatistics(Statistics.getMaxDays()).generateGraphDataTime();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.storage.JsonRestaurantBookStorage;
+
+/**
+ * Benchmarks saving the whole restaurant book to a JSON file and loading it back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path tempDir;
+    private JsonRestaurantBookStorage storage;
+    private RestaurantBook restaurantBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("rem-benchmark");
+        storage = new JsonRestaurantBookStorage(tempDir.resolve("restaurantBook.json"));
+        restaurantBook = new GeneratedRestaurantBookBuilder().withMembers(size).withBookings(size).build();
+        storage.saveRestaurantBook(restaurantBook);
+    }
+
+    /**
+     * Deletes the file written by the benchmarks and its temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getRestaurantBookFilePath());
+        Files.delete(tempDir);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveRestaurantBook(restaurantBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyRestaurantBook> load() throws DataConversionException {
+        return storage.readRestaurantBook();
+    }
+}
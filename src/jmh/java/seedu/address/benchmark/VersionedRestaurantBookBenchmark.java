@@ -0,0 +1,68 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.VersionedRestaurantBook;
+import seedu.address.model.VersionedRestaurantBook.HistoryMode;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+/**
+ * Benchmarks committing and undoing a command that edits one member and so also replaces that member's booking,
+ * in each history mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedRestaurantBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"SNAPSHOTS", "JOURNAL"})
+    private HistoryMode historyMode;
+
+    private VersionedRestaurantBook versionedRestaurantBook;
+    private Member member;
+    private Member editedMember;
+
+    @Setup
+    public void setUp() {
+        versionedRestaurantBook = new VersionedRestaurantBook(
+                new GeneratedRestaurantBookBuilder().withMembers(size).withBookings(size).build(), historyMode,
+                VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+        member = versionedRestaurantBook.getMemberList().get(size / 2);
+        editedMember = new MemberBuilder(member).withLoyaltyPoints(member.getLoyaltyPoints().value + 1).build();
+    }
+
+    /**
+     * Edits the member and commits, then undoes the commit, which is discarded by the next commit.
+     */
+    @Benchmark
+    public void commitAndUndo() {
+        versionedRestaurantBook.setMember(member, editedMember);
+        versionedRestaurantBook.commit();
+        versionedRestaurantBook.undo();
+    }
+
+    /**
+     * Edits the member and commits, then edits the member back and commits, so the history keeps growing up to its
+     * depth.
+     */
+    @Benchmark
+    public void commit() {
+        versionedRestaurantBook.setMember(member, editedMember);
+        versionedRestaurantBook.commit();
+        versionedRestaurantBook.setMember(editedMember, member);
+        versionedRestaurantBook.commit();
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.loadtest;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INGREDIENT_QUANTITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.booking.AddBookingCommand;
+import seedu.address.logic.commands.booking.DeleteBookingCommand;
+import seedu.address.logic.commands.booking.EditBookingCommand;
+import seedu.address.logic.commands.ingredient.ConsumeIngredientCommand;
+import seedu.address.logic.commands.ingredient.RestockIngredientCommand;
+
+/**
+ * Generates the text of commands in the proportions a restaurant issues them during a service: mostly bookings
+ * and ingredient updates, with the occasional undo.
+ * The statistics commands are not generated as they open a window, which needs the JavaFX application thread; the
+ * statistics they compute are measured by {@code StatisticsBenchmark} instead.
+ * The indices in the commands are picked from the lists currently displayed by the {@code Logic}, so the commands
+ * must be executed as they are generated.
+ */
+public class CommandMix {
+
+    /** The first and last hours of the day at which generated bookings start. */
+    private static final int FIRST_BOOKING_HOUR = 11;
+    private static final int LAST_BOOKING_HOUR = 21;
+    /** The number of days ahead within which generated bookings start. */
+    private static final int BOOKING_DAYS_AHEAD = 30;
+    private static final int MAX_PERSONS = 6;
+    private static final int MAX_QUANTITY = 10;
+
+    /**
+     * The kinds of command generated, with their relative frequencies.
+     */
+    private enum CommandKind {
+        ADD_BOOKING(30),
+        EDIT_BOOKING(15),
+        DELETE_BOOKING(5),
+        CONSUME_INGREDIENT(20),
+        RESTOCK_INGREDIENT(10),
+        UNDO(10);
+
+        private final int weight;
+
+        CommandKind(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final Logic logic;
+    private final Random random;
+    private final int totalWeight;
+
+    public CommandMix(Logic logic, long seed) {
+        this.logic = logic;
+        random = new Random(seed);
+        int weights = 0;
+        for (CommandKind kind : CommandKind.values()) {
+            weights += kind.weight;
+        }
+        totalWeight = weights;
+    }
+
+    /**
+     * Returns the text of the next command to execute.
+     */
+    public String next() {
+        int pick = random.nextInt(totalWeight);
+        for (CommandKind kind : CommandKind.values()) {
+            pick -= kind.weight;
+            if (pick < 0) {
+                return generate(kind);
+            }
+        }
+        throw new AssertionError("The pick is less than the total weight.");
+    }
+
+    /**
+     * Returns the text of a command of {@code kind}, or of an added booking if there is nothing to apply the command
+     * to.
+     */
+    private String generate(CommandKind kind) {
+        int bookings = logic.getFilteredBookingList().size();
+        int ingredients = logic.getFilteredIngredientList().size();
+        switch (kind) {
+        case EDIT_BOOKING:
+            if (bookings == 0) {
+                break;
+            }
+            String editedField = random.nextBoolean()
+                    ? PREFIX_START_TIME.toString() + pickStartTime()
+                    : PREFIX_NUMBER_PERSONS.toString() + pickPersons();
+            return EditBookingCommand.COMMAND_WORD + " " + pickIndex(bookings) + " " + editedField;
+        case DELETE_BOOKING:
+            if (bookings == 0) {
+                break;
+            }
+            return DeleteBookingCommand.COMMAND_WORD + " " + pickIndex(bookings);
+        case CONSUME_INGREDIENT:
+            if (ingredients == 0) {
+                break;
+            }
+            return ConsumeIngredientCommand.COMMAND_WORD + " " + PREFIX_INDEX + pickIndex(ingredients) + " "
+                    + PREFIX_INGREDIENT_QUANTITY + (random.nextInt(MAX_QUANTITY) + 1);
+        case RESTOCK_INGREDIENT:
+            if (ingredients == 0) {
+                break;
+            }
+            return RestockIngredientCommand.COMMAND_WORD + " " + PREFIX_INDEX + pickIndex(ingredients) + " "
+                    + PREFIX_INGREDIENT_QUANTITY + (random.nextInt(MAX_QUANTITY) + 1);
+        case UNDO:
+            return UndoCommand.COMMAND_WORD;
+        default:
+            break;
+        }
+        return AddBookingCommand.COMMAND_WORD + " " + PREFIX_CUSTOMER
+                + pickIndex(logic.getFilteredMemberList().size()) + " " + PREFIX_START_TIME + pickStartTime() + " "
+                + PREFIX_NUMBER_PERSONS + pickPersons();
+    }
+
+    /**
+     * Returns a one-based index into a list of {@code size} items.
+     */
+    private int pickIndex(int size) {
+        return random.nextInt(size) + 1;
+    }
+
+    private LocalDateTime pickStartTime() {
+        int hour = FIRST_BOOKING_HOUR + random.nextInt(LAST_BOOKING_HOUR - FIRST_BOOKING_HOUR + 1);
+        return LocalDate.now().plusDays(random.nextInt(BOOKING_DAYS_AHEAD) + 1).atTime(hour, 0);
+    }
+
+    private int pickPersons() {
+        return random.nextInt(MAX_PERSONS) + 1;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how long each executed command took, grouped by command word, and reports the percentiles of the latencies.
+ */
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String ROW_FORMAT = "%-20s %8s %8s %10s %10s %10s%n";
+
+    private final Map<String, List<Long>> latencies = new TreeMap<>();
+    private final Map<String, Integer> failures = new TreeMap<>();
+
+    /**
+     * Records that a command with {@code commandWord} took {@code nanos} to execute, and whether it failed.
+     */
+    public void record(String commandWord, long nanos, boolean hasFailed) {
+        latencies.computeIfAbsent(commandWord, unused -> new ArrayList<>()).add(nanos);
+        if (hasFailed) {
+            failures.merge(commandWord, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Prints the number of commands, the number that failed and the 50th and 99th percentile and maximum latencies
+     * for each command word and for all the commands together.
+     */
+    public void report(PrintStream out) {
+        out.printf(ROW_FORMAT, "command", "count", "failed", "p50 (ms)", "p99 (ms)", "max (ms)");
+        List<Long> allLatencies = new ArrayList<>();
+        latencies.forEach((commandWord, commandLatencies) -> {
+            printRow(out, commandWord, commandLatencies, failures.getOrDefault(commandWord, 0));
+            allLatencies.addAll(commandLatencies);
+        });
+        printRow(out, "(all)", allLatencies, failures.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Prints the statistics of {@code rowLatencies}, of which {@code failed} failed, in a row labelled {@code label}.
+     */
+    private static void printRow(PrintStream out, String label, List<Long> rowLatencies, int failed) {
+        List<Long> sorted = new ArrayList<>(rowLatencies);
+        Collections.sort(sorted);
+        out.printf(ROW_FORMAT, label, sorted.size(), failed, toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 99)), toMillis(sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1)));
+    }
+
+    /**
+     * Returns the {@code percent} percentile of the ascending {@code sorted} latencies by the nearest-rank method.
+     */
+    private static long percentile(List<Long> sorted, int percent) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,280 @@
+package seedu.address.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.benchmark.GeneratedRestaurantBookBuilder;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.stats.ViewStatsDaysCommand;
+import seedu.address.logic.commands.stats.ViewStatsTimeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledRestaurantBookStorage;
+import seedu.address.storage.JsonRestaurantBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RestaurantBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Drives {@code LogicManager} with a large generated restaurant book, as the app would be driven by a busy
+ * restaurant, and reports the latency of each command word and the overall throughput.
+ * The commands are either generated by a {@link CommandMix} or replayed from session files, which hold one command
+ * per line like the scripts of the {@code runscript} command. A generated session can be recorded from the command
+ * history and replayed later, such as before and after a change. Replayed commands that open a window are skipped,
+ * as the load test does not run the JavaFX application thread.
+ * The restaurant book is saved to a temporary directory as the app would save it, and the time taken to finish the
+ * saves is included in the throughput.
+ */
+public class LoadTest {
+
+    public static final String USAGE = "Usage: LoadTest [--members N] [--days N] [--ingredients N] [--recipes N] "
+            + "[--staff N] [--commands N] [--seed N] [--journal] [--record FILE] [SESSION_FILE]...\n"
+            + "Generates --commands commands (default 10000) unless session files to replay are given.";
+
+    private static final int HOURS_IN_A_DAY = 24;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final List<String> WINDOW_COMMAND_WORDS = Arrays.asList(
+            ViewStatsDaysCommand.COMMAND_WORD, ViewStatsDaysCommand.COMMAND_ALIAS,
+            ViewStatsTimeCommand.COMMAND_WORD, ViewStatsTimeCommand.COMMAND_ALIAS);
+
+    private int members = 1000;
+    private int days = 365;
+    private int ingredients = 200;
+    private int recipes = 100;
+    private int staff = 50;
+    private int commands = 10000;
+    private long seed = 0;
+    private boolean isJournalEnabled = false;
+    private Path recordFile;
+    private final List<Path> sessionFiles = new ArrayList<>();
+
+    /**
+     * Runs the load test with the options in {@code args}, which are described by {@code USAGE}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        LoadTest loadTest = new LoadTest();
+        try {
+            loadTest.parseArguments(args);
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        loadTest.run();
+    }
+
+    /**
+     * Sets the options of this load test from {@code args}.
+     *
+     * @throws IllegalArgumentException if an option is unknown or its value is invalid.
+     */
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--journal")) {
+                isJournalEnabled = true;
+                continue;
+            }
+            if (!option.startsWith("--")) {
+                sessionFiles.add(Paths.get(option));
+                continue;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--members":
+                members = parseCount(option, value, 1);
+                break;
+            case "--days":
+                days = parseCount(option, value, 0);
+                break;
+            case "--ingredients":
+                ingredients = parseCount(option, value, GeneratedRestaurantBookBuilder.INGREDIENTS_PER_RECIPE);
+                break;
+            case "--recipes":
+                recipes = parseCount(option, value, 0);
+                break;
+            case "--staff":
+                staff = parseCount(option, value, 0);
+                break;
+            case "--commands":
+                commands = parseCount(option, value, 0);
+                break;
+            case "--seed":
+                seed = Long.parseLong(value);
+                break;
+            case "--record":
+                recordFile = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    /**
+     * Returns the count given as {@code value} of {@code option}.
+     *
+     * @throws IllegalArgumentException if {@code value} is not an integer of at least {@code minimum}.
+     */
+    private static int parseCount(String option, String value, int minimum) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= minimum) {
+                return count;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        throw new IllegalArgumentException(option + " must be an integer of at least " + minimum);
+    }
+
+    /**
+     * Generates the restaurant book, executes the commands and reports their latencies.
+     */
+    private void run() throws IOException {
+        List<String> sessionCommands = new ArrayList<>();
+        int skippedCommands = 0;
+        for (Path sessionFile : sessionFiles) {
+            for (String line : Files.readAllLines(sessionFile)) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(RunScriptCommand.COMMENT_PREFIX)) {
+                    continue;
+                }
+                if (WINDOW_COMMAND_WORDS.contains(getCommandWord(commandText))) {
+                    skippedCommands++;
+                } else {
+                    sessionCommands.add(commandText);
+                }
+            }
+        }
+        if (skippedCommands > 0) {
+            System.out.printf("Skipping %d commands that open a window%n", skippedCommands);
+        }
+
+        System.out.printf("Generating %d members, %d days of bookings, %d ingredients, %d recipes and %d staff%n",
+                members, days, ingredients, recipes, staff);
+        RestaurantBook restaurantBook = new GeneratedRestaurantBookBuilder().withMembers(members)
+                .withBookings(days * HOURS_IN_A_DAY).withIngredients(ingredients).withRecipes(recipes)
+                .withStaff(staff).build();
+
+        Path tempDir = Files.createTempDirectory("rem-loadtest");
+        Path restaurantBookFile = tempDir.resolve("restaurantBook.json");
+        RestaurantBookStorage restaurantBookStorage = isJournalEnabled
+                ? new JournaledRestaurantBookStorage(restaurantBookFile)
+                : new JsonRestaurantBookStorage(restaurantBookFile);
+        Storage storage = new StorageManager(restaurantBookStorage,
+                new JsonUserPrefsStorage(tempDir.resolve("preferences.json")));
+        try {
+            storage.saveRestaurantBook(restaurantBook);
+            LogicManager logic = new LogicManager(new ModelManager(restaurantBook, new UserPrefs()), storage);
+            silenceLoggers();
+
+            Supplier<String> nextCommand;
+            int commandCount;
+            if (sessionFiles.isEmpty()) {
+                CommandMix commandMix = new CommandMix(logic, seed);
+                nextCommand = commandMix::next;
+                commandCount = commands;
+            } else {
+                Iterator<String> sessionIterator = sessionCommands.iterator();
+                nextCommand = sessionIterator::next;
+                commandCount = sessionCommands.size();
+            }
+
+            System.out.printf("Executing %d commands%n", commandCount);
+            LatencyRecorder latencyRecorder = new LatencyRecorder();
+            long runStart = System.nanoTime();
+            for (int i = 0; i < commandCount; i++) {
+                execute(logic, nextCommand.get(), latencyRecorder);
+            }
+            long flushStart = System.nanoTime();
+            storage.flushRestaurantBookSaves();
+            long runEnd = System.nanoTime();
+
+            latencyRecorder.report(System.out);
+            double seconds = (runEnd - runStart) / NANOS_PER_SECOND;
+            System.out.printf("Throughput: %.1f commands/s (%d commands in %.3f s, of which %.3f s finishing saves)%n",
+                    commandCount / seconds, commandCount, seconds, (runEnd - flushStart) / NANOS_PER_SECOND);
+
+            if (recordFile != null) {
+                Files.write(recordFile, logic.getHistory());
+                System.out.println("Recorded the session in " + recordFile);
+            }
+        } finally {
+            deleteFiles(tempDir);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and records how long it took under its command word.
+     * Commands that fail are recorded too, as the user waits for them all the same.
+     */
+    private static void execute(LogicManager logic, String commandText, LatencyRecorder latencyRecorder) {
+        String commandWord = getCommandWord(commandText);
+        boolean hasFailed = false;
+        long start = System.nanoTime();
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            hasFailed = true;
+        }
+        latencyRecorder.record(commandWord, System.nanoTime() - start, hasFailed);
+    }
+
+    /**
+     * Raises the level of the loggers created so far to warnings, as logging every command would dominate the
+     * latencies being measured.
+     */
+    private static void silenceLoggers() {
+        LogManager logManager = LogManager.getLogManager();
+        for (String name : Collections.list(logManager.getLoggerNames())) {
+            Logger logger = logManager.getLogger(name);
+            if (logger != null) {
+                logger.setLevel(Level.WARNING);
+            }
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.split("\\s+", 2)[0];
+    }
+
+    /**
+     * Deletes {@code dir} and the files in it.
+     */
+    private static void deleteFiles(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> dirContents = Files.list(dir)) {
+            files = dirContents.collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+}
@@ -14,9 +14,13 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String EXIT_AFTER_INIT_FLAG = "--exit-after-init";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path startupProfilePath;
+    private boolean isExitAfterInit;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +30,22 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getStartupProfilePath() {
+        return startupProfilePath;
+    }
+
+    public void setStartupProfilePath(Path startupProfilePath) {
+        this.startupProfilePath = startupProfilePath;
+    }
+
+    public boolean isExitAfterInit() {
+        return isExitAfterInit;
+    }
+
+    public void setExitAfterInit(boolean isExitAfterInit) {
+        this.isExitAfterInit = isExitAfterInit;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +60,17 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String startupProfilePathParameter = namedParameters.get("startup-profile");
+        if (startupProfilePathParameter != null && !FileUtil.isValidPath(startupProfilePathParameter)) {
+            logger.warning("Invalid startup profile path " + startupProfilePathParameter
+                    + ". The startup profile will only be logged.");
+            startupProfilePathParameter = null;
+        }
+        appParameters.setStartupProfilePath(
+                startupProfilePathParameter != null ? Paths.get(startupProfilePathParameter) : null);
+
+        appParameters.setExitAfterInit(parameters.getUnnamed().contains(EXIT_AFTER_INIT_FLAG));
+
         return appParameters;
     }
 
@@ -54,11 +85,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getStartupProfilePath(), otherAppParameters.getStartupProfilePath())
+                && isExitAfterInit() == otherAppParameters.isExitAfterInit();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, startupProfilePath, isExitAfterInit);
     }
 }
@@ -1,17 +1,22 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.metrics.StartupProfile;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -22,6 +27,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.RestaurantBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournaledRestaurantBookStorage;
 import seedu.address.storage.JsonRestaurantBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.RestaurantBookStorage;
@@ -46,6 +52,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AppParameters appParameters;
+    private StartupProfile startupProfile;
+
     /**
      * Initialises the RestaurantBook.
      * @throws Exception
@@ -55,32 +64,43 @@ public class MainApp extends Application {
     public void init() throws Exception {
         logger.info("=============================[ Initializing RestaurantBook ]===========================");
         super.init();
+        startupProfile = new StartupProfile();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        startupProfile.endPhase("initConfig", "");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RestaurantBookStorage restaurantBookStorage =
-                new JsonRestaurantBookStorage(userPrefs.getRestaurantBookFilePath());
+        startupProfile.endPhase("initPrefs", "");
+        RestaurantBookStorage restaurantBookStorage = userPrefs.isRestaurantBookJournalEnabled()
+                ? new JournaledRestaurantBookStorage(userPrefs.getRestaurantBookFilePath(),
+                        userPrefs.isRestaurantBookPrettyPrinted())
+                : new JsonRestaurantBookStorage(userPrefs.getRestaurantBookFilePath(),
+                        userPrefs.isRestaurantBookPrettyPrinted());
         storage = new StorageManager(restaurantBookStorage, userPrefsStorage);
 
         initLogging(config);
+        startupProfile.endPhase("initStorage", restaurantBookStorage.getClass().getSimpleName());
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        startupProfile.endPhase("LogicManager", "");
 
         ui = new UiManager(logic);
+        startupProfile.endPhase("UiManager", "");
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The reading of the data, the archiving of old bookings and the construction of the {@code ModelManager} are
+     * recorded as phases of the startup profile.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyRestaurantBook> restaurantBookOptional;
+        Optional<ReadOnlyRestaurantBook> restaurantBookOptional = Optional.empty();
         ReadOnlyRestaurantBook initialData;
         try {
             restaurantBookOptional = storage.readRestaurantBook();
@@ -95,8 +115,52 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty RestaurantBook");
             initialData = new RestaurantBook();
         }
+        startupProfile.endPhase("readRestaurantBook", describeItems(initialData));
+
+        if (restaurantBookOptional.isPresent()) {
+            int archivedCount = archiveOldBookings(storage, restaurantBookOptional.get(),
+                    userPrefs.getBookingRetentionDays());
+            startupProfile.endPhase("archiveOldBookings", archivedCount + " bookings archived");
+        }
+
+        Model modelManager = new ModelManager(initialData, userPrefs);
+        startupProfile.endPhase("ModelManager", describeItems(modelManager.getRestaurantBook()));
+        return modelManager;
+    }
+
+    /**
+     * Returns the number of items of each kind in {@code restaurantBook}, to be reported in the startup profile.
+     */
+    private static String describeItems(ReadOnlyRestaurantBook restaurantBook) {
+        return String.format("%d items: %d members, %d bookings, %d ingredients, %d recipes, %d staff",
+                restaurantBook.getItemCount(), restaurantBook.getMemberList().size(),
+                restaurantBook.getBookingList().size(), restaurantBook.getIngredientList().size(),
+                restaurantBook.getRecipeList().size(), restaurantBook.getStaffList().size());
+    }
+
+    /**
+     * Archives the bookings of {@code restaurantBook} that are older than {@code retentionDays} days, and saves the
+     * restaurant book to {@code storage} if any were archived. Nothing is archived if {@code retentionDays} is 0.
+     *
+     * @return the number of bookings archived.
+     */
+    private int archiveOldBookings(Storage storage, ReadOnlyRestaurantBook restaurantBook, int retentionDays) {
+        if (retentionDays <= 0 || !(restaurantBook instanceof RestaurantBook)) {
+            return 0;
+        }
 
-        return new ModelManager(initialData, userPrefs);
+        int archivedCount = ((RestaurantBook) restaurantBook).archiveBookingsBefore(
+                LocalDate.now().minusDays(retentionDays));
+        if (archivedCount == 0) {
+            return 0;
+        }
+        logger.info("Archived " + archivedCount + " bookings older than " + retentionDays + " days");
+        try {
+            storage.saveRestaurantBook(restaurantBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save the archived bookings " + StringUtil.getDetails(e));
+        }
+        return archivedCount;
     }
 
     private void initLogging(Config config) {
@@ -174,17 +238,76 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting RestaurantBook " + MainApp.VERSION);
+        startupProfile.endPhase("launchStage", "");
         ui.start(primaryStage);
+        startupProfile.endPhase("MainWindow", "");
+        reportStartupProfile();
+
+        if (appParameters.isExitAfterInit()) {
+            logger.info("Exiting after startup as " + AppParameters.EXIT_AFTER_INIT_FLAG + " was given");
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Logs the startup profile, and writes it to the startup profile file if one was given.
+     */
+    private void reportStartupProfile() {
+        String report = startupProfile.getReport();
+        logger.info("Startup profile:\n" + report);
+        Path startupProfilePath = appParameters.getStartupProfilePath();
+        if (startupProfilePath == null) {
+            return;
+        }
+        try {
+            FileUtil.createIfMissing(startupProfilePath);
+            FileUtil.writeToFile(startupProfilePath, report + System.lineSeparator());
+        } catch (IOException e) {
+            logger.warning("Failed to save the startup profile " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        storage.flushRestaurantBookSaves();
+        compactRestaurantBookJournal();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (model.getUserPrefs().isMetricsSavedOnExit()) {
+            saveMetrics(model.getUserPrefs().getMetricsFilePath());
+        }
+    }
+
+    /**
+     * Saves the whole restaurant book if changes to it were left in a journal, so that the data file is complete
+     * whether or not the journal is enabled the next time the app starts.
+     */
+    private void compactRestaurantBookJournal() {
+        if (!Files.exists(JournaledRestaurantBookStorage.getJournalFilePath(storage.getRestaurantBookFilePath()))) {
+            return;
+        }
+        try {
+            storage.saveRestaurantBook(model.getRestaurantBook());
+        } catch (IOException e) {
+            logger.warning("Failed to compact the restaurant book journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the latencies of the commands executed in this session to {@code metricsFilePath}.
+     */
+    private void saveMetrics(Path metricsFilePath) {
+        logger.info("Saving command metrics to " + metricsFilePath);
+        try {
+            FileUtil.createIfMissing(metricsFilePath);
+            FileUtil.writeToFile(metricsFilePath, model.getCommandMetrics().getReport() + System.lineSeparator());
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,66 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning a check of the bookings against the capacity of the restaurant.
+ */
+@Name("seedu.address.CapacityCheck")
+@Label("Capacity Check")
+@Category({"REM", "Model"})
+@Description("A check of whether the restaurant can accommodate bookings, or a search for times at which it can")
+public class CapacityCheckEvent extends Event {
+
+    /** The checks against the capacity. */
+    public static final String CAN_ACCOMMODATE = "canAccommodate";
+    public static final String CAN_ADD_BOOKING = "canAddBooking";
+    public static final String SUGGEST_AVAILABLE_TIMES = "suggestAvailableTimes";
+
+    @Label("Check")
+    private String check;
+
+    @Label("Capacity")
+    private int capacity;
+
+    @Label("Number of Persons")
+    @Description("The number of persons in the booking to add, or 0 if no booking is being added")
+    private int numPersons;
+
+    @Label("Item Count")
+    @Description("The number of bookings checked, or of times at which the occupancy of the timeline checked changes")
+    private int itemCount;
+
+    @Label("Accommodated")
+    private boolean accommodated;
+
+    @Label("Suggestion Count")
+    private int suggestionCount;
+
+    public CapacityCheckEvent(String check) {
+        this.check = check;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setNumPersons(int numPersons) {
+        this.numPersons = numPersons;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public void setAccommodated(boolean accommodated) {
+        this.accommodated = accommodated;
+    }
+
+    public void setSuggestionCount(int suggestionCount) {
+        this.suggestionCount = suggestionCount;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the parsing and execution of a command.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"REM", "Logic"})
+@Description("A command entered by the user, from parsing to handing its changes over to be saved")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Restaurant Book Modified")
+    private boolean restaurantBookModified;
+
+    @Label("Item Count")
+    @Description("The number of members, bookings, ingredients, recipes and staff after the command")
+    private int itemCount;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public void setRestaurantBookModified(boolean restaurantBookModified) {
+        this.restaurantBookModified = restaurantBookModified;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+}
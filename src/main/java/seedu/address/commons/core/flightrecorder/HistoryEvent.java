@@ -0,0 +1,60 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning a commit, undo or redo of the undo history of the restaurant book.
+ */
+@Name("seedu.address.History")
+@Label("Undo History")
+@Category({"REM", "Model"})
+@Description("A commit, undo or redo of the undo history of the restaurant book")
+public class HistoryEvent extends Event {
+
+    /** The operations on the undo history. */
+    public static final String COMMIT = "commit";
+    public static final String UNDO = "undo";
+    public static final String REDO = "redo";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("History Mode")
+    private String historyMode;
+
+    @Label("History Size")
+    @Description("The number of states in the history after the operation, including the current one")
+    private int historySize;
+
+    @Label("Retained Item Count")
+    @Description("The number of items held by the history after the operation")
+    private long retainedItemCount;
+
+    @Label("Item Count")
+    @Description("The number of members, bookings, ingredients, recipes and staff after the operation")
+    private int itemCount;
+
+    public HistoryEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void setHistoryMode(String historyMode) {
+        this.historyMode = historyMode;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+
+    public void setRetainedItemCount(long retainedItemCount) {
+        this.retainedItemCount = retainedItemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+}
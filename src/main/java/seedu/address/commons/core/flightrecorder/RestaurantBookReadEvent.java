@@ -0,0 +1,49 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning a read of the restaurant book from disk.
+ */
+@Name("seedu.address.RestaurantBookRead")
+@Label("Restaurant Book Read")
+@Category({"REM", "Storage"})
+@Description("A read of the restaurant book from disk")
+public class RestaurantBookReadEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Found")
+    private boolean found;
+
+    @Label("Item Count")
+    @Description("The number of members, bookings, ingredients, recipes and staff read")
+    private int itemCount;
+
+    @Label("Bytes Read")
+    @Description("The size of the data file and of its journal, if any")
+    @DataAmount
+    private long bytesRead;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+}
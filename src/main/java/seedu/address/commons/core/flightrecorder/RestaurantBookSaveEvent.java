@@ -0,0 +1,57 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning a save of the restaurant book to disk.
+ */
+@Name("seedu.address.RestaurantBookSave")
+@Label("Restaurant Book Save")
+@Category({"REM", "Storage"})
+@Description("A save of the whole restaurant book, or of the changes made to it, to disk")
+public class RestaurantBookSaveEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Change Count")
+    @Description("The number of sets of changes saved together, or 0 if the whole restaurant book was saved")
+    private int changeCount;
+
+    @Label("Item Count")
+    @Description("The number of members, bookings, ingredients, recipes and staff saved")
+    private int itemCount;
+
+    @Label("Bytes Written")
+    @Description("The size of the data file if it was rewritten, and of what was appended to the journal")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setChangeCount(int changeCount) {
+        this.changeCount = changeCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each phase of the commands took, and how many of them failed, by command word.
+ * The disk writes of the saves, which run in the background and may cover several commands, are recorded
+ * separately.
+ * Latencies may be recorded from any thread without locking.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of a command.
+     */
+    public enum Phase {
+        /** Parsing the command text. */
+        PARSE,
+        /** Executing the command, except committing to the undo history. */
+        EXECUTE,
+        /** Committing to the undo history. */
+        COMMIT,
+        /** Handing the changes over to be saved in the background. */
+        SAVE
+    }
+
+    /** The command word recorded for input that is not a command. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+
+    private static final String ROW_FORMAT = "%-20s %-8s %7s %10s %10s %10s";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String DISK_WRITES = "(disk writes)";
+
+    private final ConcurrentMap<String, CommandWordMetrics> commandWordMetrics = new ConcurrentSkipListMap<>();
+    private final LatencyHistogram diskWrites = new LatencyHistogram();
+    /** The time spent committing since the execution of the previous command was recorded. */
+    private final AtomicLong unrecordedCommitNanos = new AtomicLong(-1);
+
+    /**
+     * Records that the phase {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(phase);
+        getCommandWordMetrics(commandWord).phases.get(phase).record(nanos);
+    }
+
+    /**
+     * Adds {@code nanos} nanoseconds to the time spent committing to the undo history by the command being executed.
+     * The time is recorded as the commit phase of the command when its execution is recorded.
+     */
+    public void addCommitTime(long nanos) {
+        unrecordedCommitNanos.accumulateAndGet(nanos, (total, added) -> Math.max(total, 0) + added);
+    }
+
+    /**
+     * Records that executing a command with {@code commandWord} took {@code nanos} nanoseconds, of which the time
+     * added by {@link #addCommitTime} since the previous execution was recorded is recorded as its commit phase.
+     */
+    public void recordExecution(String commandWord, long nanos) {
+        long commitNanos = unrecordedCommitNanos.getAndSet(-1);
+        if (commitNanos >= 0) {
+            record(commandWord, Phase.COMMIT, commitNanos);
+        }
+        record(commandWord, Phase.EXECUTE, nanos - Math.max(commitNanos, 0));
+    }
+
+    /**
+     * Records that a command with {@code commandWord} failed.
+     */
+    public void recordError(String commandWord) {
+        getCommandWordMetrics(commandWord).errors.increment();
+    }
+
+    /**
+     * Records that writing a save to disk took {@code nanos} nanoseconds.
+     */
+    public void recordDiskWrite(long nanos) {
+        diskWrites.record(nanos);
+    }
+
+    private CommandWordMetrics getCommandWordMetrics(String commandWord) {
+        requireNonNull(commandWord);
+        return commandWordMetrics.computeIfAbsent(commandWord, unused -> new CommandWordMetrics());
+    }
+
+    /**
+     * Returns the latency histogram of the phase {@code phase} of the commands with {@code commandWord}.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        requireNonNull(phase);
+        CommandWordMetrics metrics = commandWordMetrics.get(commandWord);
+        return metrics == null ? new LatencyHistogram() : metrics.phases.get(phase);
+    }
+
+    /**
+     * Returns the latency histogram of the disk writes of the saves.
+     */
+    public LatencyHistogram getDiskWriteHistogram() {
+        return diskWrites;
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that failed.
+     */
+    public long getErrorCount(String commandWord) {
+        CommandWordMetrics metrics = commandWordMetrics.get(commandWord);
+        return metrics == null ? 0 : metrics.errors.sum();
+    }
+
+    /**
+     * Returns true if no latencies have been recorded.
+     */
+    public boolean isEmpty() {
+        return commandWordMetrics.isEmpty() && diskWrites.getCount() == 0;
+    }
+
+    /**
+     * Returns a table of the number of times each phase of the commands with each command word ran, the estimated
+     * 50th and 99th percentile and the maximum of their latencies, and the number of commands that failed.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format(ROW_FORMAT, "command", "phase", "count",
+                "p50 (ms)", "p99 (ms)", "max (ms)"));
+        commandWordMetrics.forEach((commandWord, metrics) -> {
+            String label = commandWord;
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = metrics.phases.get(phase);
+                if (histogram.getCount() > 0) {
+                    appendRow(report, label, phase.name().toLowerCase(), histogram);
+                    label = "";
+                }
+            }
+            long errors = metrics.errors.sum();
+            if (errors > 0) {
+                report.append('\n').append(String.format(ROW_FORMAT, label, "errors", errors, "", "", ""));
+            }
+        });
+        if (diskWrites.getCount() > 0) {
+            appendRow(report, DISK_WRITES, "write", diskWrites);
+        }
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String label, String phase, LatencyHistogram histogram) {
+        report.append('\n').append(String.format(ROW_FORMAT, label, phase, histogram.getCount(),
+                toMillis(histogram.getPercentileNanos(50)), toMillis(histogram.getPercentileNanos(99)),
+                toMillis(histogram.getMaxNanos())));
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * The latencies of each phase and the number of failures of the commands with one command word.
+     */
+    private static class CommandWordMetrics {
+        private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+        private final LongAdder errors = new LongAdder();
+
+        CommandWordMetrics() {
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.commons.core.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts latencies in buckets whose bounds double from one microsecond, so that percentiles can be estimated
+ * without keeping every latency.
+ * Latencies may be recorded from any thread without locking. A percentile is estimated as the upper bound of the
+ * bucket it falls in, so it is at most twice the actual percentile.
+ */
+public class LatencyHistogram {
+
+    /** Bucket {@code b} counts the latencies from {@code 2^(b-1)} to under {@code 2^b} microseconds. */
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as zero.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        long micros = TimeUnit.NANOSECONDS.toMicros(latency);
+        int bucket = Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+        bucketCounts.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the latencies recorded in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMeanNanos() {
+        long latencies = count.sum();
+        return latencies == 0 ? 0 : totalNanos.sum() / latencies;
+    }
+
+    /**
+     * Returns the largest latency recorded in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns an upper bound of the {@code percentile} percentile of the latencies recorded in nanoseconds, or 0 if
+     * none were recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(0 < percentile && percentile <= 100, "The percentile must be above 0 and at most 100.");
+        long max = maxNanos.get();
+        long rank = (long) Math.ceil(percentile / 100 * count.sum());
+        long latenciesBelow = 0;
+        for (int bucket = 0; bucket < BUCKETS - 1; bucket++) {
+            latenciesBelow += bucketCounts.get(bucket);
+            if (latenciesBelow >= rank) {
+                return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << bucket), max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records how long each phase of the startup of the app took, along with details such as the number of items
+ * loaded. The phases run one after another, so each phase is timed from the end of the previous one, or from the
+ * creation of the profile for the first phase.
+ */
+public class StartupProfile {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfile.class);
+    private static final String ROW_FORMAT = "%-20s %10s  %s";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String TOTAL = "(total)";
+
+    private final List<PhaseTiming> phases = new ArrayList<>();
+    private final long startNanos;
+    private long phaseStartNanos;
+
+    public StartupProfile() {
+        startNanos = System.nanoTime();
+        phaseStartNanos = startNanos;
+    }
+
+    /**
+     * Records that the phase {@code name}, described by {@code details}, ended now, and logs how long it took.
+     */
+    public void endPhase(String name, String details) {
+        requireNonNull(name);
+        requireNonNull(details);
+        long endNanos = System.nanoTime();
+        PhaseTiming phase = new PhaseTiming(name, details, endNanos - phaseStartNanos);
+        phases.add(phase);
+        phaseStartNanos = endNanos;
+        logger.info("Startup phase " + name + " took " + toMillis(phase.nanos) + " ms"
+                + (details.isEmpty() ? "" : " (" + details + ")"));
+    }
+
+    /**
+     * Returns the names of the phases recorded, in the order they ran.
+     */
+    public List<String> getPhaseNames() {
+        List<String> names = new ArrayList<>();
+        phases.forEach(phase -> names.add(phase.name));
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the time from the creation of this profile to the end of the last phase recorded, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return phaseStartNanos - startNanos;
+    }
+
+    /**
+     * Returns a table of the phases recorded, in the order they ran, with how long each took and its details,
+     * followed by the total time taken.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format(ROW_FORMAT, "phase", "time (ms)", "details"));
+        for (PhaseTiming phase : phases) {
+            report.append('\n').append(String.format(ROW_FORMAT, phase.name, toMillis(phase.nanos), phase.details));
+        }
+        report.append('\n').append(String.format(ROW_FORMAT, TOTAL, toMillis(getTotalNanos()), ""));
+        return report.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * How long a phase of the startup took.
+     */
+    private static class PhaseTiming {
+        private final String name;
+        private final String details;
+        private final long nanos;
+
+        PhaseTiming(String name, String details, long nanos) {
+            this.name = name;
+            this.details = details;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RecipeServings;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
@@ -49,6 +50,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of ingredients */
     ObservableList<Recipe> getFilteredRecipeList();
 
+    /**
+     * Returns the number of servings of {@code recipe} that can be made with the ingredients in the restaurant book.
+     *
+     * @see seedu.address.model.Model#getNumberOfServings(Recipe)
+     */
+    int getNumberOfServings(Recipe recipe);
+
+    /**
+     * Returns the number of servings of each recipe that can be made with the ingredients in the restaurant book.
+     *
+     * @see seedu.address.model.Model#getRecipeServings()
+     */
+    RecipeServings getRecipeServings();
+
     /** Returns an unmodifiable view of the filtered list of staff */
     ObservableList<Staff> getFilteredStaffList();
 
@@ -149,4 +164,10 @@ public interface Logic {
     void setSelectedStaff(Staff staff);
 
     void setUpdateCapacityCallback(Consumer<Capacity> callback);
+
+    /**
+     * Sets the callback that receives an error message whenever saving the data fails.
+     * As data is saved in the background, the callback may be called from any thread.
+     */
+    void setSaveErrorCallback(Consumer<String> callback);
 }
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -9,6 +12,9 @@ import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.flightrecorder.CommandEvent;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,9 +22,13 @@ import seedu.address.logic.parser.RestaurantBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RecipeServings;
+import seedu.address.model.RestaurantBook;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
 import seedu.address.model.recipe.Recipe;
@@ -35,6 +45,7 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final RestaurantBookParser restaurantBookParser;
+    private final List<Change> unsavedChanges = new ArrayList<>();
     private boolean restaurantBookModified;
 
     public LogicManager(Model model, Storage storage) {
@@ -45,33 +56,86 @@ public class LogicManager implements Logic {
 
         // Set restaurantBookModified to true whenever the models' address book is modified.
         model.getRestaurantBook().addListener(observable -> restaurantBookModified = true);
+        model.addRestaurantBookChangeRecorder(unsavedChanges::add);
+        storage.setSaveTimeHandler(model.getCommandMetrics()::recordDiskWrite);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         restaurantBookModified = false;
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+        String commandWord = getCommandWord(commandText);
+        CommandEvent commandEvent = new CommandEvent();
+        commandEvent.begin();
 
         CommandResult commandResult;
+        // listeners of the restaurant book are notified once, after the command, however many changes it made
+        RestaurantBook.NotificationScope notificationScope = model.openRestaurantBookNotificationScope();
         try {
-            Command command = restaurantBookParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            Command command;
+            long parseStart = System.nanoTime();
+            try {
+                command = restaurantBookParser.parseCommand(commandText);
+            } catch (ParseException pe) {
+                if (MESSAGE_UNKNOWN_COMMAND.equals(pe.getMessage())) {
+                    commandWord = CommandMetrics.UNKNOWN_COMMAND_WORD;
+                }
+                throw pe;
+            } finally {
+                commandMetrics.record(commandWord, Phase.PARSE, System.nanoTime() - parseStart);
+            }
+
+            long executeStart = System.nanoTime();
+            try {
+                commandResult = command.execute(model, history);
+            } finally {
+                commandMetrics.recordExecution(commandWord, System.nanoTime() - executeStart);
+            }
+        } catch (CommandException | ParseException | RuntimeException e) {
+            commandMetrics.recordError(commandWord);
+            commitCommandEvent(commandEvent, commandWord, false);
+            throw e;
         } finally {
+            notificationScope.close();
             history.add(commandText);
         }
 
         if (restaurantBookModified) {
             logger.info("Address book modified, saving to file.");
-            try {
-                storage.saveRestaurantBook(model.getRestaurantBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long saveStart = System.nanoTime();
+            ChangeSet changes = new ChangeSet(unsavedChanges);
+            unsavedChanges.clear();
+            storage.saveRestaurantBookInBackground(model.getRestaurantBook(), changes);
+            commandMetrics.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
         }
 
+        commitCommandEvent(commandEvent, commandWord, true);
         return commandResult;
     }
 
+    /**
+     * Ends {@code commandEvent} of the command with {@code commandWord}, and commits it if it is being recorded.
+     */
+    private void commitCommandEvent(CommandEvent commandEvent, String commandWord, boolean hasSucceeded) {
+        commandEvent.end();
+        if (commandEvent.shouldCommit()) {
+            commandEvent.setCommandWord(commandWord);
+            commandEvent.setSucceeded(hasSucceeded);
+            commandEvent.setRestaurantBookModified(restaurantBookModified);
+            commandEvent.setItemCount(model.getRestaurantBook().getItemCount());
+            commandEvent.commit();
+        }
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, under which the latencies of the command are recorded.
+     */
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        return trimmedText.isEmpty() ? CommandMetrics.UNKNOWN_COMMAND_WORD : trimmedText.split("\\s+", 2)[0];
+    }
+
     @Override
     public ReadOnlyRestaurantBook getRestaurantBook() {
         return model.getRestaurantBook();
@@ -97,6 +161,16 @@ public class LogicManager implements Logic {
         return model.getFilteredRecipeList();
     }
 
+    @Override
+    public int getNumberOfServings(Recipe recipe) {
+        return model.getNumberOfServings(recipe);
+    }
+
+    @Override
+    public RecipeServings getRecipeServings() {
+        return model.getRecipeServings();
+    }
+
     @Override
     public ObservableList<Staff> getFilteredStaffList() {
         return model.getFilteredStaffList();
@@ -176,4 +250,9 @@ public class LogicManager implements Logic {
     public void setUpdateCapacityCallback(Consumer<Capacity> callback) {
         model.setUpdateCapacityCallback(callback);
     }
+
+    @Override
+    public void setSaveErrorCallback(Consumer<String> callback) {
+        storage.setSaveErrorHandler(ioe -> callback.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
 }
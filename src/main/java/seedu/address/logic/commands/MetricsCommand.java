@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands entered since the start of app launch took, by command word and phase.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+    public static final String COMMAND_ALIAS = "mt";
+    public static final String MESSAGE_SUCCESS = "Command latencies since the app started "
+            + "(percentiles are rounded up to a power of two microseconds):\n%1$s";
+    public static final String MESSAGE_NO_METRICS = "No commands have been timed yet.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+
+        if (commandMetrics.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_METRICS);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandMetrics.getReport()));
+    }
+
+}
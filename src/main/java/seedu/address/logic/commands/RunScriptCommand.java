@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RestaurantBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file as a single transaction: the restaurant book is committed, and so saved, once
+ * after the last command, and a single undo reverts the whole script. If any command fails, every change made by the
+ * script is reverted.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "runscript";
+    public static final String COMMAND_ALIAS = "rs";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, "
+            + "as a single command. Blank lines and lines starting with " + COMMENT_PREFIX
+            + " are skipped. If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " scripts/restock.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo commands from the script took effect.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script.";
+
+    private final Path scriptFile;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in {@code scriptFile}.
+     */
+    public RunScriptCommand(Path scriptFile) {
+        requireNonNull(scriptFile);
+        this.scriptFile = scriptFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptFile);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptFile, ioe), ioe);
+        }
+
+        // parse every command before running any, so that a script with a typo changes nothing
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        RestaurantBookParser parser = new RestaurantBookParser();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                commands.add(parseScriptCommand(parser, line));
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, pe.getMessage()), pe);
+            }
+            lineNumbers.add(i + 1);
+        }
+
+        model.startRestaurantBookTransaction();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(model, history);
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackRestaurantBookTransaction();
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i),
+                        e.getMessage()), e);
+            }
+        }
+        model.commitRestaurantBookTransaction();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptFile));
+    }
+
+    /**
+     * Parses {@code line} of the script into a command.
+     *
+     * @throws ParseException if the line is not a valid command, or is a command that cannot be used in a script.
+     */
+    private static Command parseScriptCommand(RestaurantBookParser parser, String line) throws ParseException {
+        Command command = parser.parseCommand(line);
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof RunScriptCommand) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, line.split("\\s+", 2)[0]));
+        }
+        return command;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && scriptFile.equals(((RunScriptCommand) other).scriptFile));
+    }
+}
@@ -6,7 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_PERSONS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -39,7 +41,8 @@ public class AddBookingCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New booking added: %1$s";
     public static final String MESSAGE_DUPLICATE = "Booking has already been made.";
-    public static final String MESSAGE_FULL = "Restaurant is full. Suggested alternative time: %1$s";
+    public static final String MESSAGE_FULL = "Restaurant is full. Suggested alternative times: %1$s";
+    public static final int NUMBER_OF_SUGGESTIONS = 3;
 
     public static final String MESSAGE_TOO_MANY_PERSONS = "The restaurant is unable to support a "
             + "booking of %1$s persons as the current capacity is only %2$s.";
@@ -67,8 +70,10 @@ public class AddBookingCommand extends Command {
                 throw new CommandException(MESSAGE_DUPLICATE);
             }
             if (!model.canAccommodate(toAdd)) {
-                LocalDateTime suggestedTime = model.suggestNextAvailableTime(toAdd);
-                throw new CommandException(String.format(MESSAGE_FULL, suggestedTime));
+                List<LocalDateTime> suggestedTimes = model.suggestAvailableTimes(toAdd, NUMBER_OF_SUGGESTIONS);
+                String suggestions = suggestedTimes.stream().map(LocalDateTime::toString)
+                        .collect(Collectors.joining(", "));
+                throw new CommandException(String.format(MESSAGE_FULL, suggestions));
             }
 
             model.addBooking(toAdd);
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDateTime;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+
+/**
+ * Lists all bookings in restaurant book that start within a range of time.
+ */
+public class ListBookingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "listbookings";
+    public static final String COMMAND_ALIAS = "lb";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all bookings starting from the start time "
+            + "to the end time inclusive.\n"
+            + "Times are given as yyyy-MM-ddTHH:mm, or as yyyy-MM-dd for the whole day. "
+            + "If a time is not specified, the range is not bounded on that side.\n"
+            + "Parameters: [" + PREFIX_START_TIME + "START_TIME] [" + PREFIX_END_TIME + "END_TIME]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_START_TIME + "2019-03-12 " + PREFIX_END_TIME
+            + "2019-03-13T14:00";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ListBookingsCommand to list the bookings starting from {@code from} to {@code to} inclusive.
+     */
+    public ListBookingsCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateFilteredBookingList(from, to);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_BOOKINGS_LISTED_OVERVIEW, model.getFilteredBookingList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListBookingsCommand // instanceof handles nulls
+                && from.equals(((ListBookingsCommand) other).from)
+                && to.equals(((ListBookingsCommand) other).to)); // state check
+    }
+}
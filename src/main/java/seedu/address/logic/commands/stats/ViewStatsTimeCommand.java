@@ -34,8 +34,7 @@ public class ViewStatsTimeCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        new StatsWindow(new Statistics(model.getRestaurantBook().getBookingList(), days)
-                .generateGraphDataTime(), X_AXIS_NAME).show();
+        new StatsWindow(model.getStatistics(days).generateGraphDataTime(), X_AXIS_NAME).show();
         return new CommandResult(MESSAGE_SHOWING_STATS);
     }
 
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -35,6 +37,8 @@ import seedu.address.model.recipe.RecipeName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE_TIME = "Please follow the time format of yyyy-MM-ddTHH:mm "
+            + "(e.g. 2019-03-12T12:00) or yyyy-MM-dd (e.g. 2019-03-12)";
     public static final String MESSAGE_INVALID_QUANTITY_IN_RECIPE =
             "Ingredient quantity in recipe should be a non-zero unsigned integer, between 1 and "
             + Integer.toString(Integer.MAX_VALUE)
@@ -259,6 +263,27 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String dateTime} in the yyyy-MM-ddTHH:mm format into a {@code LocalDateTime}.
+     * A date alone in the yyyy-MM-dd format is taken at {@code timeIfDateOnly}.
+     *
+     * @throws ParseException if the given {@code dateTime} is in neither format.
+     */
+    public static LocalDateTime parseDateTime(String dateTime, LocalTime timeIfDateOnly) throws ParseException {
+        requireNonNull(dateTime);
+        String trimmedDateTime = dateTime.trim();
+        try {
+            return LocalDateTime.parse(trimmedDateTime);
+        } catch (DateTimeParseException e) {
+            // not a date and time, so try a date alone
+        }
+        try {
+            return LocalDate.parse(trimmedDateTime).atTime(timeIfDateOnly);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE_TIME);
+        }
+    }
+
     /**
      * Parses a {@code String bookingSize} into a {@code BookingSize}.
      */
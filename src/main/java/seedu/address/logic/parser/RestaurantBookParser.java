@@ -11,11 +11,14 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.MetricsCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.booking.AddBookingCommand;
 import seedu.address.logic.commands.booking.DeleteBookingCommand;
 import seedu.address.logic.commands.booking.EditBookingCommand;
+import seedu.address.logic.commands.booking.ListBookingsCommand;
 import seedu.address.logic.commands.booking.UpdateCapacityCommand;
 import seedu.address.logic.commands.ingredient.AddIngredientCommand;
 import seedu.address.logic.commands.ingredient.ConsumeIngredientCommand;
@@ -39,6 +42,7 @@ import seedu.address.logic.commands.stats.ViewStatsTimeCommand;
 import seedu.address.logic.parser.booking.AddBookingCommandParser;
 import seedu.address.logic.parser.booking.DeleteBookingCommandParser;
 import seedu.address.logic.parser.booking.EditBookingCommandParser;
+import seedu.address.logic.parser.booking.ListBookingsCommandParser;
 import seedu.address.logic.parser.booking.UpdateCapacityCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.ingredient.AddIngredientCommandParser;
@@ -161,6 +165,10 @@ public class RestaurantBookParser {
         case ListMembersCommand.COMMAND_ALIAS:
             return new ListMembersCommandParser().parse(arguments);
 
+        case ListBookingsCommand.COMMAND_WORD:
+        case ListBookingsCommand.COMMAND_ALIAS:
+            return new ListBookingsCommandParser().parse(arguments);
+
         case ListStaffCommand.COMMAND_WORD:
         case ListStaffCommand.COMMAND_ALIAS:
             return new ListStaffCommandParser().parse(arguments);
@@ -169,6 +177,10 @@ public class RestaurantBookParser {
         case HistoryCommand.COMMAND_ALIAS:
             return new HistoryCommand();
 
+        case MetricsCommand.COMMAND_WORD:
+        case MetricsCommand.COMMAND_ALIAS:
+            return new MetricsCommand();
+
         case ExitCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_ALIAS:
             return new ExitCommand();
@@ -185,6 +197,10 @@ public class RestaurantBookParser {
         case RedoCommand.COMMAND_ALIAS:
             return new RedoCommand();
 
+        case RunScriptCommand.COMMAND_WORD:
+        case RunScriptCommand.COMMAND_ALIAS:
+            return new RunScriptCommandParser().parse(arguments);
+
         case RestockIngredientCommand.COMMAND_WORD:
         case RestockIngredientCommand.COMMAND_ALIAS:
             return new RestockIngredientCommandParser().parse(arguments);
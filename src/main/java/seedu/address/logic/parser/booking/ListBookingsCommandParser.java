@@ -0,0 +1,52 @@
+package seedu.address.logic.parser.booking;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import seedu.address.logic.commands.booking.ListBookingsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListBookingsCommand object.
+ */
+public class ListBookingsCommandParser implements Parser<ListBookingsCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start time must not be after the end time.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListBookingsCommand
+     * and returns a ListBookingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ListBookingsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START_TIME, PREFIX_END_TIME);
+
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListBookingsCommand.MESSAGE_USAGE));
+        }
+
+        // a date alone covers the whole day
+        LocalDateTime from = LocalDateTime.MIN;
+        if (argMultimap.getValue(PREFIX_START_TIME).isPresent()) {
+            from = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_TIME).get(), LocalTime.MIN);
+        }
+        LocalDateTime to = LocalDateTime.MAX;
+        if (argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            to = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_TIME).get(), LocalTime.MAX);
+        }
+
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ListBookingsCommand(from, to);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -61,10 +62,18 @@ public interface BookingModel {
 
     /**
      * Updates the filter of the filtered booking list to filter by the given {@code predicate}.
+     * Any range of time set by {@link #updateFilteredBookingList(LocalDateTime, LocalDateTime)} is cleared.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredBookingList(Predicate<Booking> predicate);
 
+    /**
+     * Updates the filtered booking list to show only the bookings starting from {@code from} to {@code to}
+     * inclusive. The bookings are looked up by start time, without testing every booking.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    void updateFilteredBookingList(LocalDateTime from, LocalDateTime to);
+
     /**
      * Selected booking in the filtered booking list.
      * null if no booking is selected.
@@ -106,8 +115,21 @@ public interface BookingModel {
      */
     LocalDateTime suggestNextAvailableTime(Booking toAdd);
 
+    /**
+     * Suggests up to {@code limit} possible times to accommodate the booking, earliest first.
+     * Like {@code suggestNextAvailableTime}, suggestions always shift the booking later and never earlier.
+     */
+    List<LocalDateTime> suggestAvailableTimes(Booking toAdd, int limit);
+
     /**
      * Counts the number of bookings associated with {@code member}.
      */
     int countBookings(Member member);
+
+    /**
+     * Returns the statistics of the bookings in the last {@code days} days.
+     *
+     * @throws IllegalArgumentException if {@code days} is not between 1 and {@code Statistics#getMaxDays()}.
+     */
+    Statistics getStatistics(int days);
 }
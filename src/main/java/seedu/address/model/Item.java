@@ -9,4 +9,11 @@ public interface Item {
      * This defines a weaker notion of equality between two items.
      */
     boolean isSameItem(Object other);
+
+    /**
+     * Returns a hashable key for the identity of this item.
+     * Items that are the same item (see {@link #isSameItem(Object)}) must have equal identity keys,
+     * although items with equal identity keys need not be the same item.
+     */
+    Object getIdentityKey();
 }
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+
+/**
+ * History that keeps a journal of the changes made by each commit instead of whole states.
+ * Undoing a commit applies the inverse of its changes, and redoing it applies its changes again, so both take time
+ * proportional to the size of the changes rather than the size of the restaurant book.
+ * The items held are the items recorded in the changes.
+ */
+class JournalHistory extends RestaurantBookHistory {
+
+    private final List<ChangeSet> committedChanges = new ArrayList<>();
+    /** Number of entries in {@code committedChanges} that are currently applied. */
+    private int currentStatePointer;
+    /** Changes made since the last commit. */
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+    private long retainedItemCount;
+    private boolean isReplaying;
+
+    JournalHistory(RestaurantBook restaurantBook, int historyDepth, int historyItemLimit) {
+        super(restaurantBook, historyDepth, historyItemLimit);
+        restaurantBook.addChangeRecorder(this::record);
+    }
+
+    private void record(Change change) {
+        if (!isReplaying) {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    @Override
+    void commit() {
+        List<ChangeSet> undoneChanges = committedChanges.subList(currentStatePointer, committedChanges.size());
+        undoneChanges.forEach(changeSet -> retainedItemCount -= changeSet.getItemCount());
+        undoneChanges.clear();
+
+        ChangeSet changeSet = new ChangeSet(uncommittedChanges);
+        uncommittedChanges.clear();
+        committedChanges.add(changeSet);
+        retainedItemCount += changeSet.getItemCount();
+        currentStatePointer++;
+        discardOldestStates();
+    }
+
+    @Override
+    void undo() {
+        revertUncommittedChanges();
+        currentStatePointer--;
+        replay(committedChanges.get(currentStatePointer).inverse());
+    }
+
+    @Override
+    void redo() {
+        revertUncommittedChanges();
+        replay(committedChanges.get(currentStatePointer));
+        currentStatePointer++;
+    }
+
+    @Override
+    int getUndoableCount() {
+        return currentStatePointer;
+    }
+
+    @Override
+    int getRedoableCount() {
+        return committedChanges.size() - currentStatePointer;
+    }
+
+    @Override
+    long getRetainedItemCount() {
+        return retainedItemCount;
+    }
+
+    @Override
+    protected void discardOldestState() {
+        retainedItemCount -= committedChanges.remove(0).getItemCount();
+        currentStatePointer--;
+    }
+
+    /**
+     * Reverts the changes made since the last commit, so that the restaurant book is back at its current state.
+     */
+    private void revertUncommittedChanges() {
+        if (!uncommittedChanges.isEmpty()) {
+            replay(new ChangeSet(uncommittedChanges).inverse());
+            uncommittedChanges.clear();
+        }
+    }
+
+    /**
+     * Applies {@code change} to the restaurant book without recording it as an uncommitted change.
+     */
+    private void replay(Change change) {
+        isReplaying = true;
+        try {
+            restaurantBook.applyChange(change);
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JournalHistory // instanceof handles nulls
+                && committedChanges.equals(((JournalHistory) other).committedChanges)
+                && currentStatePointer == ((JournalHistory) other).currentStatePointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return committedChanges.hashCode();
+    }
+}
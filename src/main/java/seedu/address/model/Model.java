@@ -4,7 +4,9 @@ import java.nio.file.Path;
 import java.util.function.Consumer;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.journal.Change;
 
 /**
  * The API of the Model component.
@@ -73,5 +75,38 @@ public interface Model extends MemberModel, BookingModel, IngredientModel, Recip
      */
     void commitRestaurantBook();
 
+    /**
+     * Starts a transaction on the restaurant book, within which the commits are deferred to a single commit when the
+     * transaction is committed.
+     */
+    void startRestaurantBookTransaction();
+
+    /**
+     * Ends the transaction on the restaurant book, saving the restaurant book state for undo/redo once if it was
+     * committed within the transaction.
+     */
+    void commitRestaurantBookTransaction();
+
+    /**
+     * Ends the transaction on the restaurant book, reverting every change made within it.
+     */
+    void rollbackRestaurantBookTransaction();
+
+    /**
+     * Opens a scope within which the listeners of the restaurant book are notified once, when the scope is closed,
+     * however many modifications are made within it.
+     */
+    RestaurantBook.NotificationScope openRestaurantBookNotificationScope();
+
+    /**
+     * Returns the latencies and failures of the commands executed on this model.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Adds a recorder that will receive every change made to the restaurant book from now on.
+     */
+    void addRestaurantBookChangeRecorder(Consumer<? super Change> changeRecorder);
+
     void setUpdateCapacityCallback(Consumer<Capacity> callback);
 }
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -18,9 +20,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingTimeRangeList;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.journal.Change;
 import seedu.address.model.person.exceptions.ItemNotFoundException;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
@@ -37,6 +42,7 @@ public class ModelManager implements Model {
     private final FilteredList<Member> filteredMembers;
     private final SimpleObjectProperty<Member> selectedMember = new SimpleObjectProperty<>();
 
+    private final BookingTimeRangeList bookingsInTimeRange;
     private final FilteredList<Booking> filteredBookings;
     private final SimpleObjectProperty<Booking> selectedBooking = new SimpleObjectProperty<>();
 
@@ -45,10 +51,13 @@ public class ModelManager implements Model {
 
     private final FilteredList<Recipe> filteredRecipes;
     private final SimpleObjectProperty<Recipe> selectedRecipe = new SimpleObjectProperty<>();
+    private final RecipeServings recipeServings;
 
     private final FilteredList<Staff> filteredStaff;
     private final SimpleObjectProperty<Staff> selectedStaff = new SimpleObjectProperty<>();
 
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
     /**
      * Initializes a ModelManager with the given restaurantBook and userPrefs.
      */
@@ -58,16 +67,19 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with restaurant book: " + restaurantBook + " and user prefs " + userPrefs);
 
-        versionedRestaurantBook = new VersionedRestaurantBook(restaurantBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedRestaurantBook = new VersionedRestaurantBook(restaurantBook, this.userPrefs.getUndoHistoryMode(),
+                this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryItemLimit());
         filteredMembers = new FilteredList<>(versionedRestaurantBook.getMemberList());
         filteredMembers.addListener(this::ensureSelectedMemberIsValid);
 
-        filteredBookings = new FilteredList<>(versionedRestaurantBook.getBookingList());
+        bookingsInTimeRange = new BookingTimeRangeList(versionedRestaurantBook.getBookingList());
+        filteredBookings = new FilteredList<>(bookingsInTimeRange);
 
         filteredIngredients = new FilteredList<>(versionedRestaurantBook.getIngredientList());
 
         filteredRecipes = new FilteredList<>(versionedRestaurantBook.getRecipeList());
+        recipeServings = new RecipeServings(versionedRestaurantBook);
 
         filteredStaff = new FilteredList<>(versionedRestaurantBook.getStaffList());
     }
@@ -82,6 +94,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedRestaurantBook.setHistoryLimits(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryItemLimit());
     }
 
     @Override
@@ -182,6 +195,22 @@ public class ModelManager implements Model {
         return versionedRestaurantBook.getRecipesAssociated(ingredient);
     }
 
+    @Override
+    public int getNumberOfServings(Recipe recipe) {
+        requireNonNull(recipe);
+        return recipeServings.getNumberOfServings(recipe);
+    }
+
+    @Override
+    public RecipeServings getRecipeServings() {
+        return recipeServings;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
 
 
     @Override
@@ -281,11 +310,22 @@ public class ModelManager implements Model {
         return versionedRestaurantBook.suggestNextAvailableTime(toAdd);
     }
 
+    @Override
+    public List<LocalDateTime> suggestAvailableTimes(Booking toAdd, int limit) {
+        return versionedRestaurantBook.suggestAvailableTimes(toAdd, limit);
+    }
+
     @Override
     public int countBookings(Member member) {
         return versionedRestaurantBook.countBookings(member);
     }
 
+    @Override
+    public Statistics getStatistics(int days) {
+        return new Statistics(versionedRestaurantBook.getCoverCounts(), versionedRestaurantBook.getArchivedCovers(),
+                days, LocalDate.now());
+    }
+
     //=========== Filtered Member List Accessors =============================================================
 
     /**
@@ -324,9 +364,16 @@ public class ModelManager implements Model {
 
     @Override
     public void updateFilteredBookingList(Predicate<Booking> predicate) {
+        bookingsInTimeRange.clearRange();
         filteredBookings.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredBookingList(LocalDateTime from, LocalDateTime to) {
+        bookingsInTimeRange.setRange(from, to);
+        filteredBookings.setPredicate(PREDICATE_SHOW_ALL_BOOKINGS);
+    }
+
     @Override
     public void updateFilteredIngredientList(Predicate<Ingredient> predicate) {
         filteredIngredients.setPredicate(predicate);
@@ -366,7 +413,36 @@ public class ModelManager implements Model {
 
     @Override
     public void commitRestaurantBook() {
+        long start = System.nanoTime();
         versionedRestaurantBook.commit();
+        commandMetrics.addCommitTime(System.nanoTime() - start);
+    }
+
+    @Override
+    public void startRestaurantBookTransaction() {
+        versionedRestaurantBook.startTransaction();
+    }
+
+    @Override
+    public void commitRestaurantBookTransaction() {
+        long start = System.nanoTime();
+        versionedRestaurantBook.commitTransaction();
+        commandMetrics.addCommitTime(System.nanoTime() - start);
+    }
+
+    @Override
+    public void rollbackRestaurantBookTransaction() {
+        versionedRestaurantBook.rollbackTransaction();
+    }
+
+    @Override
+    public RestaurantBook.NotificationScope openRestaurantBookNotificationScope() {
+        return versionedRestaurantBook.openNotificationScope();
+    }
+
+    @Override
+    public void addRestaurantBookChangeRecorder(Consumer<? super Change> changeRecorder) {
+        versionedRestaurantBook.addChangeRecorder(changeRecorder);
     }
 
     //=========== Selected member ===========================================================================
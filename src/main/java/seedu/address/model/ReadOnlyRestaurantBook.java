@@ -4,6 +4,7 @@ import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
 import seedu.address.model.ingredient.Ingredient;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
@@ -44,8 +45,23 @@ public interface ReadOnlyRestaurantBook extends Observable {
      */
     ObservableList<Staff> getStaffList();
 
+    /**
+     * Returns the number of members, bookings, ingredients, recipes and staff.
+     */
+    default int getItemCount() {
+        return getMemberList().size() + getBookingList().size() + getIngredientList().size()
+                + getRecipeList().size() + getStaffList().size();
+    }
+
     /**
      * Returns the capacity of the restaurant.
      */
     Capacity getCapacity();
+
+    /**
+     * Returns the number of persons booked on each day and hour by the bookings that have been archived, which are
+     * no longer in the {@code Booking} list.
+     * The returned counts must not be modified.
+     */
+    CoverCounts getArchivedCovers();
 }
@@ -13,4 +13,45 @@ public interface ReadOnlyUserPrefs {
 
     Path getRestaurantBookFilePath();
 
+    /**
+     * Returns true if changes to the restaurant book are saved to a journal next to the data file, instead of
+     * rewriting the data file after every change.
+     */
+    boolean isRestaurantBookJournalEnabled();
+
+    /**
+     * Returns true if the restaurant book data file is indented over multiple lines, instead of written on a single
+     * line.
+     */
+    boolean isRestaurantBookPrettyPrinted();
+
+    /**
+     * Returns how the undo history is kept.
+     */
+    VersionedRestaurantBook.HistoryMode getUndoHistoryMode();
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the maximum number of items that the undo history may hold before its oldest states are discarded.
+     */
+    int getUndoHistoryItemLimit();
+
+    /**
+     * Returns the number of days before today for which bookings are kept in the booking list, or 0 if bookings are
+     * never archived. Older bookings are archived when the app starts, keeping only their numbers of persons.
+     */
+    int getBookingRetentionDays();
+
+    /**
+     * Returns true if the command latencies shown by the {@code metrics} command are written to the metrics file when
+     * the app exits.
+     */
+    boolean isMetricsSavedOnExit();
+
+    Path getMetricsFilePath();
+
 }
@@ -63,4 +63,15 @@ public interface RecipeModel {
      * Gets the set of recipe names associated to the ingredient
      */
     Set<String> getRecipesAssociated(Ingredient ingredient);
+
+    /**
+     * Returns the number of servings of {@code recipe} that can be made with the ingredients in the restaurant book.
+     */
+    int getNumberOfServings(Recipe recipe);
+
+    /**
+     * Returns the number of servings of each recipe that can be made with the ingredients in the restaurant book,
+     * which is kept up to date as the restaurant book changes.
+     */
+    RecipeServings getRecipeServings();
 }
@@ -0,0 +1,200 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+import seedu.address.model.journal.ItemAdded;
+import seedu.address.model.journal.ItemListType;
+import seedu.address.model.journal.ItemRemoved;
+import seedu.address.model.journal.ItemReplaced;
+import seedu.address.model.journal.ListReplaced;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeName;
+
+/**
+ * Keeps the number of servings of each recipe in a {@code RestaurantBook} that can be made with its ingredients.
+ * The numbers are updated from the changes made to the restaurant book, and only the recipes using a changed
+ * ingredient are recalculated, so reading them is cheap.
+ * Listeners are notified whenever the restaurant book notifies its listeners after the number of servings of any
+ * recipe changed, so several changes within one of its notification scopes cause a single notification.
+ */
+public class RecipeServings implements Observable {
+
+    private final RestaurantBook restaurantBook;
+    private final Map<RecipeName, Integer> numberOfServings = new HashMap<>();
+    private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    /** Whether any servings changed since listeners were last notified. */
+    private boolean isNotificationPending;
+
+    /**
+     * Creates the servings of the recipes in {@code restaurantBook}, which are kept up to date from now on.
+     */
+    public RecipeServings(RestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        this.restaurantBook = restaurantBook;
+        recalculateAll();
+        restaurantBook.addChangeRecorder(this::update);
+        restaurantBook.addListener(observable -> notifyIfChanged());
+    }
+
+    /**
+     * Returns the number of servings of {@code recipe} that can be made with the ingredients in the restaurant book.
+     */
+    public int getNumberOfServings(Recipe recipe) {
+        requireNonNull(recipe);
+        Integer servings = numberOfServings.get(recipe.getRecipeName());
+        if (servings == null) {
+            // not in the restaurant book, so it is not kept up to date
+            return restaurantBook.getNumberOfServings(recipe);
+        }
+        return servings;
+    }
+
+    /**
+     * Returns the recipes of which at least one serving can still be made, in the order of the recipe list.
+     */
+    public List<Recipe> getServableRecipes() {
+        return restaurantBook.getRecipeList().stream()
+                .filter(recipe -> numberOfServings.getOrDefault(recipe.getRecipeName(), 0) > 0)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        invalidationListenerManager.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        invalidationListenerManager.removeListener(listener);
+    }
+
+    /**
+     * Updates the servings affected by {@code change}. Listeners are notified of the update with the next
+     * notification from the restaurant book.
+     */
+    private void update(Change change) {
+        isNotificationPending |= updateWithoutNotifying(change);
+    }
+
+    /**
+     * Notifies listeners if any servings changed since they were last notified.
+     */
+    private void notifyIfChanged() {
+        if (isNotificationPending) {
+            isNotificationPending = false;
+            invalidationListenerManager.callListeners(this);
+        }
+    }
+
+    /**
+     * Updates the servings affected by {@code change}, and returns true if any of them changed.
+     */
+    private boolean updateWithoutNotifying(Change change) {
+        if (change instanceof ChangeSet) {
+            boolean isChanged = false;
+            for (Change childChange : ((ChangeSet) change).getChanges()) {
+                isChanged |= updateWithoutNotifying(childChange);
+            }
+            return isChanged;
+        }
+
+        if (change instanceof ListReplaced) {
+            ItemListType listType = ((ListReplaced) change).getListType();
+            return (listType == ItemListType.INGREDIENTS || listType == ItemListType.RECIPES) && recalculateAll();
+        } else if (change instanceof ItemAdded) {
+            return updateItem(((ItemAdded) change).getListType(), null, ((ItemAdded) change).getItem());
+        } else if (change instanceof ItemRemoved) {
+            return updateItem(((ItemRemoved) change).getListType(), ((ItemRemoved) change).getItem(), null);
+        } else if (change instanceof ItemReplaced) {
+            ItemReplaced itemReplaced = (ItemReplaced) change;
+            return updateItem(itemReplaced.getListType(), itemReplaced.getOldItem(), itemReplaced.getNewItem());
+        }
+        return false;
+    }
+
+    /**
+     * Updates the servings after {@code oldItem} in the list {@code listType} is replaced with {@code newItem}.
+     * Either item is null if the item was only added or removed.
+     * Returns true if any of the servings changed.
+     */
+    private boolean updateItem(ItemListType listType, Object oldItem, Object newItem) {
+        switch (listType) {
+        case INGREDIENTS:
+            if (oldItem != null && newItem != null && isSameQuantity((Ingredient) oldItem, (Ingredient) newItem)) {
+                return false;
+            }
+            boolean isChanged = false;
+            if (oldItem != null) {
+                isChanged |= recalculateRecipesUsing((Ingredient) oldItem);
+            }
+            if (newItem != null) {
+                isChanged |= recalculateRecipesUsing((Ingredient) newItem);
+            }
+            return isChanged;
+        case RECIPES:
+            Integer oldServings = oldItem == null ? null : numberOfServings.remove(((Recipe) oldItem).getRecipeName());
+            if (newItem == null) {
+                return oldServings != null;
+            }
+            Recipe newRecipe = (Recipe) newItem;
+            int servings = restaurantBook.getNumberOfServings(newRecipe);
+            numberOfServings.put(newRecipe.getRecipeName(), servings);
+            // a recipe replaced under the same name only changes if its number of servings does
+            boolean isSameName = oldItem != null
+                    && ((Recipe) oldItem).getRecipeName().equals(newRecipe.getRecipeName());
+            return !isSameName || oldServings == null || oldServings != servings;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the ingredients have the same name and quantity, so the servings do not change.
+     */
+    private static boolean isSameQuantity(Ingredient oldIngredient, Ingredient newIngredient) {
+        return oldIngredient.getIngredientName().equals(newIngredient.getIngredientName())
+                && oldIngredient.getIngredientQuantity().equals(newIngredient.getIngredientQuantity());
+    }
+
+    /**
+     * Recalculates the servings of the recipes using {@code ingredient}, and returns true if any of them changed.
+     */
+    private boolean recalculateRecipesUsing(Ingredient ingredient) {
+        boolean isChanged = false;
+        for (Recipe recipe : restaurantBook.getRecipesUsing(ingredient.getIngredientName())) {
+            isChanged |= recalculate(recipe);
+        }
+        return isChanged;
+    }
+
+    /**
+     * Recalculates the servings of {@code recipe}, and returns true if they changed.
+     */
+    private boolean recalculate(Recipe recipe) {
+        int servings = restaurantBook.getNumberOfServings(recipe);
+        Integer oldServings = numberOfServings.put(recipe.getRecipeName(), servings);
+        return oldServings == null || oldServings != servings;
+    }
+
+    /**
+     * Recalculates the servings of every recipe, and returns true.
+     */
+    private boolean recalculateAll() {
+        numberOfServings.clear();
+        for (Recipe recipe : restaurantBook.getRecipeList()) {
+            numberOfServings.put(recipe.getRecipeName(), restaurantBook.getNumberOfServings(recipe));
+        }
+        return true;
+    }
+}
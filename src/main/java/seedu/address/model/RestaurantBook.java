@@ -1,16 +1,18 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
@@ -18,7 +20,21 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
+import seedu.address.model.booking.OccupancyTimeline;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
+import seedu.address.model.journal.ArchivedCoversChanged;
+import seedu.address.model.journal.CapacityChanged;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+import seedu.address.model.journal.ItemAdded;
+import seedu.address.model.journal.ItemListType;
+import seedu.address.model.journal.ItemRemoved;
+import seedu.address.model.journal.ItemReplaced;
+import seedu.address.model.journal.ListReplaced;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.ItemNotFoundException;
 import seedu.address.model.person.exceptions.RestaurantOverbookedException;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
@@ -36,9 +52,27 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     private final UniqueItemList<Recipe> recipes;
     private final UniqueItemList<Staff> staff;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    /** Occupancy of the restaurant over time, kept in step with {@code bookings}. */
+    private final OccupancyTimeline occupancyTimeline = new OccupancyTimeline();
+    /** Persons booked on each day and hour, kept in step with {@code bookings}. */
+    private final CoverCounts coverCounts = new CoverCounts();
+    /** Bookings of each member, kept in step with {@code bookings}. */
+    private final ReverseIndex<Member, Booking> bookingsByMember =
+            new ReverseIndex<>(booking -> Collections.singletonList(booking.getCustomer()));
+    /** Recipes using each ingredient, by the name of the ingredient, kept in step with {@code recipes}. */
+    private final ReverseIndex<IngredientName, Recipe> recipesByIngredient =
+            new ReverseIndex<>(recipe -> recipe.getRecipeIngredientSet().getIngredientNames());
 
     private Capacity capacity = Capacity.getDefaultCapacity();
+    /** Persons booked by archived bookings. Replaced instead of modified, so it can be shared with snapshots. */
+    private CoverCounts archivedCovers = new CoverCounts();
     private Consumer<Capacity> callback;
+    /** Receive every change made to this restaurant book. */
+    private final List<Consumer<? super Change>> changeRecorders = new ArrayList<>();
+    /** Number of notification scopes that are open. Listeners are not notified while any of them is open. */
+    private int openNotificationScopes;
+    /** Whether this restaurant book was modified while a notification scope was open. */
+    private boolean isNotificationDeferred;
 
      /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -72,25 +106,41 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code members} must not contain duplicate members.
      */
     public void setMembers(List<Member> members) {
-        this.members.setItems(members);
+        replaceList(ItemListType.MEMBERS, this.members, members);
         indicateModified();
     }
 
     /**
-     * Replaces the contents of the booking list with {@code bookings}.
+     * Replaces the contents of the booking list with {@code bookings}, sorted by time.
      * {@code bookings} must not contain duplicate bookings.
      */
     public void setBookings(List<Booking> bookings) {
-        this.bookings.setItems(bookings);
+        replaceList(ItemListType.BOOKINGS, this.bookings, sortByTime(bookings));
         indicateModified();
     }
 
+    /**
+     * Returns {@code bookings} if it is already sorted by time, or else a copy of it sorted by time. The booking list
+     * must be kept in this order, as bookings are looked up in it by binary search.
+     * The sort is stable, so bookings at the same time keep their order.
+     */
+    private static List<Booking> sortByTime(List<Booking> bookings) {
+        for (int i = 1; i < bookings.size(); i++) {
+            if (bookings.get(i - 1).compareTo(bookings.get(i)) > 0) {
+                List<Booking> sortedBookings = new ArrayList<>(bookings);
+                sortedBookings.sort(Comparator.naturalOrder());
+                return sortedBookings;
+            }
+        }
+        return bookings;
+    }
+
     /**
      * Replaces the contents of the booking list with {@code ingredients}.
      * {@code ingredients} must not contain duplicate ingredients.
      */
     public void setIngredients(List<Ingredient> ingredients) {
-        this.ingredients.setItems(ingredients);
+        replaceList(ItemListType.INGREDIENTS, this.ingredients, ingredients);
         indicateModified();
     }
 
@@ -100,7 +150,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code recipes} must not contain duplicate recipes.
      */
     public void setRecipes(List<Recipe> recipes) {
-        this.recipes.setItems(recipes);
+        replaceList(ItemListType.RECIPES, this.recipes, recipes);
         indicateModified();
     }
 
@@ -111,7 +161,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     // Temporary rename to not make it look like overloaded method with setStaff(Staff target, Staff editedStaff)
     // TODO: find a better name
     public void setStaffList(List<Staff> staff) {
-        this.staff.setItems(staff);
+        replaceList(ItemListType.STAFF, this.staff, staff);
         indicateModified();
     }
 
@@ -120,12 +170,107 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      */
     public void resetData(ReadOnlyRestaurantBook newData) {
         requireNonNull(newData);
-        setMembers(newData.getMemberList());
-        setBookings(newData.getBookingList());
-        setIngredients(newData.getIngredientList());
-        setRecipes(newData.getRecipeList());
-        setStaffList(newData.getStaffList());
-        capacity = newData.getCapacity();
+        NotificationScope notificationScope = openNotificationScope();
+        try {
+            setMembers(newData.getMemberList());
+            setBookings(newData.getBookingList());
+            setIngredients(newData.getIngredientList());
+            setRecipes(newData.getRecipeList());
+            setStaffList(newData.getStaffList());
+            changeCapacity(newData.getCapacity());
+            changeArchivedCovers(newData.getArchivedCovers());
+        } finally {
+            notificationScope.close();
+        }
+    }
+
+    /**
+     * Replaces all the data of this {@code RestaurantBook} in one step, such as when loading it from a file.
+     * Unlike adding the items one at a time, duplicates are found by hashing, the bookings are sorted once and
+     * checked against {@code capacity} in a single sweep, and listeners are notified once.
+     *
+     * @throws RestaurantOverbookedException if {@code bookings} exceed {@code capacity}.
+     * @throws DuplicateItemException if any of the lists contain duplicate items.
+     *         Invalid data is found before anything is replaced, so this {@code RestaurantBook} is left unchanged.
+     */
+    public void loadData(List<Member> members, List<Booking> bookings, List<Ingredient> ingredients,
+            List<Recipe> recipes, List<Staff> staff, Capacity capacity) {
+        requireAllNonNull(members, bookings, ingredients, recipes, staff, capacity);
+        // every list is checked before any is replaced, so that this RestaurantBook is left unchanged on failure
+        UniqueItemList.requireUnique(members);
+        UniqueItemList.requireUnique(bookings);
+        UniqueItemList.requireUnique(ingredients);
+        UniqueItemList.requireUnique(recipes);
+        UniqueItemList.requireUnique(staff);
+        List<Booking> sortedBookings = sortByTime(bookings);
+        if (!capacity.canAccommodate(new OccupancyTimeline(sortedBookings))) {
+            throw new RestaurantOverbookedException();
+        }
+
+        replaceList(ItemListType.BOOKINGS, this.bookings, sortedBookings);
+        replaceList(ItemListType.MEMBERS, this.members, members);
+        replaceList(ItemListType.INGREDIENTS, this.ingredients, ingredients);
+        replaceList(ItemListType.RECIPES, this.recipes, recipes);
+        replaceList(ItemListType.STAFF, this.staff, staff);
+        changeCapacity(capacity);
+        if (callback != null) {
+            callback.accept(capacity);
+        }
+        indicateModified();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current data.
+     * Lists that have not been modified since the previous snapshot are shared with it instead of being copied.
+     */
+    public RestaurantBookSnapshot getSnapshot() {
+        return new RestaurantBookSnapshot(members.getSnapshot(), bookings.getSnapshot(), ingredients.getSnapshot(),
+                recipes.getSnapshot(), staff.getSnapshot(), capacity, archivedCovers);
+    }
+
+    /**
+     * Restores the data of this {@code RestaurantBook} to {@code snapshot}, which must have been taken from this
+     * {@code RestaurantBook}. Only the lists that differ from {@code snapshot} are replaced.
+     */
+    public void restoreSnapshot(RestaurantBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        boolean isModified = restoreList(ItemListType.MEMBERS, members, snapshot.getMemberList());
+        isModified |= restoreList(ItemListType.BOOKINGS, bookings, snapshot.getBookingList());
+        isModified |= restoreList(ItemListType.INGREDIENTS, ingredients, snapshot.getIngredientList());
+        isModified |= restoreList(ItemListType.RECIPES, recipes, snapshot.getRecipeList());
+        isModified |= restoreList(ItemListType.STAFF, staff, snapshot.getStaffList());
+        changeCapacity(snapshot.getCapacity());
+        isModified |= changeArchivedCovers(snapshot.getArchivedCovers());
+        if (isModified) {
+            indicateModified();
+        }
+    }
+
+    /**
+     * Applies {@code change} to this {@code RestaurantBook}.
+     * {@code change} must have been recorded from a {@code RestaurantBook} with the same data as this one, such as
+     * when redoing a change, or must be the inverse of the most recent changes made to this one, such as when undoing.
+     * The change is recorded like any other change.
+     */
+    public void applyChange(Change change) {
+        requireNonNull(change);
+        applyChangeWithoutNotifying(change);
+        indicateModified();
+    }
+
+    /**
+     * Adds a recorder that will receive every change made to this {@code RestaurantBook} from now on.
+     */
+    public void addChangeRecorder(Consumer<? super Change> changeRecorder) {
+        requireNonNull(changeRecorder);
+        changeRecorders.add(changeRecorder);
+    }
+
+    /**
+     * Removes a recorder added through {@code addChangeRecorder}.
+     */
+    public void removeChangeRecorder(Consumer<? super Change> changeRecorder) {
+        changeRecorders.remove(changeRecorder);
     }
 
     //// item-level operations
@@ -150,12 +295,8 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * Returns true if {@code booking} can be added to the restaurant without exceeding capacity.
      */
     public boolean canAccommodate(Booking booking) {
-        List<Booking> newList = new ArrayList<>();
-        for (Booking b : bookings) {
-            newList.add(b);
-        } // copy all the bookings over as booking list is immutable
-        newList.add(booking);
-        return getCapacity().canAccommodate(newList);
+        requireNonNull(booking);
+        return getCapacity().canAddBooking(booking, occupancyTimeline);
     }
 
     /**
@@ -187,7 +328,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The member must not already exist in the restaurant book.
      */
     public void addMember(Member member) {
-        members.add(member);
+        appendItem(ItemListType.MEMBERS, members, member);
         indicateModified();
     }
 
@@ -197,11 +338,10 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The addition of this booking must not allow restaurant to exceed capacity.
      */
     public void addBooking(Booking booking) {
-        bookings.add(booking);
-        if (!getCapacity().canAccommodate(bookings.asUnmodifiableObservableList())) {
+        if (!canAccommodate(booking)) {
             throw new RestaurantOverbookedException();
         }
-        bookings.sort(Comparator.naturalOrder());
+        insertItem(ItemListType.BOOKINGS, bookings, findBookingInsertionIndex(booking), booking);
         indicateModified();
     }
 
@@ -210,7 +350,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The ingredient must not already exist in the restaurant book.
      */
     public void addIngredient(Ingredient ingredient) {
-        ingredients.add(ingredient);
+        appendItem(ItemListType.INGREDIENTS, ingredients, ingredient);
         indicateModified();
     }
 
@@ -219,7 +359,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The recipe must not already exist in the restaurant book.
      */
     public void addRecipe(Recipe recipe) {
-        recipes.add(recipe);
+        appendItem(ItemListType.RECIPES, recipes, recipe);
         indicateModified();
     }
 
@@ -228,7 +368,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * The staff must not already exist in the restaurant book.
      */
     public void addStaff(Staff s) { // 1 letter name used to avoid variable name conflict
-        staff.add(s);
+        appendItem(ItemListType.STAFF, staff, s);
         indicateModified();
     }
 
@@ -239,11 +379,12 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing member in the restaurant book.
      */
     public void setMember(Member target, Member editedMember) {
-        members.setItem(target, editedMember);
-        ObservableList<Booking> bookingObservableList = bookings.asUnmodifiableObservableList();
-        Function<Booking, Booking>
-                updateBooking = b -> (b.getCustomer().equals(target) ? b.editContacts(editedMember) : b);
-        setBookings(bookingObservableList.stream().map(updateBooking).collect(Collectors.toList()));
+        replaceItem(ItemListType.MEMBERS, members, target, editedMember);
+        // only the bookings of the member are updated, and they keep their places as their times are unchanged
+        for (Booking booking : bookingsByMember.get(target)) {
+            Booking editedBooking = booking.editContacts(editedMember);
+            replaceItemAt(ItemListType.BOOKINGS, bookings, indexOfBooking(booking), editedBooking);
+        }
         indicateModified();
     }
 
@@ -254,11 +395,15 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing booking in the restaurant book.
      */
     public void setBooking(Booking target, Booking editedBooking) {
-        bookings.setItem(target, editedBooking);
-        if (!capacity.canAccommodate(bookings.asUnmodifiableObservableList())) {
+        if (!canAccommodateEdit(target, editedBooking)) {
             throw new RestaurantOverbookedException();
         }
-        bookings.sort(Comparator.naturalOrder());
+        int index = indexOfBooking(target);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        replaceItemAt(ItemListType.BOOKINGS, bookings, index, editedBooking);
+        keepBookingsSorted(index);
         indicateModified();
     }
 
@@ -266,29 +411,34 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * Determines if editing the booking will cause the restaurant to be overbooked
      */
     public boolean canAccommodateEdit(Booking target, Booking editedBooking) {
-        // newList simulates what happens when the target is replaced
-        List<Booking> newList = new ArrayList<>();
-        for (Booking b : bookings) {
-            if (!b.equals(target)) {
-                newList.add(b);
-            } else {
-                newList.add(editedBooking);
-            }
+        requireNonNull(editedBooking);
+        // temporarily take the target out of the timeline to simulate what happens when it is replaced
+        boolean isTargetBooked = target != null && indexOfBooking(target) != -1;
+        if (isTargetBooked) {
+            occupancyTimeline.remove(target);
+        }
+        boolean canAccommodate = getCapacity().canAddBooking(editedBooking, occupancyTimeline);
+        if (isTargetBooked) {
+            occupancyTimeline.add(target);
         }
-        return getCapacity().canAccommodate(newList);
+        return canAccommodate;
     }
 
     /**
      * Replaces the given ingredient {@code target} in the list with {@code editedIngredient}.
      * {@code target} must exist in the restaurant book.
-     * Recipes that include the ingredient must also be updated with the change in the ingredient.
+     * Recipes refer to ingredients by name, so they are only updated if the ingredient is renamed.
      */
     public void setIngredient(Ingredient target, Ingredient editedIngredient) {
-        ingredients.setItem(target, editedIngredient);
-        ObservableList<Recipe> recipeObservableList = recipes.asUnmodifiableObservableList();
-        Function<Recipe, Recipe>
-                updateRecipe = r -> (r.containsIngredient(target) ? r.editIngredientSet(target, editedIngredient) : r);
-        setRecipes(recipeObservableList.stream().map(updateRecipe).collect(Collectors.toList()));
+        replaceItem(ItemListType.INGREDIENTS, ingredients, target, editedIngredient);
+        if (!target.getIngredientName().equals(editedIngredient.getIngredientName())
+                || !target.getIngredientUnit().equals(editedIngredient.getIngredientUnit())) {
+            List<Recipe> recipeList = recipes.asUnmodifiableObservableList();
+            for (int index : indicesOfRecipes(recipesByIngredient.get(target.getIngredientName()))) {
+                replaceItemAt(ItemListType.RECIPES, recipes, index,
+                        recipeList.get(index).editIngredientSet(target, editedIngredient));
+            }
+        }
         indicateModified();
     }
 
@@ -299,7 +449,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing recipe in the restaurant book.
      */
     public void setRecipe(Recipe target, Recipe editedRecipe) {
-        recipes.setItem(target, editedRecipe);
+        replaceItem(ItemListType.RECIPES, recipes, target, editedRecipe);
         indicateModified();
     }
 
@@ -310,7 +460,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * same as another existing member in the restaurant book.
      */
     public void setStaff(Staff target, Staff editedStaff) {
-        staff.setItem(target, editedStaff);
+        replaceItem(ItemListType.STAFF, staff, target, editedStaff);
         indicateModified();
     }
 
@@ -320,11 +470,11 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code key} must exist in the restaurant book.
      */
     public void removeMember(Member key) {
-        members.remove(key);
+        removeItem(ItemListType.MEMBERS, members, key);
         // When a member is deleted, all associated bookings are also deleted.
-        Predicate<Booking> isValidBooking = b -> !b.getCustomer().equals(key);
-        ObservableList<Booking> bookingObservableList = bookings.asUnmodifiableObservableList();
-        setBookings(bookingObservableList.stream().filter(isValidBooking).collect(Collectors.toList()));
+        for (Booking booking : bookingsByMember.get(key)) {
+            removeItemAt(ItemListType.BOOKINGS, bookings, indexOfBooking(booking));
+        }
         indicateModified();
     }
 
@@ -333,7 +483,11 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code key} must exist in the restaurant book.
      */
     public void removeBooking(Booking key) {
-        bookings.remove(key);
+        int index = indexOfBooking(key);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        removeItemAt(ItemListType.BOOKINGS, bookings, index);
         indicateModified();
     }
 
@@ -343,27 +497,66 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * Recipes that include this ingredient must also be removed.
      */
     public void removeIngredient(Ingredient key) {
-        ingredients.remove(key);
+        removeItem(ItemListType.INGREDIENTS, ingredients, key);
 
         // When an ingred is deleted, all associated recipes are also deleted.
-        Predicate<Recipe> isValidRecipe =
-            r -> r.getRecipeIngredientSet().getIngredientMap()
-                        .keySet().stream().noneMatch(ingred -> ingred.equals(key));
-        ObservableList<Recipe> recipeObservableList = recipes.asUnmodifiableObservableList();
-        setRecipes(recipeObservableList.stream().filter(isValidRecipe).collect(Collectors.toList()));
+        List<Integer> recipeIndices = indicesOfRecipes(recipesByIngredient.get(key.getIngredientName()));
+        // remove from the back so that the positions of the recipes not yet removed do not change
+        for (int i = recipeIndices.size() - 1; i >= 0; i--) {
+            removeItemAt(ItemListType.RECIPES, recipes, recipeIndices.get(i));
+        }
         indicateModified();
     }
 
+    /**
+     * Returns the positions of {@code recipesToFind} in the recipe list in ascending order, found in a single pass
+     * over the list. Every recipe in {@code recipesToFind} must be in the recipe list.
+     */
+    private List<Integer> indicesOfRecipes(List<Recipe> recipesToFind) {
+        if (recipesToFind.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Recipe> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+        remaining.addAll(recipesToFind);
+        List<Integer> indices = new ArrayList<>(recipesToFind.size());
+        List<Recipe> recipeList = recipes.asUnmodifiableObservableList();
+        for (int i = 0; i < recipeList.size() && !remaining.isEmpty(); i++) {
+            if (remaining.remove(recipeList.get(i))) {
+                indices.add(i);
+            }
+        }
+        assert remaining.isEmpty() : "Recipes in the reverse index must be in the recipe list";
+        return indices;
+    }
+
+    /**
+     * Returns the number of servings of {@code recipe} that can be made with the ingredients in this restaurant book.
+     */
+    public int getNumberOfServings(Recipe recipe) {
+        return recipe.getRecipeIngredientSet().calculateNumberOfServings(this::getQuantityInInventory);
+    }
+
+    /**
+     * Returns the recipes using the ingredient named {@code ingredientName}.
+     */
+    List<Recipe> getRecipesUsing(IngredientName ingredientName) {
+        return recipesByIngredient.get(ingredientName);
+    }
+
+    /**
+     * Returns the quantity of the ingredient named {@code ingredientName}, or 0 if there is no such ingredient.
+     */
+    private int getQuantityInInventory(IngredientName ingredientName) {
+        return ingredients.findByIdentityKey(ingredientName)
+                .map(ingredient -> ingredient.getIngredientQuantity().getQuantity()).orElse(0);
+    }
+
     /**
      * Gets the set of recipe names associated to the ingredient
      */
     public Set<String> getRecipesAssociated(Ingredient ingredient) {
-        Predicate<Recipe> hasGivenIngredient = (recipe -> recipe.getRecipeIngredientSet()
-                .getIngredientMap().containsKey(ingredient));
-        Set<String> recipesAssociatedSet =
-                recipes.asUnmodifiableObservableList().stream().filter(hasGivenIngredient)
-                        .map(recipe -> recipe.getRecipeName().getName()).collect(Collectors.toSet());
-        return recipesAssociatedSet;
+        return recipesByIngredient.get(ingredient.getIngredientName()).stream()
+                .map(recipe -> recipe.getRecipeName().getName()).collect(Collectors.toSet());
     }
 
     /**
@@ -371,7 +564,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code key} must exist in the restaurant book.
      */
     public void removeRecipe(Recipe key) {
-        recipes.remove(key);
+        removeItem(ItemListType.RECIPES, recipes, key);
         indicateModified();
     }
 
@@ -380,7 +573,7 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * {@code key} must exist in the restaurant book.
      */
     public void removeStaff(Staff key) {
-        staff.remove(key);
+        removeItem(ItemListType.STAFF, staff, key);
         indicateModified();
     }
 
@@ -390,11 +583,11 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
     }
 
     public void setCapacity(Capacity newCapacity) {
-        capacity = newCapacity;
+        changeCapacity(newCapacity);
         if (callback != null) {
             callback.accept(capacity);
         }
-        if (!newCapacity.canAccommodate(bookings.asUnmodifiableObservableList())) {
+        if (!newCapacity.canAccommodate(occupancyTimeline)) {
             throw new RestaurantOverbookedException();
         }
     }
@@ -403,8 +596,57 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * Counts the number of bookings associated with {@code member}
      */
     public int countBookings(Member member) {
-        Predicate<Booking> hasGivenMember = (bookingToCheck -> bookingToCheck.getCustomer().equals(member));
-        return (int) bookings.asUnmodifiableObservableList().stream().filter(hasGivenMember).count();
+        return bookingsByMember.count(member);
+    }
+
+    /**
+     * Returns the number of persons booked on each day and hour, which is kept up to date with the bookings.
+     */
+    CoverCounts getCoverCounts() {
+        return coverCounts;
+    }
+
+    @Override
+    public CoverCounts getArchivedCovers() {
+        return archivedCovers;
+    }
+
+    /**
+     * Replaces the persons booked by archived bookings with {@code archivedCovers}, such as when loading the
+     * restaurant book from a file. {@code archivedCovers} must not be modified afterwards.
+     */
+    public void setArchivedCovers(CoverCounts archivedCovers) {
+        requireNonNull(archivedCovers);
+        if (changeArchivedCovers(archivedCovers)) {
+            indicateModified();
+        }
+    }
+
+    /**
+     * Archives the bookings starting before {@code cutoff}: they are removed from the booking list, and only the
+     * persons they booked on each day and hour are kept in {@link #getArchivedCovers()}.
+     * Returns the number of bookings archived.
+     */
+    public int archiveBookingsBefore(LocalDate cutoff) {
+        requireNonNull(cutoff);
+        List<Booking> bookingList = bookings.asUnmodifiableObservableList();
+        // the bookings are sorted by start time, so the bookings to archive come first
+        int archivedCount = 0;
+        while (archivedCount < bookingList.size()
+                && bookingList.get(archivedCount).getStartTime().toLocalDate().isBefore(cutoff)) {
+            archivedCount++;
+        }
+        if (archivedCount == 0) {
+            return 0;
+        }
+
+        CoverCounts newArchivedCovers = new CoverCounts(archivedCovers);
+        bookingList.subList(0, archivedCount).forEach(newArchivedCovers::add);
+        replaceList(ItemListType.BOOKINGS, bookings, new ArrayList<>(bookingList.subList(archivedCount,
+                bookingList.size())));
+        changeArchivedCovers(newArchivedCovers);
+        indicateModified();
+        return archivedCount;
     }
 
     /**
@@ -415,11 +657,19 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
      * later and never earlier.
      */
     public LocalDateTime suggestNextAvailableTime(Booking toAdd) {
-        return capacity.suggestNextAvailableTime(toAdd, bookings.asUnmodifiableObservableList());
+        return capacity.suggestNextAvailableTime(toAdd, occupancyTimeline);
+    }
+
+    /**
+     * Suggests up to {@code limit} possible times to accommodate the booking, earliest first.
+     * Like {@code suggestNextAvailableTime}, suggestions always shift the booking later and never earlier.
+     */
+    public List<LocalDateTime> suggestAvailableTimes(Booking toAdd, int limit) {
+        return capacity.suggestAvailableTimes(toAdd, occupancyTimeline, limit);
     }
 
     public boolean canUpdateCapacity(Capacity newCapacity) {
-        return newCapacity.canAccommodate(bookings.asUnmodifiableObservableList());
+        return newCapacity.canAccommodate(occupancyTimeline);
     }
 
     @Override
@@ -432,10 +682,328 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
         invalidationListenerManager.removeListener(listener);
     }
 
+    /**
+     * Opens a scope within which listeners are not notified of modifications. When the scope is closed, listeners
+     * are notified once if this {@code RestaurantBook} was modified within it, however many modifications were made.
+     * Scopes may be nested, in which case listeners are notified when the outermost scope is closed.
+     * Changes are still recorded as they are made, and the item lists still report their changes as they are made.
+     */
+    public NotificationScope openNotificationScope() {
+        openNotificationScopes++;
+        return new NotificationScope();
+    }
+
+    //// change recording
+
+    private boolean isRecordingChanges() {
+        return !changeRecorders.isEmpty();
+    }
+
+    private void recordChange(Change change) {
+        for (Consumer<? super Change> changeRecorder : new ArrayList<>(changeRecorders)) {
+            changeRecorder.accept(change);
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code items}, recording the change.
+     */
+    private <T extends Item> void replaceList(ItemListType listType, UniqueItemList<T> list, List<T> items) {
+        List<T> oldItems = isRecordingChanges() ? list.getSnapshot() : null;
+        list.setItems(items);
+        indicateListReplaced(listType);
+        if (oldItems != null) {
+            recordChange(new ListReplaced(listType, oldItems, list.getSnapshot()));
+        }
+    }
+
+    /**
+     * Restores {@code list} to {@code snapshot}, recording the change if the contents were replaced.
+     */
+    private <T extends Item> boolean restoreList(ItemListType listType, UniqueItemList<T> list,
+            ObservableList<T> snapshot) {
+        List<T> oldItems = isRecordingChanges() ? list.getSnapshot() : null;
+        boolean isReplaced = list.restoreSnapshot(snapshot);
+        if (isReplaced) {
+            indicateListReplaced(listType);
+        }
+        if (isReplaced && oldItems != null) {
+            recordChange(new ListReplaced(listType, oldItems, snapshot));
+        }
+        return isReplaced;
+    }
+
+    /**
+     * Adds {@code item} to the end of {@code list}, recording the change.
+     */
+    private <T extends Item> void appendItem(ItemListType listType, UniqueItemList<T> list, T item) {
+        insertItem(listType, list, list.asUnmodifiableObservableList().size(), item);
+    }
+
+    /**
+     * Inserts {@code item} at {@code index} of {@code list}, recording the change.
+     */
+    private <T extends Item> void insertItem(ItemListType listType, UniqueItemList<T> list, int index, T item) {
+        list.add(index, item);
+        indicateItemAdded(listType, item);
+        recordChange(new ItemAdded(listType, index, item));
+    }
+
+    /**
+     * Replaces {@code target} in {@code list} with {@code editedItem}, recording the change.
+     * Returns the index of the replaced item.
+     */
+    private <T extends Item> int replaceItem(ItemListType listType, UniqueItemList<T> list, T target, T editedItem) {
+        int index = list.indexOf(target);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        replaceItemAt(listType, list, index, editedItem);
+        return index;
+    }
+
+    /**
+     * Replaces the item at {@code index} of {@code list} with {@code editedItem}, recording the change.
+     */
+    private <T extends Item> void replaceItemAt(ItemListType listType, UniqueItemList<T> list, int index,
+            T editedItem) {
+        T replaced = list.set(index, editedItem);
+        indicateItemRemoved(listType, replaced);
+        indicateItemAdded(listType, editedItem);
+        recordChange(new ItemReplaced(listType, index, replaced, editedItem));
+    }
+
+    /**
+     * Removes {@code key} from {@code list}, recording the change.
+     */
+    private <T extends Item> void removeItem(ItemListType listType, UniqueItemList<T> list, Object key) {
+        int index = list.indexOf(key);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+        removeItemAt(listType, list, index);
+    }
+
+    /**
+     * Removes the item at {@code index} of {@code list}, recording the change, and returns it.
+     */
+    private <T extends Item> T removeItemAt(ItemListType listType, UniqueItemList<T> list, int index) {
+        T removed = list.remove(index);
+        indicateItemRemoved(listType, removed);
+        recordChange(new ItemRemoved(listType, index, removed));
+        return removed;
+    }
+
+    /**
+     * Changes the capacity without checking it against the bookings, recording the change.
+     */
+    private void changeCapacity(Capacity newCapacity) {
+        Capacity oldCapacity = capacity;
+        capacity = newCapacity;
+        if (!oldCapacity.equals(newCapacity)) {
+            recordChange(new CapacityChanged(oldCapacity, newCapacity));
+        }
+    }
+
+    /**
+     * Replaces the persons booked by archived bookings, recording the change.
+     * Returns true if they were replaced by different counts.
+     */
+    private boolean changeArchivedCovers(CoverCounts newArchivedCovers) {
+        CoverCounts oldArchivedCovers = archivedCovers;
+        if (oldArchivedCovers.equals(newArchivedCovers)) {
+            return false;
+        }
+        archivedCovers = newArchivedCovers;
+        recordChange(new ArchivedCoversChanged(oldArchivedCovers, newArchivedCovers));
+        return true;
+    }
+
+    /**
+     * Returns the index at which {@code booking} should be inserted to keep the bookings sorted by start time.
+     * Bookings with the same start time stay in the order they were added.
+     */
+    private int findBookingInsertionIndex(Booking booking) {
+        List<Booking> bookingList = bookings.asUnmodifiableObservableList();
+        int low = 0;
+        int high = bookingList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bookingList.get(mid).compareTo(booking) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the booking equal to {@code booking}, or -1 if there is none.
+     * As the bookings are sorted, only the bookings at the same time as {@code booking} are compared.
+     */
+    private int indexOfBooking(Booking booking) {
+        List<Booking> bookingList = bookings.asUnmodifiableObservableList();
+        for (int i = findBookingInsertionIndex(booking) - 1; i >= 0; i--) {
+            Booking candidate = bookingList.get(i);
+            if (candidate.equals(booking)) {
+                return i;
+            }
+            if (candidate.compareTo(booking) != 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the booking at {@code index}, which may be out of order after an edit, to keep the bookings sorted.
+     */
+    private void keepBookingsSorted(int index) {
+        List<Booking> bookingList = bookings.asUnmodifiableObservableList();
+        Booking booking = bookingList.get(index);
+        boolean isAfterPrevious = index == 0 || bookingList.get(index - 1).compareTo(booking) <= 0;
+        boolean isBeforeNext = index == bookingList.size() - 1 || booking.compareTo(bookingList.get(index + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            return;
+        }
+        removeItemAt(ItemListType.BOOKINGS, bookings, index);
+        insertItem(ItemListType.BOOKINGS, bookings, findBookingInsertionIndex(booking), booking);
+    }
+
+    //// derived data
+
+    /**
+     * Updates the data derived from the list {@code listType} after {@code item} is added to it.
+     */
+    private void indicateItemAdded(ItemListType listType, Item item) {
+        switch (listType) {
+        case BOOKINGS:
+            occupancyTimeline.add((Booking) item);
+            coverCounts.add((Booking) item);
+            bookingsByMember.add((Booking) item);
+            break;
+        case RECIPES:
+            recipesByIngredient.add((Recipe) item);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Updates the data derived from the list {@code listType} after {@code item} is removed from it.
+     */
+    private void indicateItemRemoved(ItemListType listType, Item item) {
+        switch (listType) {
+        case BOOKINGS:
+            occupancyTimeline.remove((Booking) item);
+            coverCounts.remove((Booking) item);
+            bookingsByMember.remove((Booking) item);
+            break;
+        case RECIPES:
+            recipesByIngredient.remove((Recipe) item);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Recomputes the data derived from the list {@code listType} after its whole contents are replaced.
+     */
+    private void indicateListReplaced(ItemListType listType) {
+        switch (listType) {
+        case BOOKINGS:
+            occupancyTimeline.setBookings(bookings.asUnmodifiableObservableList());
+            coverCounts.setBookings(bookings.asUnmodifiableObservableList());
+            bookingsByMember.setItems(bookings.asUnmodifiableObservableList());
+            break;
+        case RECIPES:
+            recipesByIngredient.setItems(recipes.asUnmodifiableObservableList());
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Applies {@code change} without notifying listeners.
+     */
+    private void applyChangeWithoutNotifying(Change change) {
+        if (change instanceof ChangeSet) {
+            for (Change childChange : ((ChangeSet) change).getChanges()) {
+                applyChangeWithoutNotifying(childChange);
+            }
+            return;
+        }
+
+        if (change instanceof CapacityChanged) {
+            changeCapacity(((CapacityChanged) change).getNewCapacity());
+            if (callback != null) {
+                callback.accept(capacity);
+            }
+        } else if (change instanceof ArchivedCoversChanged) {
+            changeArchivedCovers(((ArchivedCoversChanged) change).getNewArchivedCovers());
+        } else if (change instanceof ListReplaced) {
+            ListReplaced listReplaced = (ListReplaced) change;
+            replaceList(listReplaced.getListType(), getItemList(listReplaced.getListType()),
+                    new ArrayList<>(listReplaced.getNewItems()));
+        } else if (change instanceof ItemAdded) {
+            ItemAdded itemAdded = (ItemAdded) change;
+            insertItem(itemAdded.getListType(), getItemList(itemAdded.getListType()), itemAdded.getIndex(),
+                    itemAdded.getItem());
+        } else if (change instanceof ItemRemoved) {
+            ItemRemoved itemRemoved = (ItemRemoved) change;
+            UniqueItemList<Item> list = getItemList(itemRemoved.getListType());
+            checkItemAt(list, itemRemoved.getIndex(), itemRemoved.getItem());
+            removeItemAt(itemRemoved.getListType(), list, itemRemoved.getIndex());
+        } else if (change instanceof ItemReplaced) {
+            ItemReplaced itemReplaced = (ItemReplaced) change;
+            UniqueItemList<Item> list = getItemList(itemReplaced.getListType());
+            checkItemAt(list, itemReplaced.getIndex(), itemReplaced.getOldItem());
+            replaceItemAt(itemReplaced.getListType(), list, itemReplaced.getIndex(), itemReplaced.getNewItem());
+        } else {
+            throw new IllegalArgumentException("Unknown change: " + change);
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the item at {@code index} of {@code list} is not {@code item}.
+     */
+    private static void checkItemAt(UniqueItemList<Item> list, int index, Item item) {
+        List<Item> items = list.asUnmodifiableObservableList();
+        if (index < 0 || index >= items.size() || !items.get(index).equals(item)) {
+            throw new IllegalArgumentException("The change does not match the restaurant book: " + item);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private UniqueItemList<Item> getItemList(ItemListType listType) {
+        switch (listType) {
+        case MEMBERS:
+            return (UniqueItemList<Item>) (UniqueItemList<? extends Item>) members;
+        case BOOKINGS:
+            return (UniqueItemList<Item>) (UniqueItemList<? extends Item>) bookings;
+        case INGREDIENTS:
+            return (UniqueItemList<Item>) (UniqueItemList<? extends Item>) ingredients;
+        case RECIPES:
+            return (UniqueItemList<Item>) (UniqueItemList<? extends Item>) recipes;
+        case STAFF:
+            return (UniqueItemList<Item>) (UniqueItemList<? extends Item>) staff;
+        default:
+            throw new AssertionError("Unknown list type: " + listType);
+        }
+    }
+
     /**
      * Notifies listeners that the restaurant book has been modified.
      */
     protected void indicateModified() {
+        if (openNotificationScopes > 0) {
+            isNotificationDeferred = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
@@ -481,7 +1049,8 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
                 && bookings.equals(((RestaurantBook) other).bookings)
                 && ingredients.equals(((RestaurantBook) other).ingredients)
                 && recipes.equals(((RestaurantBook) other).recipes)
-                && staff.equals(((RestaurantBook) other).staff));
+                && staff.equals(((RestaurantBook) other).staff)
+                && archivedCovers.equals(((RestaurantBook) other).archivedCovers));
     }
 
     @Override
@@ -493,4 +1062,30 @@ public class RestaurantBook implements ReadOnlyRestaurantBook {
         this.callback = callback;
         callback.accept(capacity);
     }
+
+    /**
+     * A scope opened by {@code openNotificationScope()}, within which listeners are not notified of modifications.
+     */
+    public class NotificationScope implements AutoCloseable {
+        private boolean isClosed;
+
+        private NotificationScope() {}
+
+        /**
+         * Closes this scope, notifying listeners if it was the last open scope and the restaurant book was modified
+         * while it was open. Closing a scope more than once has no further effect.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            openNotificationScopes--;
+            if (openNotificationScopes == 0 && isNotificationDeferred) {
+                isNotificationDeferred = false;
+                invalidationListenerManager.callListeners(RestaurantBook.this);
+            }
+        }
+    }
 }
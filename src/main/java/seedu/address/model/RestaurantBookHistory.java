@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Keeps track of the committed states of a {@code RestaurantBook} for undo and redo.
+ * The oldest states are discarded once more commits can be undone than the history depth, or once the history holds
+ * more items than the history item limit. The current state is always kept.
+ */
+abstract class RestaurantBookHistory {
+
+    public static final String MESSAGE_HISTORY_LIMIT_CONSTRAINTS = "History limits should be positive integers.";
+
+    protected final RestaurantBook restaurantBook;
+
+    private int historyDepth;
+    private int historyItemLimit;
+
+    RestaurantBookHistory(RestaurantBook restaurantBook, int historyDepth, int historyItemLimit) {
+        this.restaurantBook = restaurantBook;
+        checkLimits(historyDepth, historyItemLimit);
+        this.historyDepth = historyDepth;
+        this.historyItemLimit = historyItemLimit;
+    }
+
+    /**
+     * Sets the limits on the history, discarding the oldest states that no longer fit.
+     */
+    void setLimits(int historyDepth, int historyItemLimit) {
+        checkLimits(historyDepth, historyItemLimit);
+        this.historyDepth = historyDepth;
+        this.historyItemLimit = historyItemLimit;
+        discardOldestStates();
+    }
+
+    private static void checkLimits(int historyDepth, int historyItemLimit) {
+        checkArgument(historyDepth > 0 && historyItemLimit > 0, MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+    }
+
+    /**
+     * Discards the oldest states until the history fits within its limits.
+     */
+    protected void discardOldestStates() {
+        while (getUndoableCount() > 0
+                && (getUndoableCount() > historyDepth || getRetainedItemCount() > historyItemLimit)) {
+            discardOldestState();
+        }
+    }
+
+    /**
+     * Saves the current state of the restaurant book. Undone states are discarded.
+     */
+    abstract void commit();
+
+    /**
+     * Restores the restaurant book to its previous state. There must be a state to undo.
+     */
+    abstract void undo();
+
+    /**
+     * Restores the restaurant book to its previously undone state. There must be a state to redo.
+     */
+    abstract void redo();
+
+    /**
+     * Returns the number of commits that can be undone.
+     */
+    abstract int getUndoableCount();
+
+    /**
+     * Returns the number of undone commits that can be redone.
+     */
+    abstract int getRedoableCount();
+
+    /**
+     * Returns the number of items held by the history, as an estimate of its memory usage.
+     */
+    abstract long getRetainedItemCount();
+
+    /**
+     * Discards the oldest state. There must be a state to undo.
+     */
+    protected abstract void discardOldestState();
+}
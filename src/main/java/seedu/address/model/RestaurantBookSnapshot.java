@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * An immutable copy of a {@code RestaurantBook} at a point in time.
+ * Lists that did not change between two snapshots of the same {@code RestaurantBook} are shared between them.
+ */
+public class RestaurantBookSnapshot implements ReadOnlyRestaurantBook {
+
+    private final ObservableList<Member> members;
+    private final ObservableList<Booking> bookings;
+    private final ObservableList<Ingredient> ingredients;
+    private final ObservableList<Recipe> recipes;
+    private final ObservableList<Staff> staff;
+    private final Capacity capacity;
+    private final CoverCounts archivedCovers;
+
+    /**
+     * Every list must be unmodifiable, and neither the lists nor {@code archivedCovers} may change afterwards.
+     */
+    RestaurantBookSnapshot(ObservableList<Member> members, ObservableList<Booking> bookings,
+            ObservableList<Ingredient> ingredients, ObservableList<Recipe> recipes, ObservableList<Staff> staff,
+            Capacity capacity, CoverCounts archivedCovers) {
+        requireAllNonNull(members, bookings, ingredients, recipes, staff, capacity, archivedCovers);
+        this.members = members;
+        this.bookings = bookings;
+        this.ingredients = ingredients;
+        this.recipes = recipes;
+        this.staff = staff;
+        this.capacity = capacity;
+        this.archivedCovers = archivedCovers;
+    }
+
+    /**
+     * Returns an immutable snapshot of {@code restaurantBook}.
+     * A {@code RestaurantBook} shares its unmodified lists with the snapshot, and a snapshot is returned as it is.
+     */
+    public static RestaurantBookSnapshot of(ReadOnlyRestaurantBook restaurantBook) {
+        requireNonNull(restaurantBook);
+        if (restaurantBook instanceof RestaurantBookSnapshot) {
+            return (RestaurantBookSnapshot) restaurantBook;
+        }
+        if (restaurantBook instanceof RestaurantBook) {
+            return ((RestaurantBook) restaurantBook).getSnapshot();
+        }
+        return new RestaurantBook(restaurantBook).getSnapshot();
+    }
+
+    /**
+     * Returns the lists held by this snapshot.
+     */
+    List<List<?>> getLists() {
+        return Arrays.asList(members, bookings, ingredients, recipes, staff);
+    }
+
+    @Override
+    public ObservableList<Member> getMemberList() {
+        return members;
+    }
+
+    @Override
+    public ObservableList<Booking> getBookingList() {
+        return bookings;
+    }
+
+    @Override
+    public ObservableList<Ingredient> getIngredientList() {
+        return ingredients;
+    }
+
+    @Override
+    public ObservableList<Recipe> getRecipeList() {
+        return recipes;
+    }
+
+    @Override
+    public ObservableList<Staff> getStaffList() {
+        return staff;
+    }
+
+    @Override
+    public Capacity getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public CoverCounts getArchivedCovers() {
+        return archivedCovers;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RestaurantBookSnapshot // instanceof handles nulls
+                && members.equals(((RestaurantBookSnapshot) other).members)
+                && bookings.equals(((RestaurantBookSnapshot) other).bookings)
+                && ingredients.equals(((RestaurantBookSnapshot) other).ingredients)
+                && recipes.equals(((RestaurantBookSnapshot) other).recipes)
+                && staff.equals(((RestaurantBookSnapshot) other).staff)
+                && archivedCovers.equals(((RestaurantBookSnapshot) other).archivedCovers));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(members, bookings, ingredients, recipes, staff);
+    }
+
+    @Override
+    public String toString() {
+        return members.size() + " members ";
+    }
+}
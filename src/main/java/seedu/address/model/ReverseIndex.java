@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indexes items by the keys that they refer to, such as bookings by their customer, so that the items referring to a
+ * key can be found without scanning every item.
+ * The index must be updated whenever the indexed items change. The items under each key are kept in a hash set, so
+ * the items must have a {@code hashCode} consistent with {@code equals}, and removing the items of a key one by one
+ * stays linear in their number.
+ */
+class ReverseIndex<K, T> {
+
+    private final Function<? super T, ? extends Collection<? extends K>> keysOf;
+    private final Map<K, Set<T>> index = new HashMap<>();
+
+    /**
+     * Creates an empty index of items that refer to the keys returned by {@code keysOf}.
+     */
+    ReverseIndex(Function<? super T, ? extends Collection<? extends K>> keysOf) {
+        requireNonNull(keysOf);
+        this.keysOf = keysOf;
+    }
+
+    /**
+     * Adds {@code item} under each of its keys.
+     */
+    void add(T item) {
+        for (K key : keysOf.apply(item)) {
+            index.computeIfAbsent(key, unused -> new LinkedHashSet<>(2)).add(item);
+        }
+    }
+
+    /**
+     * Removes an item equal to {@code item} from under each of its keys.
+     */
+    void remove(T item) {
+        for (K key : keysOf.apply(item)) {
+            Set<T> items = index.get(key);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code items}.
+     */
+    void setItems(Collection<? extends T> items) {
+        index.clear();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the items that refer to {@code key}, in the order they were added.
+     * The returned list is a copy, so it may be iterated while the items are being updated.
+     */
+    List<T> get(Object key) {
+        Set<T> items = index.get(key);
+        return items == null ? Collections.emptyList() : new ArrayList<>(items);
+    }
+
+    /**
+     * Returns the number of items that refer to {@code key}.
+     */
+    int count(Object key) {
+        Set<T> items = index.get(key);
+        return items == null ? 0 : items.size();
+    }
+}
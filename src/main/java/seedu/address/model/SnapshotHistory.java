@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * History that keeps every state as a {@code RestaurantBookSnapshot}.
+ * Lists that a command did not touch are shared between consecutive states instead of being copied, and undoing or
+ * redoing a command only replaces the lists it touched.
+ * The items held are the items in the distinct lists held by the states.
+ */
+class SnapshotHistory extends RestaurantBookHistory {
+
+    private final List<RestaurantBookSnapshot> restaurantBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    /** Number of states referring to each distinct list held by the history. */
+    private final Map<List<?>, Integer> listReferenceCounts = new IdentityHashMap<>();
+    /** Total number of items in the distinct lists held by the history. */
+    private long retainedItemCount;
+
+    SnapshotHistory(RestaurantBook restaurantBook, int historyDepth, int historyItemLimit) {
+        super(restaurantBook, historyDepth, historyItemLimit);
+        addState(restaurantBook.getSnapshot());
+        currentStatePointer = 0;
+    }
+
+    @Override
+    void commit() {
+        removeStatesAfterCurrentPointer();
+        addState(restaurantBook.getSnapshot());
+        currentStatePointer++;
+        discardOldestStates();
+    }
+
+    @Override
+    void undo() {
+        currentStatePointer--;
+        restaurantBook.restoreSnapshot(restaurantBookStateList.get(currentStatePointer));
+    }
+
+    @Override
+    void redo() {
+        currentStatePointer++;
+        restaurantBook.restoreSnapshot(restaurantBookStateList.get(currentStatePointer));
+    }
+
+    @Override
+    int getUndoableCount() {
+        return currentStatePointer;
+    }
+
+    @Override
+    int getRedoableCount() {
+        return restaurantBookStateList.size() - 1 - currentStatePointer;
+    }
+
+    @Override
+    long getRetainedItemCount() {
+        return retainedItemCount;
+    }
+
+    @Override
+    protected void discardOldestState() {
+        releaseLists(restaurantBookStateList.remove(0));
+        currentStatePointer--;
+    }
+
+    /**
+     * Removes the undone states, which can no longer be redone.
+     */
+    private void removeStatesAfterCurrentPointer() {
+        List<RestaurantBookSnapshot> statesAfterCurrentPointer =
+                restaurantBookStateList.subList(currentStatePointer + 1, restaurantBookStateList.size());
+        statesAfterCurrentPointer.forEach(this::releaseLists);
+        statesAfterCurrentPointer.clear();
+    }
+
+    /**
+     * Adds {@code state} to the end of the state list, counting the items in the lists that it introduces.
+     */
+    private void addState(RestaurantBookSnapshot state) {
+        restaurantBookStateList.add(state);
+        for (List<?> list : state.getLists()) {
+            if (listReferenceCounts.merge(list, 1, Integer::sum) == 1) {
+                retainedItemCount += list.size();
+            }
+        }
+    }
+
+    /**
+     * Releases the lists of {@code state}, which has been removed from the state list.
+     */
+    private void releaseLists(RestaurantBookSnapshot state) {
+        for (List<?> list : state.getLists()) {
+            int referenceCount = listReferenceCounts.get(list) - 1;
+            if (referenceCount == 0) {
+                listReferenceCounts.remove(list);
+                retainedItemCount -= list.size();
+            } else {
+                listReferenceCounts.put(list, referenceCount);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SnapshotHistory // instanceof handles nulls
+                && restaurantBookStateList.equals(((SnapshotHistory) other).restaurantBookStateList)
+                && currentStatePointer == ((SnapshotHistory) other).currentStatePointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return restaurantBookStateList.hashCode();
+    }
+}
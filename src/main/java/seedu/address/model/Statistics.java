@@ -1,22 +1,25 @@
 package seedu.address.model;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart.Data;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.CoverCounts;
 
 /**
- * Manages the statistics of the bookings
+ * Manages the statistics of the bookings.
+ * The charts are made from the number of persons booked on each day and hour kept by {@code CoverCounts}, so
+ * making them does not depend on the number of bookings. The bookings that have been archived are counted from the
+ * archived counts of the restaurant book, so long ranges of days are charted without keeping the old bookings.
  */
 public class Statistics {
 
@@ -27,34 +30,48 @@ public class Statistics {
     public static final String MESSAGE_CONSTRAINTS = "Days should be an integer between 1 and "
             + getMaxDays() + " inclusive.";
 
-    private static final int HOURS_IN_A_DAY = 24;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_PATTERN);
 
-    private final ObservableList<Booking> bookings;
+    private final List<CoverCounts> coverCounts;
     private final int days;
+    private final LocalDate today;
 
     public Statistics(ObservableList<Booking> bookings, int days) {
+        this(new CoverCounts(bookings), days, LocalDate.now());
+    }
+
+    /**
+     * Creates the statistics of the bookings counted in {@code coverCounts} in the {@code days} days up to
+     * {@code today}.
+     */
+    Statistics(CoverCounts coverCounts, int days, LocalDate today) {
+        this(coverCounts, new CoverCounts(), days, today);
+    }
+
+    /**
+     * Creates the statistics of the bookings counted in either {@code coverCounts} or {@code archivedCovers} in the
+     * {@code days} days up to {@code today}.
+     */
+    Statistics(CoverCounts coverCounts, CoverCounts archivedCovers, int days, LocalDate today) {
         checkArgument(1 <= days && days <= getMaxDays() , MESSAGE_CONSTRAINTS);
-        requireNonNull(bookings);
-        this.bookings = bookings;
+        requireAllNonNull(coverCounts, archivedCovers, today);
+        this.coverCounts = Arrays.asList(coverCounts, archivedCovers);
         this.days = days;
+        this.today = today;
     }
 
     public static int getMaxDays() {
         return MAX_BARS * MAX_BAR_SIZE;
     }
 
-    private int getDaysDifference(LocalDate start, LocalDate end) {
-        return (int) ChronoUnit.DAYS.between(start, end);
-    }
-
     /**
      * Formats the date into a String.
      * @param date the date
      * @return the formatted String
      */
     private String formatDate(LocalDate date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        return date.format(formatter);
+        return date.format(DATE_FORMATTER);
     }
 
     /**
@@ -71,18 +88,23 @@ public class Statistics {
     }
 
     private String formatTime(int hour) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TIME_PATTERN);
-        return LocalTime.of(hour, 0).format(formatter)
-                + " - " + LocalTime.of(hour, 59).format(formatter);
+        return LocalTime.of(hour, 0).format(TIME_FORMATTER)
+                + " - " + LocalTime.of(hour, 59).format(TIME_FORMATTER);
+    }
+
+    /**
+     * Returns the number of persons booked from {@code firstDate} to {@code lastDate} inclusive.
+     */
+    private int getCovers(LocalDate firstDate, LocalDate lastDate) {
+        return coverCounts.stream().mapToInt(counts -> counts.getCovers(firstDate, lastDate)).sum();
     }
 
     /**
-     * Counts the number of bookings that satisfies the given condition
-     * @param condition condition for the bookings to satisfy
-     * @return the number of bookings that satisfies the given condition
+     * Returns the number of persons booked to start in the hour {@code hour} of the days from {@code firstDate} to
+     * {@code lastDate} inclusive.
      */
-    private int getNumBookingsWithCondition(Predicate<Booking> condition) {
-        return (int) bookings.stream().filter(condition).mapToInt(booking -> booking.getNumMembers().getSize()).sum();
+    private int getCovers(LocalDate firstDate, LocalDate lastDate, int hour) {
+        return coverCounts.stream().mapToInt(counts -> counts.getCovers(firstDate, lastDate, hour)).sum();
     }
 
     /**
@@ -96,23 +118,13 @@ public class Statistics {
         assert(numBuckets <= MAX_BARS);
         assert(bucketSize >= 0);
         assert(numBuckets >= 0);
-        List<Integer> numBookings = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        for (int i = 0; i < numBuckets; i++) {
-            int startIndex = i * bucketSize;
-            int endIndex = startIndex + (bucketSize - 1);
-            numBookings.add(getNumBookingsWithCondition(booking -> {
-                LocalDate bookingDate = booking.getStartTime().toLocalDate();
-                int difference = getDaysDifference(bookingDate, today);
-                return startIndex <= difference && difference <= endIndex;
-            }));
-        }
         List<Data<String, Integer>> graphData = new ArrayList<>();
         for (int i = numBuckets - 1; i >= 0; i--) { // add the earliest date first
             int startIndex = i * bucketSize;
             int endIndex = startIndex + (bucketSize - 1);
-            String name = formatDate(today.minusDays(endIndex), today.minusDays(startIndex));
-            graphData.add(new Data<>(name, numBookings.get(i)));
+            LocalDate firstDate = today.minusDays(endIndex);
+            LocalDate lastDate = today.minusDays(startIndex);
+            graphData.add(new Data<>(formatDate(firstDate, lastDate), getCovers(firstDate, lastDate)));
         }
         return graphData;
     }
@@ -122,16 +134,10 @@ public class Statistics {
      * @return
      */
     public List<Data<String, Integer>> generateGraphDataTime() {
-        LocalDate today = LocalDate.now();
+        LocalDate firstDate = today.minusDays(days - 1);
         List<Data<String, Integer>> graphData = new ArrayList<>();
-        for (int hour = 0; hour < HOURS_IN_A_DAY; hour++) {
-            final int h = hour;
-            int value = getNumBookingsWithCondition(booking ->
-                h == booking.getStartTime().getHour()
-                    && getDaysDifference(booking.getStartTime().toLocalDate(), today) < days
-                    && getDaysDifference(booking.getStartTime().toLocalDate(), today) >= 0
-            );
-            graphData.add(new Data<>(formatTime(hour), value));
+        for (int hour = 0; hour < CoverCounts.HOURS_IN_A_DAY; hour++) {
+            graphData.add(new Data<>(formatTime(hour), getCovers(firstDate, today, hour)));
         }
         return graphData;
     }
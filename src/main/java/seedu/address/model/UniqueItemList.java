@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,12 @@ import seedu.address.model.person.exceptions.ItemNotFoundException;
  * unique in terms of identity in the UniqueItemList. However, the removal of an item uses Item#equals(Object) so
  * as to ensure that the item with exactly the same fields will be removed.
  *
+ * Items are additionally indexed by {@code Item#getIdentityKey()}, so that identity checks only need to compare
+ * against the few items sharing the same key instead of the whole list.
+ *
+ * Immutable snapshots of the list are cached until the next modification, so that repeated snapshots of an unchanged
+ * list share a single copy.
+ *
  * Supports a minimal set of list operations.
  *
  */
@@ -29,12 +38,22 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Items in {@code internalList}, grouped by their identity key. */
+    private final Map<Object, List<T>> identityIndex = new HashMap<>();
+
+    /** Immutable copy of {@code internalList}, or null if the list has been modified since the copy was taken. */
+    private ObservableList<T> snapshot;
+
     /**
      * Returns true if the list contains an equivalent member as the given argument.
      */
     public boolean contains(Object toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> x.isSameItem(toCheck));
+        if (!(toCheck instanceof Item)) {
+            return false;
+        }
+        List<T> candidates = identityIndex.get(((Item) toCheck).getIdentityKey());
+        return candidates != null && candidates.stream().anyMatch(x -> x.isSameItem(toCheck));
     }
 
     /**
@@ -42,9 +61,9 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
      * itemToEdit must be present in the list.
      */
     private boolean safeToReplace(T itemToEdit, T editedItem) {
-        List<T> replacement = internalList.stream().map(x -> (x.isSameItem(itemToEdit) ? editedItem : x))
-                .collect(Collectors.toList());
-        return itemsAreUnique(replacement);
+        List<T> candidates = identityIndex.get(editedItem.getIdentityKey());
+        return candidates == null
+                || candidates.stream().noneMatch(x -> !x.isSameItem(itemToEdit) && x.isSameItem(editedItem));
     }
 
     /**
@@ -57,6 +76,22 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
             throw new DuplicateItemException();
         }
         internalList.add(toAdd);
+        addToIndex(identityIndex, toAdd);
+        snapshot = null;
+    }
+
+    /**
+     * Inserts a member at {@code index} of the list.
+     * The member must not already exist in the list.
+     */
+    public void add(int index, T toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateItemException();
+        }
+        internalList.add(index, toAdd);
+        addToIndex(identityIndex, toAdd);
+        snapshot = null;
     }
 
     /**
@@ -68,16 +103,30 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
     public void setItem(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ItemNotFoundException();
         }
 
-        if (!safeToReplace(target, editedItem)) {
+        set(index, editedItem);
+    }
+
+    /**
+     * Replaces the member at {@code index} of the list with {@code editedItem}, and returns the replaced member.
+     * DuplicateItemException is thrown if the member identity of {@code editedItem}
+     * is the same as another item.
+     */
+    public T set(int index, T editedItem) {
+        requireNonNull(editedItem);
+        if (!safeToReplace(internalList.get(index), editedItem)) {
             throw new DuplicateItemException();
         }
 
-        internalList.set(index, editedItem);
+        T replaced = internalList.set(index, editedItem);
+        removeFromIndex(replaced);
+        addToIndex(identityIndex, editedItem);
+        snapshot = null;
+        return replaced;
     }
 
     /**
@@ -86,31 +135,137 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
      */
     public void remove(Object toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ItemNotFoundException();
         }
+        remove(index);
+    }
+
+    /**
+     * Removes the member at {@code index} of the list, and returns it.
+     */
+    public T remove(int index) {
+        T removed = internalList.remove(index);
+        removeFromIndex(removed);
+        snapshot = null;
+        return removed;
     }
 
     public void setItems(UniqueItemList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        replacement.identityIndex.forEach((key, items) -> identityIndex.put(key, new ArrayList<>(items)));
+        snapshot = replacement.snapshot;
     }
 
     /**
      * Replaces the contents of this list with {@code members}.
      * {@code members} must not contain duplicate members.
+     * Only the range of the list that differs from {@code members} is replaced, so observers see changes
+     * proportional to the items that changed rather than a replacement of the whole list.
      */
     public void setItems(List<T> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
-            throw new DuplicateItemException();
+        Map<Object, List<T>> replacementIndex = indexUniqueItems(items);
+
+        replaceChangedRange(items);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        snapshot = null;
+    }
+
+    /**
+     * Checks that {@code items} contains no duplicate items, as {@code setItems} does, without changing any list.
+     *
+     * @throws DuplicateItemException if {@code items} contains duplicate items.
+     */
+    public static <T extends Item> void requireUnique(List<T> items) {
+        requireAllNonNull(items);
+        indexUniqueItems(items);
+    }
+
+    /**
+     * Returns an identity index of {@code items}.
+     *
+     * @throws DuplicateItemException if {@code items} contains duplicate items.
+     */
+    private static <T extends Item> Map<Object, List<T>> indexUniqueItems(List<T> items) {
+        Map<Object, List<T>> index = new HashMap<>();
+        for (T item : items) {
+            if (!addToIndexIfUnique(index, item)) {
+                throw new DuplicateItemException();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the items of {@code internalList} between the items it shares with {@code items} at the start and at
+     * the end, so that the list becomes equal to {@code items}.
+     * Items are shared if they are the same instance, as lists restored from snapshots share their unchanged items.
+     */
+    private void replaceChangedRange(List<T> items) {
+        int oldSize = internalList.size();
+        int newSize = items.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && internalList.get(start) == items.get(start)) {
+            start++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && internalList.get(oldEnd - 1) == items.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
         }
 
-        internalList.setAll(items);
+        if (start == 0 && oldEnd == oldSize && newEnd == newSize) {
+            internalList.setAll(items);
+        } else if (oldEnd - start == 1 && newEnd - start == 1) {
+            internalList.set(start, items.get(start));
+        } else {
+            if (oldEnd > start) {
+                internalList.remove(start, oldEnd);
+            }
+            if (newEnd > start) {
+                internalList.addAll(start, items.subList(start, newEnd));
+            }
+        }
     }
 
+    /**
+     * Sorts the list using {@code myComp}.
+     */
     public void sort(Comparator<? super T> myComp) {
         internalList.sort(myComp);
+        snapshot = null;
+    }
+
+    /**
+     * Returns an immutable copy of the list.
+     * The same copy is returned until the list is next modified.
+     */
+    public ObservableList<T> getSnapshot() {
+        if (snapshot == null) {
+            snapshot = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(internalList));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, a list previously returned by {@code getSnapshot()}.
+     * Nothing is done if the list has not been modified since {@code snapshot} was taken.
+     * Returns true if the contents of this list were replaced.
+     */
+    public boolean restoreSnapshot(ObservableList<T> snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            return false;
+        }
+        setItems(snapshot);
+        this.snapshot = snapshot;
+        return true;
     }
 
     /**
@@ -138,16 +293,54 @@ public class UniqueItemList<T extends Item> implements Iterable<T> {
     }
 
     /**
-     * Returns true if {@code items} contains only unique items.
+     * Returns the position of the item equal to {@code item}, or -1 if there is none.
+     * The identity index is consulted first so that absent items are rejected without scanning the list.
      */
-    private boolean itemsAreUnique(List<T> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSameItem(items.get(j))) {
-                    return false;
-                }
-            }
+    public int indexOf(Object item) {
+        if (!(item instanceof Item) || !identityIndex.containsKey(((Item) item).getIdentityKey())) {
+            return -1;
         }
+        return internalList.indexOf(item);
+    }
+
+    /**
+     * Returns an item with the identity key {@code identityKey}, or an empty Optional if there is none.
+     */
+    public Optional<T> findByIdentityKey(Object identityKey) {
+        List<T> candidates = identityIndex.get(identityKey);
+        return candidates == null ? Optional.empty() : Optional.of(candidates.get(0));
+    }
+
+    /**
+     * Adds {@code item} to {@code index} under its identity key.
+     */
+    private static <T extends Item> void addToIndex(Map<Object, List<T>> index, T item) {
+        index.computeIfAbsent(item.getIdentityKey(), unused -> new ArrayList<>(1)).add(item);
+    }
+
+    /**
+     * Adds {@code item} to {@code index} unless an item with the same identity is already indexed.
+     * Returns true if {@code item} was added.
+     */
+    private static <T extends Item> boolean addToIndexIfUnique(Map<Object, List<T>> index, T item) {
+        List<T> candidates = index.computeIfAbsent(item.getIdentityKey(), unused -> new ArrayList<>(1));
+        if (candidates.stream().anyMatch(x -> x.isSameItem(item))) {
+            return false;
+        }
+        candidates.add(item);
         return true;
     }
+
+    /**
+     * Removes exactly the instance {@code item} from the identity index.
+     */
+    private void removeFromIndex(T item) {
+        Object key = item.getIdentityKey();
+        List<T> candidates = identityIndex.get(key);
+        assert candidates != null : "Items in the list must be indexed";
+        candidates.removeIf(x -> x == item);
+        if (candidates.isEmpty()) {
+            identityIndex.remove(key);
+        }
+    }
 }
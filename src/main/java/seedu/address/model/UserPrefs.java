@@ -5,16 +5,28 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path restaurantBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean restaurantBookJournalEnabled = false;
+    private boolean restaurantBookPrettyPrinted = true;
+    private VersionedRestaurantBook.HistoryMode undoHistoryMode = VersionedRestaurantBook.HistoryMode.SNAPSHOTS;
+    private int undoHistoryDepth = VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH;
+    private int undoHistoryItemLimit = VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT;
+    private int bookingRetentionDays = 0;
+    private boolean metricsSavedOnExit = false;
+    private Path metricsFilePath = Paths.get("data", "metrics.txt");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +48,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRestaurantBookFilePath(newUserPrefs.getRestaurantBookFilePath());
+        setRestaurantBookJournalEnabled(newUserPrefs.isRestaurantBookJournalEnabled());
+        setRestaurantBookPrettyPrinted(newUserPrefs.isRestaurantBookPrettyPrinted());
+        setUndoHistoryMode(newUserPrefs.getUndoHistoryMode());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryItemLimit(newUserPrefs.getUndoHistoryItemLimit());
+        setBookingRetentionDays(newUserPrefs.getBookingRetentionDays());
+        setMetricsSavedOnExit(newUserPrefs.isMetricsSavedOnExit());
+        setMetricsFilePath(newUserPrefs.getMetricsFilePath());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +76,89 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.restaurantBookFilePath = restaurantBookFilePath;
     }
 
+    public boolean isRestaurantBookJournalEnabled() {
+        return restaurantBookJournalEnabled;
+    }
+
+    public void setRestaurantBookJournalEnabled(boolean restaurantBookJournalEnabled) {
+        this.restaurantBookJournalEnabled = restaurantBookJournalEnabled;
+    }
+
+    public boolean isRestaurantBookPrettyPrinted() {
+        return restaurantBookPrettyPrinted;
+    }
+
+    public void setRestaurantBookPrettyPrinted(boolean restaurantBookPrettyPrinted) {
+        this.restaurantBookPrettyPrinted = restaurantBookPrettyPrinted;
+    }
+
+    public VersionedRestaurantBook.HistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(VersionedRestaurantBook.HistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the undo history depth to {@code undoHistoryDepth}, or to the default depth if it is not positive.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        if (undoHistoryDepth <= 0) {
+            logger.warning("Undo history depth " + undoHistoryDepth + " is not positive. Using the default depth "
+                    + VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH);
+            undoHistoryDepth = VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH;
+        }
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryItemLimit() {
+        return undoHistoryItemLimit;
+    }
+
+    /**
+     * Sets the undo history item limit to {@code undoHistoryItemLimit}, or to the default limit if it is not
+     * positive.
+     */
+    public void setUndoHistoryItemLimit(int undoHistoryItemLimit) {
+        if (undoHistoryItemLimit <= 0) {
+            logger.warning("Undo history item limit " + undoHistoryItemLimit + " is not positive. Using the default "
+                    + "limit " + VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+            undoHistoryItemLimit = VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT;
+        }
+        this.undoHistoryItemLimit = undoHistoryItemLimit;
+    }
+
+    public int getBookingRetentionDays() {
+        return bookingRetentionDays;
+    }
+
+    public void setBookingRetentionDays(int bookingRetentionDays) {
+        this.bookingRetentionDays = bookingRetentionDays;
+    }
+
+    public boolean isMetricsSavedOnExit() {
+        return metricsSavedOnExit;
+    }
+
+    public void setMetricsSavedOnExit(boolean metricsSavedOnExit) {
+        this.metricsSavedOnExit = metricsSavedOnExit;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        requireNonNull(metricsFilePath);
+        this.metricsFilePath = metricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +171,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && restaurantBookFilePath.equals(o.restaurantBookFilePath);
+                && restaurantBookFilePath.equals(o.restaurantBookFilePath)
+                && restaurantBookJournalEnabled == o.restaurantBookJournalEnabled
+                && restaurantBookPrettyPrinted == o.restaurantBookPrettyPrinted
+                && undoHistoryMode == o.undoHistoryMode
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryItemLimit == o.undoHistoryItemLimit
+                && bookingRetentionDays == o.bookingRetentionDays
+                && metricsSavedOnExit == o.metricsSavedOnExit
+                && metricsFilePath.equals(o.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, restaurantBookFilePath);
+        return Objects.hash(guiSettings, restaurantBookFilePath, restaurantBookJournalEnabled,
+                restaurantBookPrettyPrinted, undoHistoryMode, undoHistoryDepth, undoHistoryItemLimit,
+                bookingRetentionDays, metricsSavedOnExit, metricsFilePath);
     }
 
     @Override
@@ -81,6 +194,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + restaurantBookFilePath);
+        sb.append("\nJournal enabled : " + restaurantBookJournalEnabled);
+        sb.append("\nPretty printed : " + restaurantBookPrettyPrinted);
+        sb.append("\nUndo history mode : " + undoHistoryMode);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history item limit : " + undoHistoryItemLimit);
+        sb.append("\nBooking retention days : " + bookingRetentionDays);
+        sb.append("\nMetrics saved on exit : " + metricsSavedOnExit);
+        sb.append("\nMetrics file location : " + metricsFilePath);
         return sb.toString();
     }
 
@@ -1,73 +1,222 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.core.flightrecorder.HistoryEvent;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+
 /**
  * {@code RestaurantBook} that keeps track of its own history.
+ * The history either keeps a snapshot of every state, sharing the lists that did not change between states, or keeps
+ * a journal of the changes made by every commit. See {@code HistoryMode}.
+ * The oldest states are discarded once more commits can be undone than the history depth, or once the history holds
+ * more items than the history item limit.
+ * Within a transaction, commits are deferred to a single commit at the end of the transaction, and rolling the
+ * transaction back reverts every change made since it started.
  */
 public class VersionedRestaurantBook extends RestaurantBook {
 
-    private final List<ReadOnlyRestaurantBook> restaurantBookStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_HISTORY_DEPTH = 100;
+    public static final int DEFAULT_HISTORY_ITEM_LIMIT = 1000000;
+
+    /**
+     * The ways in which the history can be kept.
+     */
+    public enum HistoryMode {
+        /** Keeps a snapshot of every state. Undo and redo replace the lists that differ from the target state. */
+        SNAPSHOTS,
+        /** Keeps the changes made by every commit. Undo and redo apply those changes backwards or forwards. */
+        JOURNAL
+    }
+
+    private final HistoryMode historyMode;
+    private final RestaurantBookHistory history;
+    /** Changes made since the current transaction started, or null if there is no transaction in progress. */
+    private List<Change> transactionChanges;
+    /** Whether a commit was requested within the current transaction. */
+    private boolean isCommitDeferred;
 
     public VersionedRestaurantBook(ReadOnlyRestaurantBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOTS, DEFAULT_HISTORY_DEPTH, DEFAULT_HISTORY_ITEM_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedRestaurantBook} that keeps its history according to {@code historyMode}, can undo at
+     * most {@code historyDepth} commits, and keeps at most {@code historyItemLimit} items in its history as long as
+     * there is at least one commit to undo.
+     */
+    public VersionedRestaurantBook(ReadOnlyRestaurantBook initialState, HistoryMode historyMode, int historyDepth,
+            int historyItemLimit) {
         super(initialState);
+        requireNonNull(historyMode);
+
+        this.historyMode = historyMode;
+        if (historyMode == HistoryMode.JOURNAL) {
+            history = new JournalHistory(this, historyDepth, historyItemLimit);
+        } else {
+            history = new SnapshotHistory(this, historyDepth, historyItemLimit);
+        }
+        addChangeRecorder(this::recordTransactionChange);
+    }
+
+    private void recordTransactionChange(Change change) {
+        if (transactionChanges != null) {
+            transactionChanges.add(change);
+        }
+    }
 
-        restaurantBookStateList = new ArrayList<>();
-        restaurantBookStateList.add(new RestaurantBook(initialState));
-        currentStatePointer = 0;
+    /**
+     * Sets the limits on the history, discarding the oldest states that no longer fit.
+     */
+    public void setHistoryLimits(int historyDepth, int historyItemLimit) {
+        history.setLimits(historyDepth, historyItemLimit);
     }
 
     /**
-     * Saves a copy of the current {@code RestaurantBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code RestaurantBook} state in the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        restaurantBookStateList.add(new RestaurantBook(this));
-        currentStatePointer++;
+        if (isInTransaction()) {
+            isCommitDeferred = true;
+            return;
+        }
+        HistoryEvent historyEvent = new HistoryEvent(HistoryEvent.COMMIT);
+        historyEvent.begin();
+        history.commit();
+        commitHistoryEvent(historyEvent);
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        restaurantBookStateList.subList(currentStatePointer + 1, restaurantBookStateList.size()).clear();
+    /**
+     * Starts a transaction, which defers every commit until the transaction is committed.
+     * There must be no transaction in progress.
+     */
+    public void startTransaction() {
+        if (isInTransaction()) {
+            throw new TransactionInProgressException();
+        }
+        transactionChanges = new ArrayList<>();
+        isCommitDeferred = false;
+    }
+
+    /**
+     * Ends the current transaction, saving its changes in the history as a single state if any commit was requested
+     * within it. There must be a transaction in progress.
+     */
+    public void commitTransaction() {
+        endTransaction();
+        if (isCommitDeferred) {
+            commit();
+        }
+    }
+
+    /**
+     * Ends the current transaction, reverting every change made since it started. There must be a transaction in
+     * progress.
+     */
+    public void rollbackTransaction() {
+        List<Change> changes = endTransaction();
+        if (!changes.isEmpty()) {
+            applyChange(new ChangeSet(changes).inverse());
+        }
+    }
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    public boolean isInTransaction() {
+        return transactionChanges != null;
+    }
+
+    /**
+     * Ends the current transaction and returns the changes made within it.
+     */
+    private List<Change> endTransaction() {
+        if (!isInTransaction()) {
+            throw new NoTransactionException();
+        }
+        List<Change> changes = transactionChanges;
+        transactionChanges = null;
+        return changes;
+    }
+
+    /**
+     * Returns the number of states in the history, including the current one.
+     */
+    public int getHistorySize() {
+        return history.getUndoableCount() + 1 + history.getRedoableCount();
+    }
+
+    /**
+     * Returns the number of items held by the history, as an estimate of its memory usage.
+     */
+    public long getRetainedItemCount() {
+        return history.getRetainedItemCount();
     }
 
     /**
      * Restores the restaurant book to its previous state.
      */
     public void undo() {
+        if (isInTransaction()) {
+            throw new TransactionInProgressException();
+        }
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(restaurantBookStateList.get(currentStatePointer));
+        HistoryEvent historyEvent = new HistoryEvent(HistoryEvent.UNDO);
+        historyEvent.begin();
+        history.undo();
+        commitHistoryEvent(historyEvent);
     }
 
     /**
      * Restores the restaurant book to its previously undone state.
      */
     public void redo() {
+        if (isInTransaction()) {
+            throw new TransactionInProgressException();
+        }
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(restaurantBookStateList.get(currentStatePointer));
+        HistoryEvent historyEvent = new HistoryEvent(HistoryEvent.REDO);
+        historyEvent.begin();
+        history.redo();
+        commitHistoryEvent(historyEvent);
+    }
+
+    /**
+     * Ends {@code historyEvent}, and commits it with the state of the history if it is being recorded.
+     */
+    private void commitHistoryEvent(HistoryEvent historyEvent) {
+        historyEvent.end();
+        if (historyEvent.shouldCommit()) {
+            historyEvent.setHistoryMode(historyMode.name());
+            historyEvent.setHistorySize(getHistorySize());
+            historyEvent.setRetainedItemCount(getRetainedItemCount());
+            historyEvent.setItemCount(getItemCount());
+            historyEvent.commit();
+        }
     }
 
     /**
      * Returns true if {@code undo()} has restaurant book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.getUndoableCount() > 0;
     }
 
     /**
      * Returns true if {@code redo()} has restaurant book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < restaurantBookStateList.size() - 1;
+        return history.getRedoableCount() > 0;
     }
 
     @Override
@@ -86,8 +235,7 @@ public class VersionedRestaurantBook extends RestaurantBook {
 
         // state check
         return super.equals(otherVersionedRestaurantBook)
-                && restaurantBookStateList.equals(otherVersionedRestaurantBook.restaurantBookStateList)
-                && currentStatePointer == otherVersionedRestaurantBook.currentStatePointer;
+                && history.equals(otherVersionedRestaurantBook.history);
     }
 
     /**
@@ -107,4 +255,22 @@ public class VersionedRestaurantBook extends RestaurantBook {
             super("Current state pointer at end of restaurantBookState list, unable to redo.");
         }
     }
+
+    /**
+     * Thrown when trying to start a transaction, {@code undo()} or {@code redo()} while a transaction is in progress.
+     */
+    public static class TransactionInProgressException extends RuntimeException {
+        private TransactionInProgressException() {
+            super("A transaction is in progress.");
+        }
+    }
+
+    /**
+     * Thrown when trying to end a transaction when no transaction is in progress.
+     */
+    public static class NoTransactionException extends RuntimeException {
+        private NoTransactionException() {
+            super("No transaction is in progress.");
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.booking;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
 
 import seedu.address.model.Item;
 import seedu.address.model.person.member.Member;
@@ -64,6 +66,11 @@ public class Booking implements Item, Comparable<Booking> {
         }
     }
 
+    @Override
+    public Object getIdentityKey() {
+        return Arrays.asList(bookingWindow, customer);
+    }
+
     @Override
     public int compareTo(Booking other) {
         return bookingWindow.compareTo(other.bookingWindow);
@@ -83,4 +90,10 @@ public class Booking implements Item, Comparable<Booking> {
                 && bookingWindow.equals(((Booking) other).bookingWindow)
                 && numMembers.equals(((Booking) other).numMembers));
     }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(customer, bookingWindow, numMembers);
+    }
 }
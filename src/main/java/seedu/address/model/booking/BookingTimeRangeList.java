@@ -0,0 +1,145 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the bookings of a list sorted by start time that start within a range of time.
+ * As the bookings are sorted, the bookings in the range are contiguous in the source list. They are found by binary
+ * search when the range is set, and the changes to the source list only shift the ends of the range, so the view
+ * costs O(log n + k) for k bookings in the range instead of testing every booking.
+ */
+public class BookingTimeRangeList extends TransformationList<Booking, Booking> {
+
+    /** Index in the source list of the first booking in the range. */
+    private int rangeStart;
+    /** Index in the source list after the last booking in the range. */
+    private int rangeEnd;
+    private LocalDateTime from = LocalDateTime.MIN;
+    private LocalDateTime to = LocalDateTime.MAX;
+
+    /**
+     * Creates a view of all of {@code source}, which must be sorted by start time.
+     */
+    public BookingTimeRangeList(ObservableList<Booking> source) {
+        super(source);
+        rangeEnd = source.size();
+    }
+
+    /**
+     * Shows only the bookings starting from {@code from} to {@code to} inclusive.
+     */
+    public void setRange(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), "The range must not end before it starts.");
+        this.from = from;
+        this.to = to;
+
+        List<Booking> oldBookings = new ArrayList<>(this);
+        rangeStart = countStartingBefore(getSource(), from, false);
+        rangeEnd = countStartingBefore(getSource(), to, true);
+        if (!oldBookings.isEmpty() || size() > 0) {
+            beginChange();
+            nextReplace(0, size(), oldBookings);
+            endChange();
+        }
+    }
+
+    /**
+     * Shows all the bookings.
+     */
+    public void clearRange() {
+        setRange(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    @Override
+    public Booking get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return getSource().get(rangeStart + index);
+    }
+
+    @Override
+    public int size() {
+        return rangeEnd - rangeStart;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return rangeStart + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= rangeStart && index < rangeEnd ? index - rangeStart : -1;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Booking> change) {
+        beginChange();
+        while (change.next()) {
+            int viewFrom = Math.max(change.getFrom() - rangeStart, 0);
+            if (change.wasPermutated()) {
+                int[] permutation = new int[size()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(rangeStart + i) - rangeStart;
+                }
+                nextPermutation(0, permutation.length, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = Math.max(change.getFrom(), rangeStart); i < Math.min(change.getTo(), rangeEnd); i++) {
+                    nextUpdate(i - rangeStart);
+                }
+            } else {
+                // the bookings are sorted, so the bookings before the range come first, then those in the range
+                List<? extends Booking> removed = change.getRemoved();
+                int removedBefore = countStartingBefore(removed, from, false);
+                List<Booking> removedInRange = new ArrayList<>(removed.subList(removedBefore,
+                        countStartingBefore(removed, to, true)));
+                List<? extends Booking> added = change.getAddedSubList();
+                int addedBefore = countStartingBefore(added, from, false);
+                int addedInRange = countStartingBefore(added, to, true) - addedBefore;
+
+                if (!removedInRange.isEmpty() && addedInRange > 0) {
+                    nextReplace(viewFrom, viewFrom + addedInRange, removedInRange);
+                } else if (!removedInRange.isEmpty()) {
+                    nextRemove(viewFrom, removedInRange);
+                } else if (addedInRange > 0) {
+                    nextAdd(viewFrom, viewFrom + addedInRange);
+                }
+                rangeStart += addedBefore - removedBefore;
+                rangeEnd += addedBefore + addedInRange - removedBefore - removedInRange.size();
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the number of bookings at the start of the sorted {@code bookings} that start before {@code time}, or
+     * also at {@code time} if {@code isInclusive}.
+     */
+    private static int countStartingBefore(List<? extends Booking> bookings, LocalDateTime time,
+            boolean isInclusive) {
+        int low = 0;
+        int high = bookings.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = bookings.get(mid).getStartTime().compareTo(time);
+            if (comparison < 0 || (isInclusive && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
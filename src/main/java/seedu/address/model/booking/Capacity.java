@@ -3,11 +3,13 @@ package seedu.address.model.booking;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import seedu.address.commons.core.flightrecorder.CapacityCheckEvent;
 
 /**
  * Used to ensure that all bookings stays within the capacity of the restaurant.
@@ -65,6 +67,40 @@ public class Capacity {
      * Guarantees that the list {@code bookings} does not change.
      */
     public boolean canAccommodate(List<Booking> bookings) {
+        CapacityCheckEvent checkEvent = new CapacityCheckEvent(CapacityCheckEvent.CAN_ACCOMMODATE);
+        checkEvent.begin();
+        boolean canAccommodate = canAccommodateEvents(bookings);
+        checkEvent.end();
+        if (checkEvent.shouldCommit()) {
+            checkEvent.setCapacity(value);
+            checkEvent.setItemCount(bookings.size());
+            checkEvent.setAccommodated(canAccommodate);
+            checkEvent.commit();
+        }
+        return canAccommodate;
+    }
+
+    /**
+     * Checks if the capacity is sufficient to hold the bookings in {@code timeline}.
+     */
+    public boolean canAccommodate(OccupancyTimeline timeline) {
+        CapacityCheckEvent checkEvent = new CapacityCheckEvent(CapacityCheckEvent.CAN_ACCOMMODATE);
+        checkEvent.begin();
+        boolean canAccommodate = timeline.getMaxOccupancy() <= value;
+        checkEvent.end();
+        if (checkEvent.shouldCommit()) {
+            checkEvent.setCapacity(value);
+            checkEvent.setItemCount(timeline.getChangeCount());
+            checkEvent.setAccommodated(canAccommodate);
+            checkEvent.commit();
+        }
+        return canAccommodate;
+    }
+
+    /**
+     * Checks if the capacity is sufficient to hold the arrivals and departures of {@code bookings}.
+     */
+    private boolean canAccommodateEvents(List<Booking> bookings) {
         List<Event> events = new ArrayList<>();
         for (Booking booking: bookings) {
             Event arrival = new Event(booking.getNumMembers().getSize(), booking.getStartTime());
@@ -97,48 +133,72 @@ public class Capacity {
     }
 
     /**
-     * Suggests a possible time to accommodate the booking. {@code toAdd} cannot contain more members than the capacity.
-     * Pre-condition 1: toAdd.getNumMembers().getSize() > value. In other words, the number of persons cannot exceed
+     * Checks if adding the booking {@code toAdd} to the bookings in {@code timeline} will result in exceeding the
+     * capacity. Only the window of {@code toAdd} is examined, and {@code timeline} is not modified.
+     * Pre-condition: the bookings in {@code timeline} must fit within the capacity.
+     */
+    public boolean canAddBooking(Booking toAdd, OccupancyTimeline timeline) {
+        CapacityCheckEvent checkEvent = new CapacityCheckEvent(CapacityCheckEvent.CAN_ADD_BOOKING);
+        checkEvent.begin();
+        int numPersons = toAdd.getNumMembers().getSize();
+        int maxOccupancy = timeline.getMaxOccupancy(toAdd.getStartTime(), toAdd.getEndTime());
+        boolean canAddBooking = maxOccupancy + numPersons <= value;
+        checkEvent.end();
+        if (checkEvent.shouldCommit()) {
+            checkEvent.setCapacity(value);
+            checkEvent.setNumPersons(numPersons);
+            checkEvent.setItemCount(timeline.getChangeCount());
+            checkEvent.setAccommodated(canAddBooking);
+            checkEvent.commit();
+        }
+        return canAddBooking;
+    }
+
+    /**
+     * Suggests a possible time to accommodate the booking.
+     * Pre-condition 1: toAdd.getNumMembers().getSize() <= value. In other words, the number of persons cannot exceed
      * the capacity value.
-     * Pre-condition 2: {@code existingBookings} must fit within the capacity (as described by {@code canAccommodate})
+     * Pre-condition 2: the bookings in {@code timeline} must fit within the capacity (as described by
+     * {@code canAccommodate})
      * @param toAdd The booking that the user wishes to add
-     * @param existingBookings The current list of bookings.
+     * @param timeline The occupancy of the current bookings.
      * @return The next available time that the restaurant can accommodate the booking, subjected to the constraint
-     * that the returned time must occur after {@code toAdd}. In other words, suggestion always shifts the booking
+     * that the returned time must not occur before {@code toAdd}. In other words, suggestion always shifts the booking
      * later and never earlier.
      */
-    public LocalDateTime suggestNextAvailableTime(Booking toAdd, List<Booking> existingBookings) {
-        if (!canAccommodate(existingBookings)) {
-            throw new IllegalArgumentException("The current booking list does not fit in the capacity.");
-        }
+    public LocalDateTime suggestNextAvailableTime(Booking toAdd, OccupancyTimeline timeline) {
+        return suggestAvailableTimes(toAdd, timeline, 1).get(0);
+    }
 
-        if (toAdd.getNumMembers().getSize() > value) {
+    /**
+     * Suggests up to {@code limit} possible times to accommodate the booking, earliest first.
+     * The pre-conditions of {@code suggestNextAvailableTime} apply, and {@code limit} must be positive.
+     * The restaurant always empties out after the last booking, so at least one time is returned.
+     */
+    public List<LocalDateTime> suggestAvailableTimes(Booking toAdd, OccupancyTimeline timeline, int limit) {
+        requireNonNull(timeline);
+        checkArgument(limit > 0, "At least one suggestion must be requested.");
+        CapacityCheckEvent checkEvent = new CapacityCheckEvent(CapacityCheckEvent.SUGGEST_AVAILABLE_TIMES);
+        checkEvent.begin();
+        int numPersons = toAdd.getNumMembers().getSize();
+        if (numPersons > value) {
             throw new IllegalArgumentException("This booking cannot be accepted.");
         }
 
-        assert(canAccommodate(existingBookings));
-        if (canAddBooking(toAdd, existingBookings)) {
-            return toAdd.getStartTime();
-        }
-
-        // We only need to check the timings which correspond to end time of another booking
-        // The best time for a customer to arrive is when another customer leaves
-        List<LocalDateTime> possibleTimings =
-                existingBookings.stream().map(Booking::getEndTime).sorted().collect(Collectors.toList());
-        for (LocalDateTime endTime : possibleTimings) {
-            if (endTime.isAfter(toAdd.getStartTime())) {
-                BookingWindow suggestedBookingWindow = new BookingWindow(endTime);
-                Booking suggestedBooking =
-                        new Booking(suggestedBookingWindow, toAdd.getCustomer(), toAdd.getNumMembers());
-                if (canAddBooking(suggestedBooking, existingBookings)) {
-                    return endTime;
-                }
-            }
+        Duration duration = Duration.between(toAdd.getStartTime(), toAdd.getEndTime());
+        List<LocalDateTime> suggestions =
+                timeline.findAvailableStartTimes(toAdd.getStartTime(), duration, value - numPersons, limit);
+        assert !suggestions.isEmpty();
+        checkEvent.end();
+        if (checkEvent.shouldCommit()) {
+            checkEvent.setCapacity(value);
+            checkEvent.setNumPersons(numPersons);
+            checkEvent.setItemCount(timeline.getChangeCount());
+            checkEvent.setAccommodated(suggestions.get(0).equals(toAdd.getStartTime()));
+            checkEvent.setSuggestionCount(suggestions.size());
+            checkEvent.commit();
         }
-        // as the pre-conditions are checked, it is impossible to loop through all the possible timings without
-        // returning an answer
-        assert(false);
-        throw new IllegalArgumentException("This booking cannot be accepted.");
+        return suggestions;
     }
 
     /**
@@ -0,0 +1,247 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the number of persons booked on each day and in each hour of the day, updated one booking at a time
+ * instead of being recomputed from the whole booking list.
+ * The days are grouped into blocks of consecutive days that also hold their totals, so the number of persons over a
+ * range of days is found without visiting every day in the range. Blocks without bookings are not stored, so the
+ * bookings may be spread over any number of years.
+ */
+public class CoverCounts {
+
+    public static final int HOURS_IN_A_DAY = 24;
+
+    private static final int DAYS_PER_BLOCK = 32;
+    /** Column of the counts for the whole day, after the columns for each hour. */
+    private static final int WHOLE_DAY = HOURS_IN_A_DAY;
+    private static final int COLUMNS = HOURS_IN_A_DAY + 1;
+
+    private final Map<Long, Block> blocks = new HashMap<>();
+
+    public CoverCounts() {}
+
+    /**
+     * Creates a {@code CoverCounts} holding all of {@code bookings}.
+     */
+    public CoverCounts(Collection<Booking> bookings) {
+        setBookings(bookings);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public CoverCounts(CoverCounts toBeCopied) {
+        requireNonNull(toBeCopied);
+        toBeCopied.blocks.forEach((blockIndex, block) -> blocks.put(blockIndex, new Block(block)));
+    }
+
+    /**
+     * Replaces the contents of this {@code CoverCounts} with {@code bookings}.
+     */
+    public void setBookings(Collection<Booking> bookings) {
+        requireNonNull(bookings);
+        blocks.clear();
+        bookings.forEach(this::add);
+    }
+
+    /**
+     * Adds the persons of {@code booking} to the counts.
+     */
+    public void add(Booking booking) {
+        update(booking.getStartTime(), booking.getNumMembers().getSize());
+    }
+
+    /**
+     * Adds {@code persons} to the counts of the hour {@code hour} of {@code date}.
+     */
+    public void add(LocalDate date, int hour, int persons) {
+        requireNonNull(date);
+        checkArgument(0 <= hour && hour < HOURS_IN_A_DAY);
+        update(date.toEpochDay(), hour, persons);
+    }
+
+    /**
+     * Removes the persons of {@code booking} from the counts.
+     * {@code booking} must have been added to the counts.
+     */
+    public void remove(Booking booking) {
+        update(booking.getStartTime(), -booking.getNumMembers().getSize());
+    }
+
+    /**
+     * Returns true if no persons are counted.
+     */
+    public boolean isEmpty() {
+        return blocks.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons booked from {@code firstDate} to {@code lastDate} inclusive.
+     */
+    public int getCovers(LocalDate firstDate, LocalDate lastDate) {
+        return sum(firstDate, lastDate, WHOLE_DAY);
+    }
+
+    /**
+     * Returns the number of persons booked to start in the hour {@code hour} of the days from {@code firstDate} to
+     * {@code lastDate} inclusive.
+     */
+    public int getCovers(LocalDate firstDate, LocalDate lastDate, int hour) {
+        checkArgument(0 <= hour && hour < HOURS_IN_A_DAY);
+        return sum(firstDate, lastDate, hour);
+    }
+
+    /**
+     * Returns the days on which any persons are booked, earliest first.
+     */
+    public List<LocalDate> getDates() {
+        List<Long> blockIndices = new ArrayList<>(blocks.keySet());
+        blockIndices.sort(null);
+        List<LocalDate> dates = new ArrayList<>();
+        for (long blockIndex : blockIndices) {
+            Block block = blocks.get(blockIndex);
+            for (int day = 0; day < DAYS_PER_BLOCK; day++) {
+                if (block.counts[day * COLUMNS + WHOLE_DAY] != 0) {
+                    dates.add(LocalDate.ofEpochDay(blockIndex * DAYS_PER_BLOCK + day));
+                }
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the number of persons booked to start in each hour of {@code date}, indexed by hour.
+     */
+    public int[] getHourlyCovers(LocalDate date) {
+        long day = date.toEpochDay();
+        Block block = blocks.get(Math.floorDiv(day, DAYS_PER_BLOCK));
+        if (block == null) {
+            return new int[HOURS_IN_A_DAY];
+        }
+        int from = Math.floorMod(day, DAYS_PER_BLOCK) * COLUMNS;
+        return Arrays.copyOfRange(block.counts, from, from + HOURS_IN_A_DAY);
+    }
+
+    /**
+     * Adds {@code persons} to the counts of the day and hour of {@code startTime}.
+     */
+    private void update(LocalDateTime startTime, int persons) {
+        update(startTime.toLocalDate().toEpochDay(), startTime.getHour(), persons);
+    }
+
+    /**
+     * Adds {@code persons} to the counts of the hour {@code hour} of the day {@code day} after the epoch.
+     */
+    private void update(long day, int hour, int persons) {
+        long blockIndex = Math.floorDiv(day, DAYS_PER_BLOCK);
+        int dayInBlock = Math.floorMod(day, DAYS_PER_BLOCK);
+
+        Block block = blocks.computeIfAbsent(blockIndex, unused -> new Block());
+        block.add(dayInBlock, hour, persons);
+        if (block.totals[WHOLE_DAY] == 0) {
+            blocks.remove(blockIndex);
+        }
+    }
+
+    /**
+     * Returns the sum of {@code column} over the days from {@code firstDate} to {@code lastDate} inclusive.
+     */
+    private int sum(LocalDate firstDate, LocalDate lastDate, int column) {
+        long firstDay = firstDate.toEpochDay();
+        long lastDay = lastDate.toEpochDay();
+        int sum = 0;
+        for (long blockIndex = Math.floorDiv(firstDay, DAYS_PER_BLOCK);
+                blockIndex <= Math.floorDiv(lastDay, DAYS_PER_BLOCK); blockIndex++) {
+            Block block = blocks.get(blockIndex);
+            if (block == null) {
+                continue;
+            }
+            long blockFirstDay = blockIndex * DAYS_PER_BLOCK;
+            int from = (int) Math.max(firstDay - blockFirstDay, 0);
+            int to = (int) Math.min(lastDay - blockFirstDay, DAYS_PER_BLOCK - 1);
+            sum += block.sum(from, to, column);
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CoverCounts // instanceof handles nulls
+                && blocks.equals(((CoverCounts) other).blocks));
+    }
+
+    @Override
+    public int hashCode() {
+        return blocks.hashCode();
+    }
+
+    /**
+     * The counts of each hour and of the whole day, for each day in a block of consecutive days.
+     */
+    private static class Block {
+        /** The count of column {@code c} on day {@code d} of the block is at {@code d * COLUMNS + c}. */
+        private final int[] counts;
+        private final int[] totals;
+
+        Block() {
+            counts = new int[DAYS_PER_BLOCK * COLUMNS];
+            totals = new int[COLUMNS];
+        }
+
+        /**
+         * Creates a copy of {@code toBeCopied}.
+         */
+        Block(Block toBeCopied) {
+            counts = toBeCopied.counts.clone();
+            totals = toBeCopied.totals.clone();
+        }
+
+        /**
+         * Adds {@code persons} to the counts of {@code hour} on day {@code day} of this block.
+         */
+        void add(int day, int hour, int persons) {
+            counts[day * COLUMNS + hour] += persons;
+            counts[day * COLUMNS + WHOLE_DAY] += persons;
+            totals[hour] += persons;
+            totals[WHOLE_DAY] += persons;
+        }
+
+        /**
+         * Returns the sum of {@code column} over the days {@code from} to {@code to} inclusive of this block.
+         */
+        int sum(int from, int to, int column) {
+            if (from == 0 && to == DAYS_PER_BLOCK - 1) {
+                return totals[column];
+            }
+            int sum = 0;
+            for (int day = from; day <= to; day++) {
+                sum += counts[day * COLUMNS + column];
+            }
+            return sum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // the totals follow from the counts
+            return other == this || (other instanceof Block && Arrays.equals(counts, ((Block) other).counts));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(counts);
+        }
+    }
+}
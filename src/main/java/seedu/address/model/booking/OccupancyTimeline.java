@@ -0,0 +1,231 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the number of persons in the restaurant over time, as a step function that is updated one booking at a
+ * time instead of being recomputed from the whole booking list.
+ * Each key is a time at which the occupancy changes, mapped to the occupancy from that time until the next key.
+ * Before the first key, the restaurant is empty.
+ */
+public class OccupancyTimeline {
+
+    private final TreeMap<LocalDateTime, Integer> occupancy = new TreeMap<>();
+
+    public OccupancyTimeline() {}
+
+    /**
+     * Creates an {@code OccupancyTimeline} holding all of {@code bookings}.
+     */
+    public OccupancyTimeline(Collection<Booking> bookings) {
+        setBookings(bookings);
+    }
+
+    /**
+     * Replaces the contents of this timeline with {@code bookings} in a single sweep.
+     */
+    public void setBookings(Collection<Booking> bookings) {
+        requireNonNull(bookings);
+        TreeMap<LocalDateTime, Integer> changeInPersons = new TreeMap<>();
+        for (Booking booking : bookings) {
+            int size = booking.getNumMembers().getSize();
+            changeInPersons.merge(booking.getStartTime(), size, Integer::sum);
+            changeInPersons.merge(booking.getEndTime(), -size, Integer::sum);
+        }
+
+        occupancy.clear();
+        int currentOccupancy = 0;
+        for (Map.Entry<LocalDateTime, Integer> change : changeInPersons.entrySet()) {
+            if (change.getValue() != 0) {
+                currentOccupancy += change.getValue();
+                occupancy.put(change.getKey(), currentOccupancy);
+            }
+        }
+    }
+
+    /**
+     * Adds the persons of {@code booking} to the timeline.
+     */
+    public void add(Booking booking) {
+        update(booking.getStartTime(), booking.getEndTime(), booking.getNumMembers().getSize());
+    }
+
+    /**
+     * Removes the persons of {@code booking} from the timeline.
+     * {@code booking} must have been added to the timeline.
+     */
+    public void remove(Booking booking) {
+        update(booking.getStartTime(), booking.getEndTime(), -booking.getNumMembers().getSize());
+    }
+
+    /**
+     * Removes all bookings from the timeline.
+     */
+    public void clear() {
+        occupancy.clear();
+    }
+
+    /**
+     * Returns the number of times at which the occupancy changes.
+     */
+    public int getChangeCount() {
+        return occupancy.size();
+    }
+
+    /**
+     * Returns the number of persons in the restaurant at {@code time}.
+     */
+    public int getOccupancyAt(LocalDateTime time) {
+        Map.Entry<LocalDateTime, Integer> entry = occupancy.floorEntry(time);
+        return entry == null ? 0 : entry.getValue();
+    }
+
+    /**
+     * Returns the highest number of persons in the restaurant at any time from {@code start} (inclusive)
+     * to {@code end} (exclusive).
+     */
+    public int getMaxOccupancy(LocalDateTime start, LocalDateTime end) {
+        int maxOccupancy = getOccupancyAt(start);
+        for (int value : occupancy.subMap(start, false, end, false).values()) {
+            maxOccupancy = Math.max(maxOccupancy, value);
+        }
+        return maxOccupancy;
+    }
+
+    /**
+     * Returns the highest number of persons in the restaurant at any time.
+     */
+    public int getMaxOccupancy() {
+        int maxOccupancy = 0;
+        for (int value : occupancy.values()) {
+            maxOccupancy = Math.max(maxOccupancy, value);
+        }
+        return maxOccupancy;
+    }
+
+    /**
+     * Finds up to {@code limit} start times, in chronological order, at which a stay of {@code duration} would never
+     * see more than {@code maxOccupancy} persons in the restaurant.
+     * The first candidate is {@code earliestStart} itself. After that, only the times at which the occupancy drops
+     * are considered, since a stay starting at any other time could have started earlier.
+     * The search slides a window over the timeline once, keeping the highest occupancies within the window in a
+     * monotonic deque, so it runs in O(log n + k) time where k is the number of changes scanned.
+     */
+    public List<LocalDateTime> findAvailableStartTimes(LocalDateTime earliestStart, Duration duration,
+            int maxOccupancy, int limit) {
+        requireNonNull(earliestStart);
+        requireNonNull(duration);
+        List<LocalDateTime> availableStartTimes = new ArrayList<>();
+        Collection<Map.Entry<LocalDateTime, Integer>> laterChanges = occupancy.tailMap(earliestStart, false).entrySet();
+        Iterator<Map.Entry<LocalDateTime, Integer>> candidates = laterChanges.iterator();
+        Iterator<Map.Entry<LocalDateTime, Integer>> windowEnds = laterChanges.iterator();
+        Map.Entry<LocalDateTime, Integer> nextWindowEnd = windowEnds.hasNext() ? windowEnds.next() : null;
+        // changes within the current window, in decreasing order of occupancy
+        Deque<Map.Entry<LocalDateTime, Integer>> highestInWindow = new ArrayDeque<>();
+
+        LocalDateTime start = earliestStart;
+        int occupancyAtStart = getOccupancyAt(earliestStart);
+        while (availableStartTimes.size() < limit) {
+            while (!highestInWindow.isEmpty() && !highestInWindow.peekFirst().getKey().isAfter(start)) {
+                highestInWindow.pollFirst();
+            }
+            LocalDateTime end = start.plus(duration);
+            while (nextWindowEnd != null && nextWindowEnd.getKey().isBefore(end)) {
+                // changes up to the start were passed over by a jump of the start, and are already outside the window
+                if (nextWindowEnd.getKey().isAfter(start)) {
+                    while (!highestInWindow.isEmpty()
+                            && highestInWindow.peekLast().getValue() <= nextWindowEnd.getValue()) {
+                        highestInWindow.pollLast();
+                    }
+                    highestInWindow.addLast(nextWindowEnd);
+                }
+                nextWindowEnd = windowEnds.hasNext() ? windowEnds.next() : null;
+            }
+
+            int highestOccupancy = highestInWindow.isEmpty()
+                    ? occupancyAtStart
+                    : Math.max(occupancyAtStart, highestInWindow.peekFirst().getValue());
+            if (highestOccupancy <= maxOccupancy) {
+                availableStartTimes.add(start);
+            }
+
+            // advance to the next time at which the occupancy drops
+            int previousOccupancy = occupancyAtStart;
+            Map.Entry<LocalDateTime, Integer> candidate = null;
+            while (candidates.hasNext()) {
+                Map.Entry<LocalDateTime, Integer> change = candidates.next();
+                if (change.getValue() < previousOccupancy) {
+                    candidate = change;
+                    break;
+                }
+                previousOccupancy = change.getValue();
+            }
+            if (candidate == null) {
+                break;
+            }
+            start = candidate.getKey();
+            occupancyAtStart = candidate.getValue();
+        }
+        return availableStartTimes;
+    }
+
+    /**
+     * Adds {@code changeInPersons} to the occupancy from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    private void update(LocalDateTime start, LocalDateTime end, int changeInPersons) {
+        splitAt(start);
+        splitAt(end);
+        for (Map.Entry<LocalDateTime, Integer> entry : occupancy.subMap(start, true, end, false).entrySet()) {
+            entry.setValue(entry.getValue() + changeInPersons);
+        }
+        mergeAt(start);
+        mergeAt(end);
+    }
+
+    /**
+     * Ensures that {@code time} is a key, without changing the step function.
+     */
+    private void splitAt(LocalDateTime time) {
+        if (!occupancy.containsKey(time)) {
+            occupancy.put(time, getOccupancyAt(time));
+        }
+    }
+
+    /**
+     * Removes the key {@code time} if the occupancy does not change at that time.
+     */
+    private void mergeAt(LocalDateTime time) {
+        Integer value = occupancy.get(time);
+        if (value == null) {
+            return;
+        }
+        Map.Entry<LocalDateTime, Integer> previous = occupancy.lowerEntry(time);
+        int previousValue = previous == null ? 0 : previous.getValue();
+        if (value == previousValue) {
+            occupancy.remove(time);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OccupancyTimeline // instanceof handles nulls
+                && occupancy.equals(((OccupancyTimeline) other).occupancy)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return occupancy.hashCode();
+    }
+}
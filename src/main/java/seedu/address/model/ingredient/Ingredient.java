@@ -59,6 +59,11 @@ public class Ingredient implements Item {
         }
     }
 
+    @Override
+    public Object getIdentityKey() {
+        return ingredientName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
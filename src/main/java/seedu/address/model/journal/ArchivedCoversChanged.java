@@ -0,0 +1,60 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.booking.CoverCounts;
+
+/**
+ * Records that the persons counted from bookings no longer kept in the booking list were changed, such as when old
+ * bookings are archived.
+ * The counts are never modified once recorded, so they are shared rather than copied.
+ */
+public class ArchivedCoversChanged implements Change {
+
+    private final CoverCounts oldArchivedCovers;
+    private final CoverCounts newArchivedCovers;
+
+    public ArchivedCoversChanged(CoverCounts oldArchivedCovers, CoverCounts newArchivedCovers) {
+        requireAllNonNull(oldArchivedCovers, newArchivedCovers);
+        this.oldArchivedCovers = oldArchivedCovers;
+        this.newArchivedCovers = newArchivedCovers;
+    }
+
+    public CoverCounts getOldArchivedCovers() {
+        return oldArchivedCovers;
+    }
+
+    public CoverCounts getNewArchivedCovers() {
+        return newArchivedCovers;
+    }
+
+    @Override
+    public Change inverse() {
+        return new ArchivedCoversChanged(newArchivedCovers, oldArchivedCovers);
+    }
+
+    @Override
+    public int getItemCount() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchivedCoversChanged // instanceof handles nulls
+                && oldArchivedCovers.equals(((ArchivedCoversChanged) other).oldArchivedCovers)
+                && newArchivedCovers.equals(((ArchivedCoversChanged) other).newArchivedCovers));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oldArchivedCovers, newArchivedCovers);
+    }
+
+    @Override
+    public String toString() {
+        return "Changed archived covers";
+    }
+}
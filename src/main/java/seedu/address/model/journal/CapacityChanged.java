@@ -0,0 +1,58 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.booking.Capacity;
+
+/**
+ * Records that the capacity of the restaurant was changed.
+ */
+public class CapacityChanged implements Change {
+
+    private final Capacity oldCapacity;
+    private final Capacity newCapacity;
+
+    public CapacityChanged(Capacity oldCapacity, Capacity newCapacity) {
+        requireAllNonNull(oldCapacity, newCapacity);
+        this.oldCapacity = oldCapacity;
+        this.newCapacity = newCapacity;
+    }
+
+    public Capacity getOldCapacity() {
+        return oldCapacity;
+    }
+
+    public Capacity getNewCapacity() {
+        return newCapacity;
+    }
+
+    @Override
+    public Change inverse() {
+        return new CapacityChanged(newCapacity, oldCapacity);
+    }
+
+    @Override
+    public int getItemCount() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CapacityChanged // instanceof handles nulls
+                && oldCapacity.equals(((CapacityChanged) other).oldCapacity)
+                && newCapacity.equals(((CapacityChanged) other).newCapacity));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oldCapacity, newCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "Changed capacity from " + oldCapacity + " to " + newCapacity;
+    }
+}
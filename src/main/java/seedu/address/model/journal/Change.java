@@ -0,0 +1,18 @@
+package seedu.address.model.journal;
+
+/**
+ * A change made to a {@code RestaurantBook}.
+ * A change holds everything needed to apply it again, and to revert it through its inverse.
+ */
+public interface Change {
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    Change inverse();
+
+    /**
+     * Returns the number of items held by this change, as an estimate of its memory usage.
+     */
+    int getItemCount();
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sequence of changes that are applied together, such as all the changes made by one command.
+ * The changes are applied in order, and reverted in the reverse order.
+ */
+public class ChangeSet implements Change {
+
+    private final List<Change> changes;
+
+    public ChangeSet(List<Change> changes) {
+        requireAllNonNull(changes);
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public Change inverse() {
+        List<Change> inverseChanges = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverseChanges.add(changes.get(i).inverse());
+        }
+        return new ChangeSet(inverseChanges);
+    }
+
+    @Override
+    public int getItemCount() {
+        return changes.stream().mapToInt(Change::getItemCount).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ChangeSet // instanceof handles nulls
+                && changes.equals(((ChangeSet) other).changes));
+    }
+
+    @Override
+    public int hashCode() {
+        return changes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return changes.toString();
+    }
+}
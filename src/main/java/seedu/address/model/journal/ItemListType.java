@@ -0,0 +1,12 @@
+package seedu.address.model.journal;
+
+/**
+ * Identifies one of the item lists in a {@code RestaurantBook}.
+ */
+public enum ItemListType {
+    MEMBERS,
+    BOOKINGS,
+    INGREDIENTS,
+    RECIPES,
+    STAFF
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.Item;
+
+/**
+ * Records that {@code item} was removed from {@code index} of a list.
+ */
+public class ItemRemoved implements Change {
+
+    private final ItemListType listType;
+    private final int index;
+    private final Item item;
+
+    public ItemRemoved(ItemListType listType, int index, Item item) {
+        requireAllNonNull(listType, item);
+        this.listType = listType;
+        this.index = index;
+        this.item = item;
+    }
+
+    public ItemListType getListType() {
+        return listType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public Change inverse() {
+        return new ItemAdded(listType, index, item);
+    }
+
+    @Override
+    public int getItemCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ItemRemoved // instanceof handles nulls
+                && listType == ((ItemRemoved) other).listType
+                && index == ((ItemRemoved) other).index
+                && item.equals(((ItemRemoved) other).item));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(listType, index, item);
+    }
+
+    @Override
+    public String toString() {
+        return "Removed from " + listType + " at " + index + ": " + item;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.Item;
+
+/**
+ * Records that {@code oldItem} at {@code index} of a list was replaced by {@code newItem}.
+ */
+public class ItemReplaced implements Change {
+
+    private final ItemListType listType;
+    private final int index;
+    private final Item oldItem;
+    private final Item newItem;
+
+    public ItemReplaced(ItemListType listType, int index, Item oldItem, Item newItem) {
+        requireAllNonNull(listType, oldItem, newItem);
+        this.listType = listType;
+        this.index = index;
+        this.oldItem = oldItem;
+        this.newItem = newItem;
+    }
+
+    public ItemListType getListType() {
+        return listType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Item getOldItem() {
+        return oldItem;
+    }
+
+    public Item getNewItem() {
+        return newItem;
+    }
+
+    @Override
+    public Change inverse() {
+        return new ItemReplaced(listType, index, newItem, oldItem);
+    }
+
+    @Override
+    public int getItemCount() {
+        return 2;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ItemReplaced // instanceof handles nulls
+                && listType == ((ItemReplaced) other).listType
+                && index == ((ItemReplaced) other).index
+                && oldItem.equals(((ItemReplaced) other).oldItem)
+                && newItem.equals(((ItemReplaced) other).newItem));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(listType, index, oldItem, newItem);
+    }
+
+    @Override
+    public String toString() {
+        return "Replaced in " + listType + " at " + index + ": " + oldItem + " with " + newItem;
+    }
+}
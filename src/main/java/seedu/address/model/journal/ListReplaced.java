@@ -0,0 +1,70 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.Item;
+
+/**
+ * Records that the whole contents of a list were replaced.
+ */
+public class ListReplaced implements Change {
+
+    private final ItemListType listType;
+    private final List<? extends Item> oldItems;
+    private final List<? extends Item> newItems;
+
+    /**
+     * Neither {@code oldItems} nor {@code newItems} may change afterwards.
+     */
+    public ListReplaced(ItemListType listType, List<? extends Item> oldItems, List<? extends Item> newItems) {
+        requireAllNonNull(listType, oldItems, newItems);
+        this.listType = listType;
+        this.oldItems = Collections.unmodifiableList(oldItems);
+        this.newItems = Collections.unmodifiableList(newItems);
+    }
+
+    public ItemListType getListType() {
+        return listType;
+    }
+
+    public List<? extends Item> getOldItems() {
+        return oldItems;
+    }
+
+    public List<? extends Item> getNewItems() {
+        return newItems;
+    }
+
+    @Override
+    public Change inverse() {
+        return new ListReplaced(listType, newItems, oldItems);
+    }
+
+    @Override
+    public int getItemCount() {
+        return oldItems.size() + newItems.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListReplaced // instanceof handles nulls
+                && listType == ((ListReplaced) other).listType
+                && oldItems.equals(((ListReplaced) other).oldItems)
+                && newItems.equals(((ListReplaced) other).newItems));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(listType, oldItems, newItems);
+    }
+
+    @Override
+    public String toString() {
+        return "Replaced " + listType + ": " + oldItems.size() + " items with " + newItems.size() + " items";
+    }
+}
@@ -40,6 +40,14 @@ public abstract class Person implements Item {
         return email;
     }
 
+    /**
+     * Persons with the same identity always share the same name.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return name;
+    }
+
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
@@ -2,12 +2,10 @@ package seedu.address.model.recipe;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.model.Item;
 import seedu.address.model.ingredient.Ingredient;
-import seedu.address.model.ingredient.IngredientQuantity;
 
 /**
  * A class to represent a recipe.
@@ -31,19 +29,16 @@ public class Recipe implements Item {
     }
 
     /**
-     * Updates the set of ingredients due to a change in ingredients.
+     * Returns a copy of this recipe with {@code target} replaced by {@code editedIngredient}.
+     * This recipe is not modified.
      */
     public Recipe editIngredientSet(Ingredient target, Ingredient editedIngredient) {
-        IngredientQuantity quantityInRecipe = ingredientsInRecipe.getIngredientMap().get(target);
-        Map<Ingredient, IngredientQuantity> ingredientSetToEdit = ingredientsInRecipe.getIngredientMap();
-        ingredientSetToEdit.remove(target);
-        ingredientSetToEdit.put(editedIngredient, quantityInRecipe);
-        RecipeIngredientSet newIngredientSetInRecipe = new RecipeIngredientSet(ingredientSetToEdit);
-        return new Recipe(recipeName, newIngredientSetInRecipe);
+        return new Recipe(recipeName,
+                ingredientsInRecipe.replaceIngredient(target.getIngredientName(), editedIngredient));
     }
 
     public boolean containsIngredient(Ingredient target) {
-        return ingredientsInRecipe.getIngredientMap().containsKey(target);
+        return ingredientsInRecipe.contains(target.getIngredientName());
     }
 
 
@@ -67,6 +62,11 @@ public class Recipe implements Item {
         }
     }
 
+    @Override
+    public Object getIdentityKey() {
+        return recipeName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,7 +76,7 @@ public class Recipe implements Item {
             return false;
         }
         return recipeName.equals(((Recipe) other).getRecipeName())
-                && ingredientsInRecipe.equals((RecipeIngredientSet) other);
+                && ingredientsInRecipe.equals(((Recipe) other).getRecipeIngredientSet());
     }
 
     @Override
@@ -2,16 +2,24 @@ package seedu.address.model.recipe;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientName;
 import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.ingredient.IngredientUnit;
 
 /**
  * A class to represent the ingredients used in a recipe.
- * The Ingredient is stored along with the respective ingredientQuantity required in the recipe,
- * as a Map containing Ingredient as key and IngredientQuantity as value.
+ * Ingredients are referred to by their name, which does not change when the ingredient is restocked or consumed,
+ * along with their unit and the quantity required for each serving of the recipe.
+ * Guarantees: immutable.
  */
 
 public class RecipeIngredientSet {
@@ -28,39 +36,56 @@ public class RecipeIngredientSet {
             "There cannot be duplicate ingredients in the recipe,"
                     + " i.e., there cannot be duplicate ingredient indexes provided. \n";
 
-    private Map<Ingredient, IngredientQuantity> ingredientMap;
-    private int numberOfServings;
+    private static final Comparator<IngredientName> NAME_ORDER = Comparator.comparing(IngredientName::getName);
 
+    // Parallel arrays sorted by ingredient name, so that the quantity required of an ingredient is found by a
+    // binary search and equal sets compare equal regardless of the order the ingredients were given in.
+    private final IngredientName[] ingredientNames;
+    private final IngredientUnit[] ingredientUnits;
+    private final int[] requiredQuantities;
 
     /**
      * Constructs a {@code RecipeIngredientSet}.
-     * Calls the method to calculate the number of servings possible with the
-     * current ingredient inventory at instantiation.
+     * Only the name and unit of each ingredient are kept, so the set is not affected by changes in the
+     * quantity of the ingredients in the inventory.
      *
      * @param map A valid map containing ingredient as key and ingredientQuantity as value.
      */
     public RecipeIngredientSet(Map<Ingredient, IngredientQuantity> map) {
         requireNonNull(map);
-        this.ingredientMap = map;
-        this.numberOfServings = calculateNumberOfServings(map);
+        List<Ingredient> ingredients = new ArrayList<>(map.keySet());
+        ingredients.sort(Comparator.comparing(Ingredient::getIngredientName, NAME_ORDER));
+
+        int size = ingredients.size();
+        ingredientNames = new IngredientName[size];
+        ingredientUnits = new IngredientUnit[size];
+        requiredQuantities = new int[size];
+        for (int i = 0; i < size; i++) {
+            Ingredient ingredient = ingredients.get(i);
+            ingredientNames[i] = ingredient.getIngredientName();
+            ingredientUnits[i] = ingredient.getIngredientUnit();
+            requiredQuantities[i] = map.get(ingredient).getQuantity();
+        }
+    }
+
+    private RecipeIngredientSet(IngredientName[] ingredientNames, IngredientUnit[] ingredientUnits,
+                                int[] requiredQuantities) {
+        this.ingredientNames = ingredientNames;
+        this.ingredientUnits = ingredientUnits;
+        this.requiredQuantities = requiredQuantities;
     }
 
     /**
-     * Calculates the number of servings possible with current ingredient inventory.
+     * Calculates the number of servings possible with the given ingredient inventory.
      *
-     * @param ingredQuantitymap A map containing ingredient as key and ingredientQuantity as value.
+     * @param quantityInInventory Returns the quantity in the inventory of the ingredient with the given name.
      * @return minimumNumberOfServings The number of servings possible for the recipe.
      */
-    public int calculateNumberOfServings(Map<Ingredient, IngredientQuantity> ingredQuantitymap) {
+    public int calculateNumberOfServings(ToIntFunction<IngredientName> quantityInInventory) {
         int minimumNumberOfServings = Integer.MAX_VALUE;
-        Iterator<Ingredient> it = ingredQuantitymap.keySet().iterator();
-        while (it.hasNext()) {
-            Ingredient ingred = it.next();
-            IngredientQuantity ingredQuantityInInventory = ingred.getIngredientQuantity();
-            IngredientQuantity ingredQuantityForRecipe = (IngredientQuantity) ingredQuantitymap.get(ingred);
-            assert ingredQuantityForRecipe.getQuantity() != 0
-                    : "Ingredient Quantity for each serving in recipe should not be 0";
-            int numberOfServings = ingredQuantityInInventory.getQuantity() / ingredQuantityForRecipe.getQuantity();
+        for (int i = 0; i < ingredientNames.length; i++) {
+            assert requiredQuantities[i] != 0 : "Ingredient Quantity for each serving in recipe should not be 0";
+            int numberOfServings = quantityInInventory.applyAsInt(ingredientNames[i]) / requiredQuantities[i];
             if (numberOfServings < minimumNumberOfServings) {
                 minimumNumberOfServings = numberOfServings;
             }
@@ -68,30 +93,124 @@ public class RecipeIngredientSet {
         return minimumNumberOfServings;
     }
 
-    public Map<Ingredient, IngredientQuantity> getIngredientMap() {
-        return ingredientMap;
+    /**
+     * Returns a copy of this set with the ingredient named {@code target} replaced by {@code editedIngredient},
+     * which is needed for the same quantity.
+     * {@code target} must be in this set.
+     */
+    public RecipeIngredientSet replaceIngredient(IngredientName target, Ingredient editedIngredient) {
+        int index = indexOf(target);
+        assert index >= 0 : "The ingredient to replace must be in the recipe";
+
+        IngredientName[] names = ingredientNames.clone();
+        IngredientUnit[] units = ingredientUnits.clone();
+        int[] quantities = requiredQuantities.clone();
+        names[index] = editedIngredient.getIngredientName();
+        units[index] = editedIngredient.getIngredientUnit();
+
+        // move the renamed ingredient to keep the arrays sorted
+        while (index > 0 && NAME_ORDER.compare(names[index - 1], names[index]) > 0) {
+            swap(names, units, quantities, index - 1, index);
+            index--;
+        }
+        while (index < names.length - 1 && NAME_ORDER.compare(names[index], names[index + 1]) > 0) {
+            swap(names, units, quantities, index, index + 1);
+            index++;
+        }
+        return new RecipeIngredientSet(names, units, quantities);
+    }
+
+    /**
+     * Returns true if the ingredient named {@code ingredientName} is used in this set.
+     */
+    public boolean contains(IngredientName ingredientName) {
+        return indexOf(ingredientName) >= 0;
+    }
+
+    /**
+     * Returns the quantity of the ingredient named {@code ingredientName} needed for each serving,
+     * or 0 if it is not used in this set.
+     */
+    public int getRequiredQuantity(IngredientName ingredientName) {
+        int index = indexOf(ingredientName);
+        return index < 0 ? 0 : requiredQuantities[index];
     }
 
-    public int getNumberOfServings() {
-        return numberOfServings;
+    public int getRequiredQuantity(int index) {
+        return requiredQuantities[index];
     }
 
+    /**
+     * Returns the names of the ingredients in this set, in order of their name.
+     */
+    public List<IngredientName> getIngredientNames() {
+        return Collections.unmodifiableList(Arrays.asList(ingredientNames));
+    }
+
+    /**
+     * Returns the number of ingredients in this set.
+     */
+    public int size() {
+        return ingredientNames.length;
+    }
+
+    public IngredientName getIngredientName(int index) {
+        return ingredientNames[index];
+    }
+
+    public IngredientUnit getIngredientUnit(int index) {
+        return ingredientUnits[index];
+    }
+
+    /**
+     * Returns the position of the ingredient named {@code ingredientName}, or a negative number if there is none.
+     */
+    private int indexOf(IngredientName ingredientName) {
+        return Arrays.binarySearch(ingredientNames, ingredientName, NAME_ORDER);
+    }
+
+    /**
+     * Swaps the ingredients at positions {@code i} and {@code j} of the parallel arrays.
+     */
+    private static void swap(IngredientName[] names, IngredientUnit[] units, int[] quantities, int i, int j) {
+        IngredientName name = names[i];
+        names[i] = names[j];
+        names[j] = name;
+        IngredientUnit unit = units[i];
+        units[i] = units[j];
+        units[j] = unit;
+        int quantity = quantities[i];
+        quantities[i] = quantities[j];
+        quantities[j] = quantity;
+    }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof RecipeIngredientSet// instanceof handles nulls
-                && ingredientMap.equals(((RecipeIngredientSet) other).ingredientMap)); // state check
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RecipeIngredientSet)) {
+            return false;
+        }
+        RecipeIngredientSet otherSet = (RecipeIngredientSet) other;
+        return Arrays.equals(ingredientNames, otherSet.ingredientNames)
+                && Arrays.equals(ingredientUnits, otherSet.ingredientUnits)
+                && Arrays.equals(requiredQuantities, otherSet.requiredQuantities);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ingredientNames) + Arrays.hashCode(requiredQuantities);
     }
 
     @Override
     public String toString() {
-        String ingredientsList = "";
-        for (Ingredient ingredientKey : ingredientMap.keySet()) {
-            ingredientsList += ingredientKey.getIngredientName() + ": " + ingredientMap.get(ingredientKey)
-                    + " " + ingredientKey.getIngredientUnit() + "\n";
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < ingredientNames.length; i++) {
+            builder.append(ingredientNames[i]).append(": ").append(requiredQuantities[i])
+                    .append(" ").append(ingredientUnits[i]).append("\n");
         }
-        return ingredientsList;
+        return builder.toString();
     }
 
 }
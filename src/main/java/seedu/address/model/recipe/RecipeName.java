@@ -44,6 +44,11 @@ public class RecipeName {
                 && recipeName.equals(((RecipeName) other).getName())); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return recipeName.hashCode();
+    }
+
 
     @Override
     public String toString() {
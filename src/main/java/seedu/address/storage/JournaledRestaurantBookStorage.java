@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.RestaurantBookSnapshot;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+
+/**
+ * A class to access RestaurantBook data stored on the hard disk as a json file, together with a journal of the changes
+ * made since the json file was written.
+ * Saving changes appends them to the journal, so the cost of a save depends on the size of the changes rather than on
+ * the size of the data. Once the journal grows too large or too old, it is compacted into a new json file in the
+ * background.
+ */
+public class JournaledRestaurantBookStorage implements RestaurantBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_SIZE = 1024 * 1024;
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+    public static final String MESSAGE_MISSING_JOURNAL_ENTRIES = "Journal is missing entries after entry %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledRestaurantBookStorage.class);
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final long compactionSize;
+    private final Duration compactionInterval;
+    private final boolean isPrettyPrinted;
+    private final ExecutorService compactionExecutor;
+
+    /** Guards the journal file and its description below, which are also updated by the compaction thread. */
+    private final Object journalLock = new Object();
+    private long lastSequenceNumber;
+    private long journalSize;
+
+    private boolean isInSync;
+    private Instant lastCompactionTime = Instant.now();
+    private Future<?> compaction;
+
+    public JournaledRestaurantBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    public JournaledRestaurantBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_COMPACTION_SIZE, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once the journal reaches {@code compactionSize} bytes, or once
+     * {@code compactionInterval} has passed since the last compaction.
+     * The data file is indented over multiple lines if {@code isPrettyPrinted}, or written on a single line otherwise.
+     */
+    public JournaledRestaurantBookStorage(Path filePath, boolean isPrettyPrinted, long compactionSize,
+            Duration compactionInterval) {
+        requireAllNonNull(filePath, compactionInterval);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.filePath = filePath;
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.compactionSize = compactionSize;
+        this.compactionInterval = compactionInterval;
+        compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "restaurant-book-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the location of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the sequence number of the last complete entry in the journal at {@code journalFilePath}, or 0 if it
+     * has no complete entries.
+     */
+    static long readLastSequenceNumber(Path journalFilePath) throws IOException {
+        String journal = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8);
+        List<String> entries = Arrays.asList(journal.split(LINE_SEPARATOR));
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            try {
+                return JsonUtil.fromJsonString(entries.get(i), JsonAdaptedJournalEntry.class).getSequenceNumber();
+            } catch (IOException ioe) {
+                // the entry was being written when the application stopped
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public Path getRestaurantBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook() throws DataConversionException, IOException {
+        return readRestaurantBook(filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#readRestaurantBook()}, with the journaled changes applied on top of the
+     * data in the json file. Changes can only be journaled after the data of this storage has been read or saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        JsonRestaurantBookFile file = new JsonRestaurantBookFile(filePath);
+        Optional<RestaurantBook> optionalRestaurantBook = file.read();
+        if (!optionalRestaurantBook.isPresent()) {
+            return Optional.empty();
+        }
+        RestaurantBook restaurantBook = optionalRestaurantBook.get();
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        byte[] journalBytes = Files.exists(journalFilePath) ? Files.readAllBytes(journalFilePath) : new byte[0];
+        String journal = new String(journalBytes, StandardCharsets.UTF_8);
+        // an entry that does not end with a line separator was being written when the application stopped
+        boolean hasPartialEntry = !journal.isEmpty() && !journal.endsWith(LINE_SEPARATOR);
+        long sequenceNumber = file.getJournalSequenceNumber();
+        List<String> entries = journal.isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(journal.split(LINE_SEPARATOR));
+        for (int i = 0; i < entries.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(entries.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (hasPartialEntry && i == entries.size() - 1) {
+                    logger.warning("Ignoring partially written entry at the end of " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+
+            if (entry.getSequenceNumber() <= sequenceNumber) {
+                continue; // the change was already in the json file when it was written
+            }
+            if (entry.getSequenceNumber() != sequenceNumber + 1) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_MISSING_JOURNAL_ENTRIES, sequenceNumber)));
+            }
+            applyEntry(restaurantBook, entry);
+            sequenceNumber = entry.getSequenceNumber();
+        }
+
+        if (filePath.equals(this.filePath)) {
+            synchronized (journalLock) {
+                lastSequenceNumber = sequenceNumber;
+                journalSize = journalBytes.length;
+            }
+            // changes cannot be appended after a partial entry, so the next save rewrites the json file instead
+            isInSync = !hasPartialEntry;
+            lastCompactionTime = Instant.now();
+        }
+        return Optional.of(restaurantBook);
+    }
+
+    @Override
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException {
+        saveRestaurantBook(restaurantBook, filePath);
+    }
+
+    /**
+     * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     * Saving to the data file of this storage also empties its journal, and changes can be journaled afterwards.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        requireAllNonNull(restaurantBook, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new JsonRestaurantBookStorage(filePath).saveRestaurantBook(restaurantBook);
+            return;
+        }
+
+        awaitCompaction();
+        isInSync = false;
+        long sequenceNumber;
+        synchronized (journalLock) {
+            sequenceNumber = lastSequenceNumber;
+        }
+        compact(RestaurantBookSnapshot.of(restaurantBook), sequenceNumber);
+        isInSync = true;
+        lastCompactionTime = Instant.now();
+    }
+
+    /**
+     * Appends {@code changes} to the journal, compacting the journal in the background if it is due.
+     * The whole of {@code restaurantBook} is saved instead if the data in storage may not match what it was before
+     * the changes, such as when it has not been read yet.
+     */
+    @Override
+    public void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes) throws IOException {
+        requireAllNonNull(restaurantBook, changes);
+
+        if (!isInSync) {
+            saveRestaurantBook(restaurantBook);
+            return;
+        }
+        if (changes instanceof ChangeSet && ((ChangeSet) changes).isEmpty()) {
+            return;
+        }
+
+        boolean isCompactionDue;
+        synchronized (journalLock) {
+            try {
+                appendToJournal(changes);
+            } catch (IOException ioe) {
+                isInSync = false;
+                throw ioe;
+            }
+            isCompactionDue = journalSize >= compactionSize
+                    || !Instant.now().isBefore(lastCompactionTime.plus(compactionInterval));
+        }
+        if (isCompactionDue) {
+            compactInBackground(restaurantBook);
+        }
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    public void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + StringUtil.getDetails(ee));
+        }
+    }
+
+    /**
+     * Applies the change in {@code entry} to {@code restaurantBook}.
+     *
+     * @throws DataConversionException if the change cannot be applied to {@code restaurantBook}.
+     */
+    private static void applyEntry(RestaurantBook restaurantBook, JsonAdaptedJournalEntry entry)
+            throws DataConversionException {
+        try {
+            restaurantBook.applyChange(entry.toModelType());
+        } catch (IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException
+                | DuplicateItemException e) {
+            logger.info("Journal entry " + entry.getSequenceNumber() + " cannot be applied: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal as a new entry.
+     * Must be called while holding {@code journalLock}.
+     */
+    private void appendToJournal(Change changes) throws IOException {
+        long sequenceNumber = lastSequenceNumber + 1;
+        String entry = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(sequenceNumber, changes));
+        byte[] entryBytes = (entry + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, entryBytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                StandardOpenOption.DSYNC);
+        lastSequenceNumber = sequenceNumber;
+        journalSize += entryBytes.length;
+    }
+
+    /**
+     * Compacts the journal into {@code restaurantBook} on the compaction thread, unless a compaction is already in
+     * progress.
+     */
+    private void compactInBackground(ReadOnlyRestaurantBook restaurantBook) {
+        if (compaction != null && !compaction.isDone()) {
+            return; // the journal will be compacted after a later change instead
+        }
+
+        RestaurantBookSnapshot snapshot = RestaurantBookSnapshot.of(restaurantBook);
+        long sequenceNumber;
+        synchronized (journalLock) {
+            sequenceNumber = lastSequenceNumber;
+        }
+        lastCompactionTime = Instant.now();
+        compaction = compactionExecutor.submit(() -> {
+            try {
+                compact(snapshot, sequenceNumber);
+            } catch (IOException ioe) {
+                // the journal still holds every change, so they will be compacted later
+                logger.warning("Failed to compact journal " + journalFilePath + ": " + StringUtil.getDetails(ioe));
+            }
+        });
+    }
+
+    /**
+     * Writes {@code snapshot}, which contains every journaled change up to {@code sequenceNumber}, to the data file
+     * and removes those changes from the journal.
+     */
+    private void compact(RestaurantBookSnapshot snapshot, long sequenceNumber) throws IOException {
+        new JsonRestaurantBookFile(filePath).write(snapshot, sequenceNumber, isPrettyPrinted);
+
+        synchronized (journalLock) {
+            long retainedEntryCount = lastSequenceNumber - sequenceNumber;
+            if (retainedEntryCount == 0) {
+                Files.deleteIfExists(journalFilePath);
+                journalSize = 0;
+                return;
+            }
+
+            // entries are appended in order, so the entries made after the snapshot are at the end of the journal
+            String journal = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8);
+            List<String> entries = Arrays.asList(journal.split(LINE_SEPARATOR));
+            StringBuilder retainedJournal = new StringBuilder();
+            for (String entry : entries.subList(entries.size() - (int) retainedEntryCount, entries.size())) {
+                retainedJournal.append(entry).append(LINE_SEPARATOR);
+            }
+
+            Path temporaryJournalFilePath =
+                    journalFilePath.resolveSibling(journalFilePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+            FileUtil.writeToFile(temporaryJournalFilePath, retainedJournal.toString());
+            FileUtil.replaceFile(temporaryJournalFilePath, journalFilePath);
+            journalSize = Files.size(journalFilePath);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.storage;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -17,15 +21,19 @@ import seedu.address.model.person.member.Member;
 
 /**
  * Jackson-friendly version of {@link Booking}.
+ * The customer is either referred to by {@code memberId}, its position in the list of members it is stored with, or
+ * embedded in the booking when there is no such list, as in older data files.
  */
-
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedBooking {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Booking's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "Booking's member %d does not exist!";
 
+    private final Integer memberId;
     private final String customerName;
     private final String customerPhone;
     private final String customerEmail;
-    private final int customerLoyaltyPoints;
+    private final Integer customerLoyaltyPoints;
     private final String startTime;
     private final int numPersons;
 
@@ -33,12 +41,14 @@ public class JsonAdaptedBooking {
      * Constructs a {@code JsonAdaptedBooking} with the given booking details.
      */
     @JsonCreator
-    public JsonAdaptedBooking (@JsonProperty("customerName") String customerName,
+    public JsonAdaptedBooking (@JsonProperty("memberId") Integer memberId,
+                               @JsonProperty("customerName") String customerName,
                                @JsonProperty("customerPhone") String customerPhone,
                                @JsonProperty("customerEmail") String customerEmail,
-                               @JsonProperty("customerLoyaltyPoints") int customerLoyaltyPoints,
+                               @JsonProperty("customerLoyaltyPoints") Integer customerLoyaltyPoints,
                                @JsonProperty("startTime") String startTime,
                                @JsonProperty("numPersons") int numPersons) {
+        this.memberId = memberId;
         this.customerName = customerName;
         this.customerPhone = customerPhone;
         this.customerEmail = customerEmail;
@@ -48,9 +58,18 @@ public class JsonAdaptedBooking {
     }
 
     /**
-     * Converts a given {@code Ingredient} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedBooking} with the given booking details and an embedded customer.
+     */
+    public JsonAdaptedBooking (String customerName, String customerPhone, String customerEmail,
+                               int customerLoyaltyPoints, String startTime, int numPersons) {
+        this(null, customerName, customerPhone, customerEmail, customerLoyaltyPoints, startTime, numPersons);
+    }
+
+    /**
+     * Converts a given {@code Booking} into this class for Jackson use, embedding its customer.
      */
     public JsonAdaptedBooking(Booking source) {
+        memberId = null;
         customerName = source.getCustomer().getName().fullName;
         customerPhone = source.getCustomer().getPhone().value;
         customerEmail = source.getCustomer().getEmail().value;
@@ -61,17 +80,37 @@ public class JsonAdaptedBooking {
     }
 
     /**
-     * Converts this Jackson-friendly adapted ingredient object into the model's {@code Booking} object.
+     * Converts a given {@code Booking} into this class for Jackson use, referring to its customer by
+     * {@code memberId}.
+     */
+    public JsonAdaptedBooking(Booking source, int memberId) {
+        this.memberId = memberId;
+        customerName = null;
+        customerPhone = null;
+        customerEmail = null;
+        customerLoyaltyPoints = null;
+        startTime = source.getStartTimeString();
+        this.numPersons = source.getNumMembers().getSize();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted booking object into the model's {@code Booking} object.
+     * The customer must be embedded in the booking.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted booking.
      */
     public Booking toModelType() throws IllegalValueException {
-        final Name modelName = parseName();
-        final Phone modelPhone = parsePhone();
-        final Email modelEmail = parseEmail();
-        final LoyaltyPoints loyaltyPoints = parseLoyaltyPoints();
+        return toModelType(Collections.emptyList());
+    }
 
-        final Member modelCustomer = new Member(modelName, modelPhone, modelEmail, loyaltyPoints);
+    /**
+     * Converts this Jackson-friendly adapted booking object into the model's {@code Booking} object, whose customer
+     * is the member in {@code members} that the booking refers to, if any.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted booking.
+     */
+    public Booking toModelType(List<Member> members) throws IllegalValueException {
+        final Member modelCustomer = memberId != null ? findMember(members) : parseCustomer();
 
         final BookingWindow modelBookingWindow;
         final BookingSize modelBookingSize;
@@ -86,6 +125,27 @@ public class JsonAdaptedBooking {
         return new Booking(modelBookingWindow, modelCustomer, modelBookingSize);
     }
 
+    /**
+     * Returns the member in {@code members} that this booking refers to.
+     */
+    private Member findMember(List<Member> members) throws IllegalValueException {
+        if (memberId < 0 || memberId >= members.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, memberId));
+        }
+        return members.get(memberId);
+    }
+
+    /**
+     * Parses the customer embedded in this booking.
+     */
+    private Member parseCustomer() throws IllegalValueException {
+        final Name modelName = parseName();
+        final Phone modelPhone = parsePhone();
+        final Email modelEmail = parseEmail();
+        final LoyaltyPoints loyaltyPoints = parseLoyaltyPoints();
+        return new Member(modelName, modelPhone, modelEmail, loyaltyPoints);
+    }
+
     /**
      * Parses the name and converts into a Name object.
      */
@@ -130,10 +190,11 @@ public class JsonAdaptedBooking {
      * Parses the loyalty points and converts into a LoyaltyPoints object.
      */
     private LoyaltyPoints parseLoyaltyPoints() throws IllegalValueException {
-        if (!LoyaltyPoints.isValidLoyaltyPoints(customerLoyaltyPoints)) {
+        int loyaltyPoints = customerLoyaltyPoints == null ? 0 : customerLoyaltyPoints;
+        if (!LoyaltyPoints.isValidLoyaltyPoints(loyaltyPoints)) {
             throw new IllegalValueException(LoyaltyPoints.MESSAGE_CONSTRAINTS);
         }
-        return new LoyaltyPoints(customerLoyaltyPoints);
+        return new LoyaltyPoints(loyaltyPoints);
     }
 }
 
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Item;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
+import seedu.address.model.journal.ArchivedCoversChanged;
+import seedu.address.model.journal.CapacityChanged;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+import seedu.address.model.journal.ItemAdded;
+import seedu.address.model.journal.ItemListType;
+import seedu.address.model.journal.ItemRemoved;
+import seedu.address.model.journal.ItemReplaced;
+import seedu.address.model.journal.ListReplaced;
+
+/**
+ * Jackson-friendly version of {@link Change}.
+ * Only what is needed to apply the change again is kept. In particular, a replaced list only keeps its new items, and
+ * changed archived covers only keep their new counts, so the converted change cannot be inverted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown change type: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Change's index must not be negative.";
+
+    private static final String TYPE_ITEM_ADDED = "itemAdded";
+    private static final String TYPE_ITEM_REMOVED = "itemRemoved";
+    private static final String TYPE_ITEM_REPLACED = "itemReplaced";
+    private static final String TYPE_LIST_REPLACED = "listReplaced";
+    private static final String TYPE_CAPACITY_CHANGED = "capacityChanged";
+    private static final String TYPE_ARCHIVED_COVERS_CHANGED = "archivedCoversChanged";
+    private static final String TYPE_CHANGE_SET = "changeSet";
+
+    private final String type;
+    private final ItemListType list;
+    private final Integer index;
+    private final List<JsonAdaptedItem> items;
+    private final Integer oldCapacity;
+    private final Integer newCapacity;
+    private final List<JsonAdaptedDayCovers> archivedCovers;
+    private final List<JsonAdaptedChange> changes;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type, @JsonProperty("list") ItemListType list,
+            @JsonProperty("index") Integer index, @JsonProperty("items") List<JsonAdaptedItem> items,
+            @JsonProperty("oldCapacity") Integer oldCapacity, @JsonProperty("newCapacity") Integer newCapacity,
+            @JsonProperty("archivedCovers") List<JsonAdaptedDayCovers> archivedCovers,
+            @JsonProperty("changes") List<JsonAdaptedChange> changes) {
+        this.type = type;
+        this.list = list;
+        this.index = index;
+        this.items = items;
+        this.oldCapacity = oldCapacity;
+        this.newCapacity = newCapacity;
+        this.archivedCovers = archivedCovers;
+        this.changes = changes;
+    }
+
+    /**
+     * Converts a given {@code Change} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(Change source) {
+        ItemListType sourceList = null;
+        Integer sourceIndex = null;
+        List<JsonAdaptedItem> sourceItems = null;
+        Integer sourceOldCapacity = null;
+        Integer sourceNewCapacity = null;
+        List<JsonAdaptedDayCovers> sourceArchivedCovers = null;
+        List<JsonAdaptedChange> sourceChanges = null;
+
+        if (source instanceof ItemAdded) {
+            ItemAdded itemAdded = (ItemAdded) source;
+            type = TYPE_ITEM_ADDED;
+            sourceList = itemAdded.getListType();
+            sourceIndex = itemAdded.getIndex();
+            sourceItems = adaptItems(sourceList, itemAdded.getItem());
+        } else if (source instanceof ItemRemoved) {
+            ItemRemoved itemRemoved = (ItemRemoved) source;
+            type = TYPE_ITEM_REMOVED;
+            sourceList = itemRemoved.getListType();
+            sourceIndex = itemRemoved.getIndex();
+            sourceItems = adaptItems(sourceList, itemRemoved.getItem());
+        } else if (source instanceof ItemReplaced) {
+            ItemReplaced itemReplaced = (ItemReplaced) source;
+            type = TYPE_ITEM_REPLACED;
+            sourceList = itemReplaced.getListType();
+            sourceIndex = itemReplaced.getIndex();
+            sourceItems = adaptItems(sourceList, itemReplaced.getOldItem(), itemReplaced.getNewItem());
+        } else if (source instanceof ListReplaced) {
+            ListReplaced listReplaced = (ListReplaced) source;
+            type = TYPE_LIST_REPLACED;
+            sourceList = listReplaced.getListType();
+            sourceItems = adaptItems(sourceList, listReplaced.getNewItems().toArray(new Item[0]));
+        } else if (source instanceof CapacityChanged) {
+            type = TYPE_CAPACITY_CHANGED;
+            sourceOldCapacity = ((CapacityChanged) source).getOldCapacity().getValue();
+            sourceNewCapacity = ((CapacityChanged) source).getNewCapacity().getValue();
+        } else if (source instanceof ArchivedCoversChanged) {
+            type = TYPE_ARCHIVED_COVERS_CHANGED;
+            sourceArchivedCovers = JsonAdaptedDayCovers.adapt(((ArchivedCoversChanged) source).getNewArchivedCovers());
+        } else if (source instanceof ChangeSet) {
+            type = TYPE_CHANGE_SET;
+            sourceChanges = new ArrayList<>();
+            for (Change change : ((ChangeSet) source).getChanges()) {
+                sourceChanges.add(new JsonAdaptedChange(change));
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown change: " + source);
+        }
+
+        list = sourceList;
+        index = sourceIndex;
+        items = sourceItems;
+        oldCapacity = sourceOldCapacity;
+        newCapacity = sourceNewCapacity;
+        archivedCovers = sourceArchivedCovers;
+        changes = sourceChanges;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code Change} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public Change toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case TYPE_ITEM_ADDED:
+            return new ItemAdded(getList(), getIndex(), getItems(1).get(0));
+        case TYPE_ITEM_REMOVED:
+            return new ItemRemoved(getList(), getIndex(), getItems(1).get(0));
+        case TYPE_ITEM_REPLACED:
+            List<Item> oldAndNewItems = getItems(2);
+            return new ItemReplaced(getList(), getIndex(), oldAndNewItems.get(0), oldAndNewItems.get(1));
+        case TYPE_LIST_REPLACED:
+            return new ListReplaced(getList(), new ArrayList<>(), getItems(-1));
+        case TYPE_CAPACITY_CHANGED:
+            return new CapacityChanged(getCapacity(oldCapacity, "oldCapacity"),
+                    getCapacity(newCapacity, "newCapacity"));
+        case TYPE_ARCHIVED_COVERS_CHANGED:
+            if (archivedCovers == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "archivedCovers"));
+            }
+            return new ArchivedCoversChanged(new CoverCounts(), JsonAdaptedDayCovers.toModelType(archivedCovers));
+        case TYPE_CHANGE_SET:
+            if (changes == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "changes"));
+            }
+            List<Change> modelChanges = new ArrayList<>();
+            for (JsonAdaptedChange change : changes) {
+                modelChanges.add(change.toModelType());
+            }
+            return new ChangeSet(modelChanges);
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    /**
+     * Converts {@code sourceItems} from the list {@code listType} for Jackson use.
+     */
+    private static List<JsonAdaptedItem> adaptItems(ItemListType listType, Item... sourceItems) {
+        List<JsonAdaptedItem> adaptedItems = new ArrayList<>(sourceItems.length);
+        for (Item item : sourceItems) {
+            adaptedItems.add(new JsonAdaptedItem(listType, item));
+        }
+        return adaptedItems;
+    }
+
+    /**
+     * Returns the list that the change was made to.
+     */
+    private ItemListType getList() throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "list"));
+        }
+        return list;
+    }
+
+    /**
+     * Returns the index at which the change was made.
+     */
+    private int getIndex() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the items of the change, checking that there are {@code expectedCount} of them unless it is negative.
+     */
+    private List<Item> getItems(int expectedCount) throws IllegalValueException {
+        if (items == null || (expectedCount >= 0 && items.size() != expectedCount)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "items"));
+        }
+        ItemListType listType = getList();
+        List<Item> modelItems = new ArrayList<>(items.size());
+        for (JsonAdaptedItem item : items) {
+            modelItems.add(item.toModelType(listType));
+        }
+        return modelItems;
+    }
+
+    /**
+     * Returns the capacity in the field {@code fieldName}.
+     */
+    private static Capacity getCapacity(Integer capacity, String fieldName) throws IllegalValueException {
+        if (capacity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        if (!Capacity.isValidCapacity(capacity)) {
+            throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+        }
+        return new Capacity(capacity);
+    }
+}
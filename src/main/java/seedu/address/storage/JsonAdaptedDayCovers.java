@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.CoverCounts;
+
+/**
+ * Jackson-friendly version of the persons booked on one day of a {@link CoverCounts}, by the hour of the day.
+ */
+class JsonAdaptedDayCovers {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Day covers' %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Day covers' date must be in the format yyyy-mm-dd.";
+    public static final String MESSAGE_INVALID_HOURLY_COVERS = "Day covers must have one non-negative number of "
+            + "persons for each of the " + CoverCounts.HOURS_IN_A_DAY + " hours of the day.";
+
+    private final String date;
+    private final int[] hourlyCovers;
+
+    /**
+     * Constructs a {@code JsonAdaptedDayCovers} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedDayCovers(@JsonProperty("date") String date,
+            @JsonProperty("hourlyCovers") int[] hourlyCovers) {
+        this.date = date;
+        this.hourlyCovers = hourlyCovers;
+    }
+
+    /**
+     * Converts the persons booked on {@code date} in {@code source} into this class for Jackson use.
+     */
+    public JsonAdaptedDayCovers(CoverCounts source, LocalDate date) {
+        this.date = date.toString();
+        hourlyCovers = source.getHourlyCovers(date);
+    }
+
+    /**
+     * Converts every day with persons booked in {@code source} into this class for Jackson use, earliest first.
+     */
+    public static List<JsonAdaptedDayCovers> adapt(CoverCounts source) {
+        List<JsonAdaptedDayCovers> adaptedDays = new ArrayList<>();
+        for (LocalDate date : source.getDates()) {
+            adaptedDays.add(new JsonAdaptedDayCovers(source, date));
+        }
+        return adaptedDays;
+    }
+
+    /**
+     * Converts {@code adaptedDays} into the model's {@code CoverCounts} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted days.
+     */
+    public static CoverCounts toModelType(List<JsonAdaptedDayCovers> adaptedDays) throws IllegalValueException {
+        CoverCounts coverCounts = new CoverCounts();
+        for (JsonAdaptedDayCovers adaptedDay : adaptedDays) {
+            adaptedDay.addTo(coverCounts);
+        }
+        return coverCounts;
+    }
+
+    /**
+     * Adds the persons booked on this day to {@code coverCounts}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted day.
+     */
+    public void addTo(CoverCounts coverCounts) throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        if (hourlyCovers == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "hourlyCovers"));
+        }
+        LocalDate modelDate;
+        try {
+            modelDate = LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+        if (hourlyCovers.length != CoverCounts.HOURS_IN_A_DAY) {
+            throw new IllegalValueException(MESSAGE_INVALID_HOURLY_COVERS);
+        }
+        for (int persons : hourlyCovers) {
+            if (persons < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_HOURLY_COVERS);
+            }
+        }
+
+        for (int hour = 0; hour < hourlyCovers.length; hour++) {
+            if (hourlyCovers[hour] != 0) {
+                coverCounts.add(modelDate, hour, hourlyCovers[hour]);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import javafx.util.Pair;
@@ -13,16 +14,19 @@ import seedu.address.model.ingredient.IngredientWarningAmount;
 
 
 /**
- * Jackson-friendly version.
+ * Jackson-friendly version of an ingredient used in a recipe, along with the quantity required for the recipe.
+ * Files written before recipes referred to ingredients by name also hold the quantity and warning amount of the
+ * ingredient, which are still validated when read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedIngredientAndQuantity {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Ingredient's %s field is missing!";
 
     private final String ingredName;
     private final String ingredUnit;
-    private final int ingredQuantity;
-    private final int ingredWarningAmount;
+    private final Integer ingredQuantity;
+    private final Integer ingredWarningAmount;
     private final int ingredQuantityInRecipe;
 
     /**
@@ -33,8 +37,8 @@ class JsonAdaptedIngredientAndQuantity {
     public JsonAdaptedIngredientAndQuantity (@JsonProperty("ingredName") String name,
                                   @JsonProperty("ingredQuantityInRecipe") int quantityInRecipe,
                                   @JsonProperty("ingredUnit") String unit,
-                                  @JsonProperty("ingredQuantity") int quantity,
-                                  @JsonProperty("ingredWarningAmount") int warningAmount) {
+                                  @JsonProperty("ingredQuantity") Integer quantity,
+                                  @JsonProperty("ingredWarningAmount") Integer warningAmount) {
         this.ingredName = name;
         this.ingredQuantityInRecipe = quantityInRecipe;
         this.ingredUnit = unit;
@@ -42,6 +46,18 @@ class JsonAdaptedIngredientAndQuantity {
         this.ingredWarningAmount = warningAmount;
     }
 
+    /**
+     * Converts the ingredient named {@code name}, which is needed in the quantity {@code quantityInRecipe},
+     * into this class for Jackson use.
+     */
+    public JsonAdaptedIngredientAndQuantity(IngredientName name, IngredientUnit unit, int quantityInRecipe) {
+        ingredName = name.getName();
+        ingredQuantityInRecipe = quantityInRecipe;
+        ingredUnit = unit.getUnit();
+        ingredQuantity = null;
+        ingredWarningAmount = null;
+    }
+
     /**
      * Converts a given {@code Pair<Ingredient,IngredientQuantity>} into this class for Jackson use.
      */
@@ -82,19 +98,23 @@ class JsonAdaptedIngredientAndQuantity {
             throw new IllegalValueException(IngredientQuantity.MESSAGE_CONSTRAINTS);
         }
 
-        if (!IngredientQuantity.isValidIngredientQuantity(Integer.toString(ingredQuantity))) {
+        if (ingredQuantity != null
+                && !IngredientQuantity.isValidIngredientQuantity(Integer.toString(ingredQuantity))) {
             throw new IllegalValueException(IngredientQuantity.MESSAGE_CONSTRAINTS);
         }
 
-        if (!IngredientWarningAmount.isValidIngredientWarningAmount(Integer.toString(ingredWarningAmount))) {
+        if (ingredWarningAmount != null
+                && !IngredientWarningAmount.isValidIngredientWarningAmount(Integer.toString(ingredWarningAmount))) {
             throw new IllegalValueException(IngredientWarningAmount.MESSAGE_CONSTRAINTS);
         }
 
 
+        // recipes only keep the name and unit of the ingredient, so the other fields may be left at zero
         IngredientName ingredientName = new IngredientName(ingredName);
-        IngredientQuantity ingredientQuantity = new IngredientQuantity(ingredQuantity);
+        IngredientQuantity ingredientQuantity = new IngredientQuantity(ingredQuantity == null ? 0 : ingredQuantity);
         IngredientUnit ingredientUnit = new IngredientUnit(ingredUnit);
-        IngredientWarningAmount ingredientWarningAmount = new IngredientWarningAmount(ingredWarningAmount);
+        IngredientWarningAmount ingredientWarningAmount =
+                new IngredientWarningAmount(ingredWarningAmount == null ? 0 : ingredWarningAmount);
         IngredientQuantity ingredientQuantityInRecipe = new IngredientQuantity(ingredQuantityInRecipe);
 
         Ingredient ingred = new Ingredient(ingredientName, ingredientQuantity, ingredientUnit, ingredientWarningAmount);
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Item;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.journal.ItemListType;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * Jackson-friendly version of an {@link Item} in one of the lists of a {@code RestaurantBook}.
+ * Exactly one of the fields is present, depending on the list that the item belongs to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedItem {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Item's %s field is missing!";
+
+    private final JsonAdaptedMember member;
+    private final JsonAdaptedBooking booking;
+    private final JsonAdaptedIngredient ingredient;
+    private final JsonAdaptedRecipe recipe;
+    private final JsonAdaptedStaff staff;
+
+    /**
+     * Constructs a {@code JsonAdaptedItem} with the given item details.
+     */
+    @JsonCreator
+    public JsonAdaptedItem(@JsonProperty("member") JsonAdaptedMember member,
+            @JsonProperty("booking") JsonAdaptedBooking booking,
+            @JsonProperty("ingredient") JsonAdaptedIngredient ingredient,
+            @JsonProperty("recipe") JsonAdaptedRecipe recipe,
+            @JsonProperty("staff") JsonAdaptedStaff staff) {
+        this.member = member;
+        this.booking = booking;
+        this.ingredient = ingredient;
+        this.recipe = recipe;
+        this.staff = staff;
+    }
+
+    /**
+     * Converts a given {@code Item} from the list {@code listType} into this class for Jackson use.
+     */
+    public JsonAdaptedItem(ItemListType listType, Item source) {
+        member = listType == ItemListType.MEMBERS ? new JsonAdaptedMember((Member) source) : null;
+        booking = listType == ItemListType.BOOKINGS ? new JsonAdaptedBooking((Booking) source) : null;
+        ingredient = listType == ItemListType.INGREDIENTS ? new JsonAdaptedIngredient((Ingredient) source) : null;
+        recipe = listType == ItemListType.RECIPES ? new JsonAdaptedRecipe((Recipe) source) : null;
+        staff = listType == ItemListType.STAFF ? new JsonAdaptedStaff((Staff) source) : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted item object into the model's item from the list {@code listType}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted item.
+     */
+    public Item toModelType(ItemListType listType) throws IllegalValueException {
+        switch (listType) {
+        case MEMBERS:
+            checkPresent(member, "member");
+            return member.toModelType();
+        case BOOKINGS:
+            checkPresent(booking, "booking");
+            return booking.toModelType();
+        case INGREDIENTS:
+            checkPresent(ingredient, "ingredient");
+            return ingredient.toModelType();
+        case RECIPES:
+            checkPresent(recipe, "recipe");
+            return recipe.toModelType();
+        case STAFF:
+            checkPresent(staff, "staff");
+            return staff.toModelType();
+        default:
+            throw new AssertionError("Unknown list type: " + listType);
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if the field {@code fieldName} is missing.
+     */
+    private static void checkPresent(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
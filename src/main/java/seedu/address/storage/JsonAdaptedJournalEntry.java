@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.journal.Change;
+
+/**
+ * Jackson-friendly version of an entry in the journal of a {@link JournaledRestaurantBookStorage}.
+ * Entries are numbered consecutively in the order they were saved.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final long sequenceNumber;
+    private final JsonAdaptedChange change;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequenceNumber") long sequenceNumber,
+            @JsonProperty("change") JsonAdaptedChange change) {
+        this.sequenceNumber = sequenceNumber;
+        this.change = change;
+    }
+
+    /**
+     * Converts a given {@code Change} into an entry numbered {@code sequenceNumber} for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(long sequenceNumber, Change source) {
+        this.sequenceNumber = sequenceNumber;
+        change = new JsonAdaptedChange(source);
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Converts the change in this entry into the model's {@code Change} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public Change toModelType() throws IllegalValueException {
+        if (change == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "change"));
+        }
+        return change.toModelType();
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -45,15 +44,10 @@ public class JsonAdaptedRecipe {
      */
     public JsonAdaptedRecipe(Recipe source) {
         recipeName = source.getRecipeName().getName();
-        Map<Ingredient, IngredientQuantity> ingredMap = source.getRecipeIngredientSet().getIngredientMap();
-
-        Iterator it = ingredMap.keySet().iterator();
-        while (it.hasNext()) {
-            Ingredient ingred = (Ingredient) it.next();
-            IngredientQuantity ingredQuantity = ingredMap.get(ingred);
-            JsonAdaptedIngredientAndQuantity jsonAdaptedIngredientAndQuantity =
-                    new JsonAdaptedIngredientAndQuantity(new Pair<>(ingred, ingredQuantity));
-            ingredListJson.add(jsonAdaptedIngredientAndQuantity);
+        RecipeIngredientSet ingredSet = source.getRecipeIngredientSet();
+        for (int i = 0; i < ingredSet.size(); i++) {
+            ingredListJson.add(new JsonAdaptedIngredientAndQuantity(ingredSet.getIngredientName(i),
+                    ingredSet.getIngredientUnit(i), ingredSet.getRequiredQuantity(i)));
         }
     }
 
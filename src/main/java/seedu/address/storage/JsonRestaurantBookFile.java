@@ -0,0 +1,306 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Item;
+import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UniqueItemList;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
+import seedu.address.model.person.member.Member;
+import seedu.address.model.person.staff.Staff;
+import seedu.address.model.recipe.Recipe;
+
+/**
+ * A json file holding RestaurantBook data.
+ * The file is read and written one item at a time, converting each item directly from and to the model, so neither
+ * the whole file nor a Jackson-friendly copy of the whole RestaurantBook is ever held in memory.
+ *
+ * Since version 2 of the format, bookings refer to their customer by position in the list of members instead of
+ * embedding a copy of the customer. Files in the older format, which have no version, are still read and are
+ * migrated when next written.
+ *
+ * Since version 3, the file also holds the persons booked on each day and hour by the bookings that have been
+ * archived, so that the statistics still count them. Older versions would silently drop these counts, so they refuse
+ * to read the file instead.
+ */
+class JsonRestaurantBookFile {
+
+    public static final String MESSAGE_DUPLICATE_MEMBER = "Members list contains duplicate member(s).";
+    public static final String MESSAGE_DUPLICATE_BOOKING = "Bookings list contains duplicate booking(s).";
+    public static final String MESSAGE_DUPLICATE_INGREDIENT = "Ingredient list contains duplicate ingredient(s).";
+    public static final String MESSAGE_DUPLICATE_RECIPE = "Recipe list contains duplicate recipe(s).";
+    public static final String MESSAGE_DUPLICATE_STAFF = "Staff list contains duplicate staff(s).";
+    public static final String MESSAGE_OVERBOOKED = "Bookings list exceeds the capacity of the restaurant.";
+    public static final String MESSAGE_INVALID_FORMAT = "Field %s is not in the correct format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is newer than the supported "
+            + "version %d.";
+
+    /** Version of the format in which files are written. */
+    public static final int FORMAT_VERSION = 3;
+
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_MEMBERS = "members";
+    private static final String FIELD_INGREDIENTS = "ingredients";
+    private static final String FIELD_RECIPES = "recipes";
+    private static final String FIELD_STAFF = "staff";
+    private static final String FIELD_BOOKINGS = "bookings";
+    private static final String FIELD_ARCHIVED_COVERS = "archivedCovers";
+    private static final String FIELD_CAPACITY = "intCapacity";
+    private static final String FIELD_JOURNAL_SEQUENCE_NUMBER = "journalSequenceNumber";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonRestaurantBookFile.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private long journalSequenceNumber;
+
+    JsonRestaurantBookFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the sequence number of the last journaled change contained in the file, as found by the last
+     * {@code read}, or 0 if the file was not written together with a journal.
+     */
+    long getJournalSequenceNumber() {
+        return journalSequenceNumber;
+    }
+
+    /**
+     * Reads the RestaurantBook in the file.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    Optional<RestaurantBook> read() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readItems());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code restaurantBook} to the file, replacing its contents.
+     * The data is written to a temporary file first, so the file is never left partially written.
+     *
+     * @param journalSequenceNumber the sequence number of the last journaled change contained in
+     *         {@code restaurantBook}, or 0 if the file is not written together with a journal.
+     * @param isPrettyPrinted whether the data is indented over multiple lines, or written on a single line.
+     * @throws IOException if there was an error writing to the file.
+     */
+    void write(ReadOnlyRestaurantBook restaurantBook, long journalSequenceNumber, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(restaurantBook);
+
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (JsonGenerator generator =
+                JsonUtil.createGenerator(Files.newOutputStream(temporaryFilePath), isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeNumberField(FIELD_VERSION, FORMAT_VERSION);
+            generator.writeNumberField(FIELD_CAPACITY, restaurantBook.getCapacity().getValue());
+            // members are written before bookings, so that they are known by the time the bookings refer to them
+            writeArray(generator, FIELD_MEMBERS, restaurantBook.getMemberList(), JsonAdaptedMember::new);
+            writeArray(generator, FIELD_INGREDIENTS, restaurantBook.getIngredientList(), JsonAdaptedIngredient::new);
+            writeArray(generator, FIELD_RECIPES, restaurantBook.getRecipeList(), JsonAdaptedRecipe::new);
+            writeArray(generator, FIELD_STAFF, restaurantBook.getStaffList(), JsonAdaptedStaff::new);
+            Map<Member, Integer> memberIds = new HashMap<>();
+            List<Member> memberList = restaurantBook.getMemberList();
+            for (int i = 0; i < memberList.size(); i++) {
+                memberIds.put(memberList.get(i), i);
+            }
+            writeArray(generator, FIELD_BOOKINGS, restaurantBook.getBookingList(), booking -> {
+                Integer memberId = memberIds.get(booking.getCustomer());
+                return memberId == null ? new JsonAdaptedBooking(booking) : new JsonAdaptedBooking(booking, memberId);
+            });
+            CoverCounts archivedCovers = restaurantBook.getArchivedCovers();
+            writeArray(generator, FIELD_ARCHIVED_COVERS, archivedCovers.getDates(),
+                date -> new JsonAdaptedDayCovers(archivedCovers, date));
+            if (journalSequenceNumber != 0) {
+                generator.writeNumberField(FIELD_JOURNAL_SEQUENCE_NUMBER, journalSequenceNumber);
+            }
+            generator.writeEndObject();
+        }
+        FileUtil.replaceFile(temporaryFilePath, filePath);
+    }
+
+    /**
+     * Reads the RestaurantBook in the file, which must exist, one item at a time.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private RestaurantBook readItems() throws IOException, IllegalValueException {
+        // items are checked for duplicates as they are read, and only added to the RestaurantBook at the end
+        UniqueItemList<Member> members = new UniqueItemList<>();
+        UniqueItemList<Ingredient> ingredients = new UniqueItemList<>();
+        UniqueItemList<Recipe> recipes = new UniqueItemList<>();
+        UniqueItemList<Staff> staff = new UniqueItemList<>();
+        UniqueItemList<Booking> bookings = new UniqueItemList<>();
+        CoverCounts archivedCovers = new CoverCounts();
+        Capacity capacity = Capacity.getDefaultCapacity();
+        journalSequenceNumber = 0;
+
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            checkToken(parser.nextToken(), JsonToken.START_OBJECT, "root");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case FIELD_MEMBERS:
+                    readArray(parser, FIELD_MEMBERS, JsonAdaptedMember.class, adaptedMember ->
+                            addIfUnique(members, adaptedMember.toModelType(), MESSAGE_DUPLICATE_MEMBER));
+                    break;
+                case FIELD_INGREDIENTS:
+                    readArray(parser, FIELD_INGREDIENTS, JsonAdaptedIngredient.class, adaptedIngredient ->
+                            addIfUnique(ingredients, adaptedIngredient.toModelType(), MESSAGE_DUPLICATE_INGREDIENT));
+                    break;
+                case FIELD_RECIPES:
+                    readArray(parser, FIELD_RECIPES, JsonAdaptedRecipe.class, adaptedRecipe ->
+                            addIfUnique(recipes, adaptedRecipe.toModelType(), MESSAGE_DUPLICATE_RECIPE));
+                    break;
+                case FIELD_STAFF:
+                    readArray(parser, FIELD_STAFF, JsonAdaptedStaff.class, adaptedStaff ->
+                            addIfUnique(staff, adaptedStaff.toModelType(), MESSAGE_DUPLICATE_STAFF));
+                    break;
+                case FIELD_BOOKINGS:
+                    readArray(parser, FIELD_BOOKINGS, JsonAdaptedBooking.class, adaptedBooking -> addIfUnique(bookings,
+                            adaptedBooking.toModelType(members.asUnmodifiableObservableList()),
+                            MESSAGE_DUPLICATE_BOOKING));
+                    break;
+                case FIELD_ARCHIVED_COVERS:
+                    readArray(parser, FIELD_ARCHIVED_COVERS, JsonAdaptedDayCovers.class, adaptedDay ->
+                            adaptedDay.addTo(archivedCovers));
+                    break;
+                case FIELD_VERSION:
+                    checkToken(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT, FIELD_VERSION);
+                    if (parser.getIntValue() > FORMAT_VERSION) {
+                        throw new IllegalValueException(
+                                String.format(MESSAGE_UNSUPPORTED_VERSION, parser.getIntValue(), FORMAT_VERSION));
+                    }
+                    break;
+                case FIELD_CAPACITY:
+                    checkToken(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT, FIELD_CAPACITY);
+                    if (!Capacity.isValidCapacity(parser.getIntValue())) {
+                        throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
+                    }
+                    capacity = new Capacity(parser.getIntValue());
+                    break;
+                case FIELD_JOURNAL_SEQUENCE_NUMBER:
+                    checkToken(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT, FIELD_JOURNAL_SEQUENCE_NUMBER);
+                    journalSequenceNumber = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren(); // extra values are ignored
+                    break;
+                }
+            }
+        }
+
+        RestaurantBook restaurantBook = new RestaurantBook();
+        try {
+            restaurantBook.loadData(members.asUnmodifiableObservableList(), bookings.asUnmodifiableObservableList(),
+                    ingredients.asUnmodifiableObservableList(), recipes.asUnmodifiableObservableList(),
+                    staff.asUnmodifiableObservableList(), capacity);
+            restaurantBook.setArchivedCovers(archivedCovers);
+        } catch (RestaurantOverbookedException roe) {
+            throw new IllegalValueException(MESSAGE_OVERBOOKED);
+        }
+        return restaurantBook;
+    }
+
+    /**
+     * Reads the array of items of the field {@code fieldName} at the current token of {@code parser}, passing each
+     * item to {@code handler} as soon as it is read.
+     */
+    private static <T> void readArray(JsonParser parser, String fieldName, Class<T> adaptedClass,
+            ItemHandler<T> handler) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+
+        checkToken(parser.getCurrentToken(), JsonToken.START_ARRAY, fieldName);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            checkToken(parser.getCurrentToken(), JsonToken.START_OBJECT, fieldName);
+            handler.handle(parser.readValueAs(adaptedClass));
+        }
+    }
+
+    /**
+     * Writes {@code items} as an array in the field {@code fieldName}, converting them one at a time with
+     * {@code adapter}.
+     */
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, List<T> items,
+            Function<T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T item : items) {
+            generator.writeObject(adapter.apply(item));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if {@code actual} is not {@code expected}.
+     */
+    private static void checkToken(JsonToken actual, JsonToken expected, String fieldName)
+            throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FORMAT, fieldName));
+        }
+    }
+
+    /**
+     * Adds {@code item} to {@code items}, or throws an {@code IllegalValueException} with {@code message} if an item
+     * with the same identity has already been read.
+     */
+    private static <T extends Item> void addIfUnique(UniqueItemList<T> items, T item, String message)
+            throws IllegalValueException {
+        if (items.contains(item)) {
+            throw new IllegalValueException(message);
+        }
+        items.add(item);
+    }
+
+    /**
+     * Handles an item as soon as it is read.
+     */
+    @FunctionalInterface
+    private interface ItemHandler<T> {
+        void handle(T item) throws IllegalValueException;
+    }
+}
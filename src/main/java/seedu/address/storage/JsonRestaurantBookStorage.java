@@ -3,28 +3,33 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyRestaurantBook;
+import seedu.address.model.journal.Change;
 
 /**
  * A class to access RestaurantBook data stored as a json file on the hard disk.
  */
 public class JsonRestaurantBookStorage implements RestaurantBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonRestaurantBookStorage.class);
-
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonRestaurantBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage that indents the json file over multiple lines if {@code isPrettyPrinted}, or writes it on a
+     * single line otherwise.
+     */
+    public JsonRestaurantBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getRestaurantBookFilePath() {
@@ -38,25 +43,22 @@ public class JsonRestaurantBookStorage implements RestaurantBookStorage {
 
     /**
      * Similar to {@link RestaurantBookStorage#readRestaurantBook()}.
+     * Changes left in a journal next to the file by a {@link JournaledRestaurantBookStorage} are applied too.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file or the journal is not in the correct format.
      */
     public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRestaurantBook> jsonRestaurantBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableRestaurantBook.class);
-        if (!jsonRestaurantBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonRestaurantBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        if (Files.exists(JournaledRestaurantBookStorage.getJournalFilePath(filePath))) {
+            try {
+                return new JournaledRestaurantBookStorage(filePath, isPrettyPrinted).readRestaurantBook(filePath);
+            } catch (IOException ioe) {
+                throw new DataConversionException(ioe);
+            }
         }
+        return new JsonRestaurantBookFile(filePath).read().map(restaurantBook -> restaurantBook);
     }
 
     @Override
@@ -66,6 +68,7 @@ public class JsonRestaurantBookStorage implements RestaurantBookStorage {
 
     /**
      * Similar to {@link RestaurantBookStorage#saveRestaurantBook(ReadOnlyRestaurantBook)}.
+     * Any journal next to the file is deleted, as {@code restaurantBook} replaces the changes in it.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +76,22 @@ public class JsonRestaurantBookStorage implements RestaurantBookStorage {
         requireNonNull(restaurantBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableRestaurantBook(restaurantBook), filePath);
+        Path journalFilePath = JournaledRestaurantBookStorage.getJournalFilePath(filePath);
+        // the journal entries are marked as saved in the file, so they are skipped if the journal outlives the write
+        long journalSequenceNumber = Files.exists(journalFilePath)
+                ? JournaledRestaurantBookStorage.readLastSequenceNumber(journalFilePath)
+                : 0;
+        new JsonRestaurantBookFile(filePath).write(restaurantBook, journalSequenceNumber, isPrettyPrinted);
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    /**
+     * Saves the whole of {@code restaurantBook}, as a json file cannot be updated with the changes alone.
+     */
+    @Override
+    public void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes) throws IOException {
+        requireNonNull(changes);
+        saveRestaurantBook(restaurantBook);
     }
 
 }
@@ -36,7 +36,8 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        // the fields are read directly, so copy them through the setters, which replace invalid values
+        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class).map(UserPrefs::new);
     }
 
     @Override
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.RestaurantBook;
+import seedu.address.model.journal.Change;
 
 /**
  * Represents a storage for {@link RestaurantBook}.
@@ -43,4 +44,13 @@ public interface RestaurantBookStorage {
      */
     void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code restaurantBook} since it was last read from or saved to the
+     * storage. A storage that cannot save the changes on their own saves the whole of {@code restaurantBook}.
+     * @param restaurantBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes) throws IOException;
+
 }
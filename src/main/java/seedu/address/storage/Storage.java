@@ -3,11 +3,14 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.journal.Change;
 
 /**
  * API of the Storage component
@@ -29,4 +32,29 @@ public interface Storage extends RestaurantBookStorage, UserPrefsStorage {
     @Override
     void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook) throws IOException;
 
+    @Override
+    void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes) throws IOException;
+
+    /**
+     * Saves {@code changes} to {@code restaurantBook} like {@link #saveRestaurantBookChanges}, but in the background.
+     * The save is combined with any earlier saves that have not started yet, so a burst of saves is written once.
+     * Errors are passed to the handler set through {@link #setSaveErrorHandler}.
+     */
+    void saveRestaurantBookInBackground(ReadOnlyRestaurantBook restaurantBook, Change changes);
+
+    /**
+     * Sets the handler that receives the errors of saves made in the background.
+     */
+    void setSaveErrorHandler(Consumer<? super IOException> saveErrorHandler);
+
+    /**
+     * Sets the handler that receives the time in nanoseconds taken to write each save made in the background.
+     */
+    void setSaveTimeHandler(LongConsumer saveTimeHandler);
+
+    /**
+     * Waits for all saves made in the background so far to finish.
+     */
+    void flushRestaurantBookSaves();
+
 }
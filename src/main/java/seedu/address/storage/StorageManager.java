@@ -1,15 +1,33 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.flightrecorder.RestaurantBookReadEvent;
+import seedu.address.commons.core.flightrecorder.RestaurantBookSaveEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.RestaurantBookSnapshot;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
 
 /**
  * Manages storage of RestaurantBook data in local storage.
@@ -20,11 +38,24 @@ public class StorageManager implements Storage {
     private RestaurantBookStorage restaurantBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor;
+    /** Guards {@code pendingSave}, which is taken by the save thread once it starts writing. */
+    private final Object pendingSaveLock = new Object();
+    private PendingSave pendingSave;
+    private volatile Consumer<? super IOException> saveErrorHandler = ioe ->
+            logger.warning("Failed to save data file: " + StringUtil.getDetails(ioe));
+    private volatile LongConsumer saveTimeHandler = nanos -> { };
+
 
     public StorageManager(RestaurantBookStorage restaurantBookStorage, UserPrefsStorage userPrefsStorage) {
         super();
         this.restaurantBookStorage = restaurantBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "restaurant-book-save");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,8 +91,20 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyRestaurantBook> readRestaurantBook(Path filePath)
         throws DataConversionException, IOException {
+        flushRestaurantBookSaves();
         logger.fine("Attempting to read data from file: " + filePath);
-        return restaurantBookStorage.readRestaurantBook(filePath);
+        RestaurantBookReadEvent readEvent = new RestaurantBookReadEvent();
+        readEvent.begin();
+        Optional<ReadOnlyRestaurantBook> restaurantBook = restaurantBookStorage.readRestaurantBook(filePath);
+        readEvent.end();
+        if (readEvent.shouldCommit()) {
+            readEvent.setFilePath(filePath.toString());
+            readEvent.setFound(restaurantBook.isPresent());
+            readEvent.setItemCount(restaurantBook.map(ReadOnlyRestaurantBook::getItemCount).orElse(0));
+            readEvent.setBytesRead(new DataFileState(filePath).getTotalSize());
+            readEvent.commit();
+        }
+        return restaurantBook;
     }
 
     @Override
@@ -71,8 +114,186 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveRestaurantBook(ReadOnlyRestaurantBook restaurantBook, Path filePath) throws IOException {
+        flushRestaurantBookSaves();
         logger.fine("Attempting to write to data file: " + filePath);
-        restaurantBookStorage.saveRestaurantBook(restaurantBook, filePath);
+        recordSave(restaurantBook, filePath, 0, () ->
+                restaurantBookStorage.saveRestaurantBook(restaurantBook, filePath));
+    }
+
+    @Override
+    public void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes) throws IOException {
+        flushRestaurantBookSaves();
+        logger.fine("Attempting to save changes to data file: " + getRestaurantBookFilePath());
+        recordSave(restaurantBook, getRestaurantBookFilePath(), 1, () ->
+                restaurantBookStorage.saveRestaurantBookChanges(restaurantBook, changes));
+    }
+
+    @Override
+    public void saveRestaurantBookInBackground(ReadOnlyRestaurantBook restaurantBook, Change changes) {
+        requireAllNonNull(restaurantBook, changes);
+        RestaurantBookSnapshot snapshot = RestaurantBookSnapshot.of(restaurantBook);
+        synchronized (pendingSaveLock) {
+            if (pendingSave != null) {
+                pendingSave.coalesce(snapshot, changes);
+                return;
+            }
+            pendingSave = new PendingSave(snapshot, changes);
+        }
+        saveExecutor.execute(this::writePendingSave);
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<? super IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void setSaveTimeHandler(LongConsumer saveTimeHandler) {
+        requireNonNull(saveTimeHandler);
+        this.saveTimeHandler = saveTimeHandler;
+    }
+
+    @Override
+    public void flushRestaurantBookSaves() {
+        try {
+            // saves are written in order on a single thread, so they are done once this empty task runs
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail.", ee);
+        }
+    }
+
+    /**
+     * Writes the pending save on the save thread.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (pendingSaveLock) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+
+        logger.fine("Attempting to save " + save.changes.size() + " sets of changes to data file: "
+                + getRestaurantBookFilePath());
+        long start = System.nanoTime();
+        try {
+            recordSave(save.snapshot, getRestaurantBookFilePath(), save.changes.size(), () ->
+                    restaurantBookStorage.saveRestaurantBookChanges(save.snapshot, new ChangeSet(save.changes)));
+        } catch (IOException ioe) {
+            saveErrorHandler.accept(ioe);
+        }
+        saveTimeHandler.accept(System.nanoTime() - start);
+    }
+
+    /**
+     * Runs {@code save}, which saves {@code restaurantBook} with {@code changeCount} sets of changes, or the whole of
+     * it if {@code changeCount} is 0, to the data file at {@code filePath}, and records it as a
+     * {@code RestaurantBookSaveEvent}.
+     * The data files are only examined to estimate the bytes written if the event is being recorded.
+     */
+    private static void recordSave(ReadOnlyRestaurantBook restaurantBook, Path filePath, int changeCount,
+            SaveAction save) throws IOException {
+        RestaurantBookSaveEvent saveEvent = new RestaurantBookSaveEvent();
+        DataFileState stateBefore = saveEvent.isEnabled() ? new DataFileState(filePath) : null;
+        saveEvent.begin();
+        boolean hasSucceeded = false;
+        try {
+            save.run();
+            hasSucceeded = true;
+        } finally {
+            saveEvent.end();
+            if (stateBefore != null && saveEvent.shouldCommit()) {
+                saveEvent.setFilePath(filePath.toString());
+                saveEvent.setChangeCount(changeCount);
+                saveEvent.setItemCount(restaurantBook.getItemCount());
+                saveEvent.setBytesWritten(new DataFileState(filePath).getBytesWrittenSince(stateBefore));
+                saveEvent.setSucceeded(hasSucceeded);
+                saveEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * A save of the restaurant book to disk.
+     */
+    @FunctionalInterface
+    private interface SaveAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * The sizes of a data file and of its journal, if any, and when the data file was last modified.
+     * Files that do not exist or cannot be examined have a size of 0.
+     */
+    private static class DataFileState {
+        private final long dataFileSize;
+        private final FileTime dataFileModifiedTime;
+        private final long journalFileSize;
+
+        DataFileState(Path filePath) {
+            dataFileSize = getSize(filePath);
+            dataFileModifiedTime = getModifiedTime(filePath);
+            journalFileSize = getSize(JournaledRestaurantBookStorage.getJournalFilePath(filePath));
+        }
+
+        long getTotalSize() {
+            return dataFileSize + journalFileSize;
+        }
+
+        /**
+         * Estimates the bytes written to the data files since they were in {@code before}: the size of the data file
+         * if it was rewritten, and the growth of the journal, or its size if it was compacted.
+         */
+        long getBytesWrittenSince(DataFileState before) {
+            boolean isDataFileRewritten = dataFileModifiedTime != null
+                    && (!dataFileModifiedTime.equals(before.dataFileModifiedTime)
+                    || dataFileSize != before.dataFileSize);
+            long dataFileBytes = isDataFileRewritten ? dataFileSize : 0;
+            long journalFileBytes = journalFileSize >= before.journalFileSize
+                    ? journalFileSize - before.journalFileSize
+                    : journalFileSize;
+            return dataFileBytes + journalFileBytes;
+        }
+
+        private static long getSize(Path file) {
+            try {
+                return Files.size(file);
+            } catch (IOException ioe) {
+                return 0;
+            }
+        }
+
+        private static FileTime getModifiedTime(Path file) {
+            try {
+                return Files.getLastModifiedTime(file);
+            } catch (IOException ioe) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * A save that has not started yet, holding the latest data and every change made since the previous save.
+     */
+    private static class PendingSave {
+        private RestaurantBookSnapshot snapshot;
+        private final List<Change> changes = new ArrayList<>();
+
+        PendingSave(RestaurantBookSnapshot snapshot, Change changes) {
+            this.snapshot = snapshot;
+            this.changes.add(changes);
+        }
+
+        /**
+         * Combines a later save of {@code changes}, which resulted in {@code snapshot}, into this save.
+         */
+        void coalesce(RestaurantBookSnapshot snapshot, Change changes) {
+            this.snapshot = snapshot;
+            this.changes.add(changes);
+        }
     }
 
 }
@@ -51,4 +51,11 @@ public abstract class ItemListPanel<T extends Item> extends UiPart<Region> {
             }
         });
     }
+
+    /**
+     * Redraws the displayed items, for when the details shown for them depend on data outside the list.
+     */
+    protected void refresh() {
+        itemListView.refresh();
+    }
 }
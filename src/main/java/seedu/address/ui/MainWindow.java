@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -136,8 +137,8 @@ public class MainWindow extends UiPart<Stage> {
                 logic.selectedIngredientProperty(), logic::setSelectedIngredient);
         ingredientListPanelPlaceholder.getChildren().add(ingredientListPanel.getRoot());
 
-        recipeListPanel = new RecipeListPanel(logic.getFilteredRecipeList(), logic.selectedRecipeProperty(),
-                logic::setSelectedRecipe);
+        recipeListPanel = new RecipeListPanel(logic.getFilteredRecipeList(), logic.getRecipeServings(),
+                logic.selectedRecipeProperty(), logic::setSelectedRecipe);
         recipeListPanelPlaceholder.getChildren().add(recipeListPanel.getRoot());
 
         staffListPanel = new StaffListPanel(logic.getFilteredStaffList(),
@@ -146,6 +147,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorCallback(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter =
                 new StatusBarFooter(logic.getRestaurantBookFilePath(), logic.getRestaurantBook());
@@ -36,14 +36,13 @@ public class RecipeCard extends UiPart<Region> {
     @FXML
     private Label numberOfServings;
 
-    public RecipeCard(Recipe recipe, int displayedIndex) {
+    public RecipeCard(Recipe recipe, int displayedIndex, int numberOfServingsPossible) {
         super(FXML);
         this.recipe = recipe;
         id.setText(displayedIndex + ". ");
         name.setText(recipe.getRecipeName().getName());
         ingredients.setText(recipe.getRecipeIngredientSet().toString());
-        numberOfServings.setText(NUMBER_OF_SERVINGS
-                + recipe.getRecipeIngredientSet().getNumberOfServings());
+        numberOfServings.setText(NUMBER_OF_SERVINGS + numberOfServingsPossible);
     }
 
     @Override
@@ -7,6 +7,7 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
+import seedu.address.model.RecipeServings;
 import seedu.address.model.recipe.Recipe;
 
 /**
@@ -17,10 +18,16 @@ public class RecipeListPanel extends ItemListPanel<Recipe> {
     @FXML
     private Label title;
 
-    public RecipeListPanel(ObservableList<Recipe> recipeList, ObservableValue<Recipe> selectedRecipe,
-                           Consumer<Recipe> onSelectedRecipeChange) {
-        super(recipeList, selectedRecipe, onSelectedRecipeChange, listview -> new RecipeListViewCell());
+    /**
+     * Creates a panel showing {@code recipeList}, along with the number of servings of each recipe given by
+     * {@code recipeServings}, which is redrawn whenever the number of servings change.
+     */
+    public RecipeListPanel(ObservableList<Recipe> recipeList, RecipeServings recipeServings,
+                           ObservableValue<Recipe> selectedRecipe, Consumer<Recipe> onSelectedRecipeChange) {
+        super(recipeList, selectedRecipe, onSelectedRecipeChange, listview -> new RecipeListViewCell(recipeServings));
         title.setText("Recipe");
+        // recipes refer to ingredients by name, so the recipe list does not change when the ingredients do
+        recipeServings.addListener(observable -> refresh());
     }
 }
 
@@ -28,6 +35,12 @@ public class RecipeListPanel extends ItemListPanel<Recipe> {
  * Custom {@code ListCell} that displays the graphics of a {@code Recipe} using a {@code RecipeCard}.
  */
 class RecipeListViewCell extends ListCell<Recipe> {
+    private final RecipeServings recipeServings;
+
+    RecipeListViewCell(RecipeServings recipeServings) {
+        this.recipeServings = recipeServings;
+    }
+
     @Override
     protected void updateItem(Recipe recipe, boolean empty) {
         super.updateItem(recipe, empty);
@@ -36,7 +49,7 @@ class RecipeListViewCell extends ListCell<Recipe> {
             setGraphic(null);
             setText(null);
         } else {
-            setGraphic(new RecipeCard(recipe, getIndex() + 1).getRoot());
+            setGraphic(new RecipeCard(recipe, getIndex() + 1, recipeServings.getNumberOfServings(recipe)).getRoot());
         }
     }
 }
@@ -3,6 +3,7 @@ package seedu.address;
 import static org.junit.Assert.assertEquals;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,8 +38,30 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validStartupProfilePath_success() {
+        parametersStub.namedParameters.put("startup-profile", "profile.txt");
+        expected.setStartupProfilePath(Paths.get("profile.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidStartupProfilePath_success() {
+        parametersStub.namedParameters.put("startup-profile", "a\0");
+        expected.setStartupProfilePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_exitAfterInitFlag_success() {
+        parametersStub.unnamedParameters.add(AppParameters.EXIT_AFTER_INIT_FLAG);
+        expected.setExitAfterInit(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -47,7 +70,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
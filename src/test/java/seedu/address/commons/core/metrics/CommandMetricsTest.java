@@ -0,0 +1,65 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void recordExecution_commitTimeAdded_commitSplitFromExecution() {
+        commandMetrics.addCommitTime(300);
+        commandMetrics.addCommitTime(200);
+        commandMetrics.recordExecution("add", 2000);
+
+        assertEquals(500, commandMetrics.getHistogram("add", Phase.COMMIT).getMaxNanos());
+        assertEquals(1500, commandMetrics.getHistogram("add", Phase.EXECUTE).getMaxNanos());
+
+        // the commit time is recorded once only
+        commandMetrics.recordExecution("list", 1000);
+        assertEquals(0, commandMetrics.getHistogram("list", Phase.COMMIT).getCount());
+        assertEquals(1000, commandMetrics.getHistogram("list", Phase.EXECUTE).getMaxNanos());
+    }
+
+    @Test
+    public void recordError_differentCommandWords_countedSeparately() {
+        commandMetrics.recordError("add");
+        commandMetrics.recordError("add");
+        commandMetrics.recordError("delete");
+
+        assertEquals(2, commandMetrics.getErrorCount("add"));
+        assertEquals(1, commandMetrics.getErrorCount("delete"));
+        assertEquals(0, commandMetrics.getErrorCount("list"));
+    }
+
+    @Test
+    public void getReport_latenciesRecorded_rowForEachPhaseRecorded() {
+        assertTrue(commandMetrics.isEmpty());
+
+        commandMetrics.record("add", Phase.PARSE, 1000);
+        commandMetrics.recordExecution("add", 2000);
+        commandMetrics.recordError("add");
+        commandMetrics.recordDiskWrite(3000000);
+        assertFalse(commandMetrics.isEmpty());
+
+        String[] rows = commandMetrics.getReport().split("\n");
+        assertEquals(5, rows.length);
+        assertTrue(rows[0].startsWith("command"));
+        assertTrue(rows[1].matches("add\\s+parse\\s+1\\s+0\\.001\\s+0\\.001\\s+0\\.001"));
+        assertTrue(rows[2].matches("\\s+execute\\s+1\\s+0\\.002\\s+0\\.002\\s+0\\.002"));
+        assertTrue(rows[3].matches("\\s+errors\\s+1\\s*"));
+        assertTrue(rows[4].matches("\\(disk writes\\)\\s+write\\s+1\\s+3\\.000\\s+3\\.000\\s+3\\.000"));
+    }
+
+    @Test
+    public void getHistogram_unrecordedCommandWord_emptyAndNotAdded() {
+        assertEquals(0, commandMetrics.getHistogram("add", Phase.PARSE).getCount());
+        assertTrue(commandMetrics.isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileNanos_noLatencies_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_latenciesRecorded_upperBoundOfBucket() {
+        for (int i = 0; i < 98; i++) {
+            histogram.record(micros(3));
+        }
+        histogram.record(micros(100));
+        histogram.record(micros(5000));
+
+        assertEquals(100, histogram.getCount());
+        // 3us is counted from 2us to under 4us
+        assertEquals(micros(4), histogram.getPercentileNanos(50));
+        assertEquals(micros(4), histogram.getPercentileNanos(98));
+        // 100us is counted from 64us to under 128us
+        assertEquals(micros(128), histogram.getPercentileNanos(99));
+        // the upper bound is capped at the largest latency
+        assertEquals(micros(5000), histogram.getPercentileNanos(100));
+        assertEquals(micros(5000), histogram.getMaxNanos());
+        assertEquals(micros(98 * 3 + 100 + 5000) / 100, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void record_subMicrosecondAndNegativeLatencies_countedInFirstBucket() {
+        histogram.record(500);
+        histogram.record(-1);
+        assertEquals(2, histogram.getCount());
+        assertEquals(500, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_hugeLatency_countedInLastBucket() {
+        long day = TimeUnit.DAYS.toNanos(100);
+        histogram.record(day);
+        assertEquals(day, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    private static long micros(long micros) {
+        return TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class StartupProfileTest {
+
+    private final StartupProfile startupProfile = new StartupProfile();
+
+    @Test
+    public void endPhase_nullArguments_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> startupProfile.endPhase(null, ""));
+        Assert.assertThrows(NullPointerException.class, () -> startupProfile.endPhase("initConfig", null));
+    }
+
+    @Test
+    public void getPhaseNames_noPhases_emptyList() {
+        assertEquals(Collections.emptyList(), startupProfile.getPhaseNames());
+        assertEquals(0, startupProfile.getTotalNanos());
+    }
+
+    @Test
+    public void getReport_phasesEnded_phasesInOrderWithDetailsAndTotal() throws Exception {
+        startupProfile.endPhase("initConfig", "");
+        Thread.sleep(1);
+        startupProfile.endPhase("readRestaurantBook", "3 items");
+
+        assertEquals(Arrays.asList("initConfig", "readRestaurantBook"), startupProfile.getPhaseNames());
+        assertTrue(startupProfile.getTotalNanos() > 0);
+
+        String[] rows = startupProfile.getReport().split("\n");
+        assertEquals(4, rows.length);
+        assertTrue(rows[0].startsWith("phase"));
+        assertTrue(rows[1].startsWith("initConfig"));
+        assertTrue(rows[2].startsWith("readRestaurantBook"));
+        assertTrue(rows[2].endsWith("3 items"));
+        assertTrue(rows[3].startsWith("(total)"));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.PERSON_EMAIL_DESC_AMY;
@@ -10,6 +12,10 @@ import static seedu.address.testutil.TypicalMembers.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -17,7 +23,15 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.flightrecorder.CommandEvent;
+import seedu.address.commons.core.flightrecorder.HistoryEvent;
+import seedu.address.commons.core.flightrecorder.RestaurantBookSaveEvent;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -79,24 +93,122 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_storageThrowsIoException_errorPassedToSaveErrorCallback() throws Exception {
         // Setup LogicManager with JsonRestaurantBookIoExceptionThrowingStub
         JsonRestaurantBookStorage addressBookStorage =
                 new JsonRestaurantBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> saveErrors = new ArrayList<>();
+        logic.setSaveErrorCallback(saveErrors::add);
 
-        // Execute add command
+        // Execute add command, which succeeds although the data cannot be saved in the background
         String addCommand = AddMemberCommand.COMMAND_WORD + PERSON_NAME_DESC_AMY
                 + PERSON_PHONE_DESC_AMY + PERSON_EMAIL_DESC_AMY;
-        Member expectedMember = new MemberBuilder(AMY).build();
+        Member expectedMember = new MemberBuilder(AMY).withLoyaltyPoints(0).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addMember(expectedMember);
         expectedModel.commitRestaurantBook();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddMemberCommand.MESSAGE_SUCCESS, expectedMember),
+                expectedModel);
         assertHistoryCorrect(addCommand);
+
+        storage.flushRestaurantBookSaves();
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), saveErrors);
+    }
+
+    @Test
+    public void execute_commands_latenciesRecordedByCommandWordAndPhase() throws Exception {
+        JsonRestaurantBookStorage addressBookStorage =
+                new JsonRestaurantBookStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+
+        // failed command -> error counted under its command word
+        assertCommandException("deletemember 9", MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+        assertEquals(1, commandMetrics.getErrorCount("deletemember"));
+        assertEquals(1, commandMetrics.getHistogram("deletemember", Phase.EXECUTE).getCount());
+
+        // unknown command -> error counted under the unknown command word
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(1, commandMetrics.getErrorCount(CommandMetrics.UNKNOWN_COMMAND_WORD));
+        assertEquals(1, commandMetrics.getHistogram(CommandMetrics.UNKNOWN_COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(0, commandMetrics.getHistogram("uicfhmowqewca", Phase.PARSE).getCount());
+
+        // read-only command -> no commit or save recorded
+        logic.execute(ListMembersCommand.COMMAND_WORD);
+        assertEquals(1, commandMetrics.getHistogram(ListMembersCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getHistogram(ListMembersCommand.COMMAND_WORD, Phase.COMMIT).getCount());
+        assertEquals(0, commandMetrics.getHistogram(ListMembersCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(0, commandMetrics.getErrorCount(ListMembersCommand.COMMAND_WORD));
+
+        // modifying command -> every phase and the disk write recorded
+        String addCommand = AddMemberCommand.COMMAND_WORD + PERSON_NAME_DESC_AMY
+                + PERSON_PHONE_DESC_AMY + PERSON_EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, commandMetrics.getHistogram(AddMemberCommand.COMMAND_WORD, phase).getCount());
+        }
+        storage.flushRestaurantBookSaves();
+        assertEquals(1, commandMetrics.getDiskWriteHistogram().getCount());
+    }
+
+    @Test
+    public void execute_commandsWhileRecording_flightRecorderEventsCommitted() throws Exception {
+        JsonRestaurantBookStorage addressBookStorage =
+                new JsonRestaurantBookStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        String addCommand = AddMemberCommand.COMMAND_WORD + PERSON_NAME_DESC_AMY
+                + PERSON_PHONE_DESC_AMY + PERSON_EMAIL_DESC_AMY;
+
+        Path recordingFile = temporaryFolder.newFile().toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.enable(HistoryEvent.class);
+            recording.enable(RestaurantBookSaveEvent.class);
+            recording.start();
+            assertCommandException("deletemember 9", MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+            logic.execute(addCommand);
+            storage.flushRestaurantBookSaves();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        List<RecordedEvent> commandEvents = getEvents(events, "seedu.address.Command");
+        assertEquals(2, commandEvents.size());
+        assertEquals("deletemember", commandEvents.get(0).getString("commandWord"));
+        assertFalse(commandEvents.get(0).getBoolean("succeeded"));
+        assertEquals(AddMemberCommand.COMMAND_WORD, commandEvents.get(1).getString("commandWord"));
+        assertTrue(commandEvents.get(1).getBoolean("succeeded"));
+        assertTrue(commandEvents.get(1).getBoolean("restaurantBookModified"));
+        assertEquals(1, commandEvents.get(1).getInt("itemCount"));
+
+        List<RecordedEvent> historyEvents = getEvents(events, "seedu.address.History");
+        assertEquals(1, historyEvents.size());
+        assertEquals(HistoryEvent.COMMIT, historyEvents.get(0).getString("operation"));
+        assertEquals(2, historyEvents.get(0).getInt("historySize"));
+
+        List<RecordedEvent> saveEvents = getEvents(events, "seedu.address.RestaurantBookSave");
+        assertEquals(1, saveEvents.size());
+        assertEquals(1, saveEvents.get(0).getInt("changeCount"));
+        assertTrue(saveEvents.get(0).getBoolean("succeeded"));
+        assertTrue(saveEvents.get(0).getLong("bytesWritten") > 0);
+    }
+
+    /**
+     * Returns the events in {@code events} of the event type named {@code eventName}, in the order they started.
+     */
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
     }
 
     @Test
@@ -0,0 +1,26 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class MetricsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute() {
+        assertCommandSuccess(new MetricsCommand(), model, history, MetricsCommand.MESSAGE_NO_METRICS, expectedModel);
+
+        model.getCommandMetrics().record(HistoryCommand.COMMAND_WORD, Phase.PARSE, 1000);
+        String expectedMessage = String.format(MetricsCommand.MESSAGE_SUCCESS, model.getCommandMetrics().getReport());
+        assertCommandSuccess(new MetricsCommand(), model, history, expectedMessage, expectedModel);
+    }
+
+}
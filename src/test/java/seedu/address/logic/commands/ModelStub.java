@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -9,12 +10,17 @@ import java.util.function.Predicate;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.RecipeServings;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.Statistics;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Capacity;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.journal.Change;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
 import seedu.address.model.recipe.Recipe;
@@ -204,6 +210,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredBookingList(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredIngredientList(Predicate<Ingredient> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -244,6 +255,36 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startRestaurantBookTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitRestaurantBookTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackRestaurantBookTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public RestaurantBook.NotificationScope openRestaurantBookNotificationScope() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addRestaurantBookChangeRecorder(Consumer<? super Change> changeRecorder) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setUpdateCapacityCallback(Consumer<Capacity> callback) {
         throw new AssertionError("This method should not be called.");
@@ -340,13 +381,33 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<LocalDateTime> suggestAvailableTimes(Booking toAdd, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public int countBookings(Member member) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Statistics getStatistics(int days) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Set<String> getRecipesAssociated(Ingredient ingredient) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public int getNumberOfServings(Recipe recipe) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public RecipeServings getRecipeServings() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
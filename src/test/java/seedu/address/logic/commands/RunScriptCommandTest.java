@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.member.DeleteMemberCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.UserPrefs;
+
+public class RunScriptCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validScript_allCommandsRunAndCommittedOnce() throws Exception {
+        Path script = writeScript("# remove the first two members", DeleteMemberCommand.COMMAND_WORD + " 1", "",
+                DeleteMemberCommand.COMMAND_WORD + " 1");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deleteMember(expectedModel.getFilteredMemberList().get(0));
+        expectedModel.deleteMember(expectedModel.getFilteredMemberList().get(0));
+        expectedModel.commitRestaurantBook();
+
+        assertCommandSuccess(new RunScriptCommand(script), model, commandHistory,
+                String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+
+        // a single undo reverts the whole script
+        model.undoRestaurantBook();
+        assertEquals(getTypicalAddressBook(), new RestaurantBook(model.getRestaurantBook()));
+        assertFalse(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void execute_commandFails_allCommandsRolledBack() throws Exception {
+        Path script = writeScript(DeleteMemberCommand.COMMAND_WORD + " 1", DeleteMemberCommand.COMMAND_WORD + " 100");
+
+        assertCommandFailure(new RunScriptCommand(script), model, commandHistory,
+                String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 2, MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX));
+        assertFalse(model.canUndoRestaurantBook());
+
+        // the model can still be changed and committed after a failed script
+        model.deleteMember(model.getFilteredMemberList().get(0));
+        model.commitRestaurantBook();
+        assertTrue(model.canUndoRestaurantBook());
+    }
+
+    @Test
+    public void execute_invalidCommand_noCommandsRun() throws Exception {
+        Path script = writeScript(DeleteMemberCommand.COMMAND_WORD + " 1", "unknowncommand");
+
+        assertCommandFailure(new RunScriptCommand(script), model, commandHistory,
+                String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_undoInScript_noCommandsRun() throws Exception {
+        Path script = writeScript(DeleteMemberCommand.COMMAND_WORD + " 1", UndoCommand.COMMAND_WORD);
+
+        assertCommandFailure(new RunScriptCommand(script), model, commandHistory,
+                String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 2,
+                        String.format(RunScriptCommand.MESSAGE_COMMAND_NOT_ALLOWED, UndoCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runFirstScript = new RunScriptCommand(Paths.get("first.txt"));
+        RunScriptCommand runSecondScript = new RunScriptCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstScript.equals(runFirstScript));
+
+        // same values -> returns true
+        assertTrue(runFirstScript.equals(new RunScriptCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstScript.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstScript.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstScript.equals(runSecondScript));
+    }
+
+    /**
+     * Writes a script with {@code lines} to a new file in the test folder and returns its path.
+     */
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.newFile().toPath();
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
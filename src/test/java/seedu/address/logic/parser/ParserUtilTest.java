@@ -354,6 +354,24 @@ public class ParserUtilTest {
         assertEquals(expectedBookingWindow, ParserUtil.parseBookingWindow(TIME_ONLY_NO_DATE));
     }
 
+    @Test
+    public void parseDateTime_dateAndTime_returnsDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2020, Month.FEBRUARY, 29, 12, 0),
+                ParserUtil.parseDateTime(WHITESPACE + VALID_FEB_29 + WHITESPACE, LocalTime.MIN));
+    }
+
+    @Test
+    public void parseDateTime_dateOnly_returnsDateAtGivenTime() throws Exception {
+        assertEquals(LocalDate.of(2020, Month.FEBRUARY, 29).atTime(LocalTime.MAX),
+                ParserUtil.parseDateTime("2020-02-29", LocalTime.MAX));
+    }
+
+    @Test
+    public void parseDateTime_invalidDateTime_throwsParseException() {
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseDateTime(INVALID_FEB_29, LocalTime.MIN));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseDateTime(TIME_ONLY_NO_DATE, LocalTime.MIN));
+    }
+
     @Test
     public void parseBookingSize_invalidValue_throwsParseException() {
         Assert.assertThrows(ParseException.class, () -> ParserUtil.parseBookingSize("0"));
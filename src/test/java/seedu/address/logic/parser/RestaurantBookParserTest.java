@@ -6,6 +6,8 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.nio.file.Paths;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -16,7 +18,9 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.MetricsCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.member.AddMemberCommand;
 import seedu.address.logic.commands.member.DeleteMemberCommand;
@@ -104,6 +108,12 @@ public class RestaurantBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_ALIAS) instanceof MetricsCommand);
+    }
 
     @Test
     public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
@@ -113,6 +123,15 @@ public class RestaurantBookParserTest {
         assertTrue(parser.parseCommand("redo 1") instanceof RedoCommand);
     }
 
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " scripts/restock.txt");
+        assertEquals(new RunScriptCommand(Paths.get("scripts/restock.txt")), command);
+        command = (RunScriptCommand) parser.parseCommand(RunScriptCommand.COMMAND_ALIAS + " scripts/restock.txt");
+        assertEquals(new RunScriptCommand(Paths.get("scripts/restock.txt")), command);
+    }
+
     @Test
     public void parseCommand_undoCommandWord_returnsUndoCommand() throws Exception {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser.booking;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.booking.ListBookingsCommand;
+import seedu.address.logic.parser.ParserUtil;
+
+public class ListBookingsCommandParserTest {
+    private static final LocalDate DATE = LocalDate.of(2019, Month.MARCH, 12);
+
+    private ListBookingsCommandParser parser = new ListBookingsCommandParser();
+
+    @Test
+    public void parse_emptyArgs_listsAllBookings() {
+        assertParseSuccess(parser, "   ", new ListBookingsCommand(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void parse_datesOnly_wholeDaysIncluded() {
+        assertParseSuccess(parser, " " + PREFIX_START_TIME + "2019-03-12 " + PREFIX_END_TIME + "2019-03-13",
+                new ListBookingsCommand(DATE.atStartOfDay(), DATE.plusDays(1).atTime(LocalTime.MAX)));
+    }
+
+    @Test
+    public void parse_datesAndTimes_returnsListBookingsCommand() {
+        assertParseSuccess(parser, " " + PREFIX_START_TIME + "2019-03-12T12:00",
+                new ListBookingsCommand(DATE.atTime(12, 0), LocalDateTime.MAX));
+        assertParseSuccess(parser, " " + PREFIX_END_TIME + "2019-03-12T12:00",
+                new ListBookingsCommand(LocalDateTime.MIN, DATE.atTime(12, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "trash", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListBookingsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_START_TIME + "12:00", ParserUtil.MESSAGE_INVALID_DATE_TIME);
+        assertParseFailure(parser, " " + PREFIX_START_TIME + "2019-03-13 " + PREFIX_END_TIME + "2019-03-12",
+                ListBookingsCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -4,7 +4,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_EMAIL_BOB;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BOOKINGS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalBookings.START_TIME;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.BENSON;
 import static seedu.address.testutil.TypicalMembers.BOB;
@@ -24,6 +28,7 @@ import seedu.address.model.person.exceptions.ItemNotFoundException;
 import seedu.address.model.person.member.Member;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalBookings;
 
 public class ModelManagerTest {
     @Rule
@@ -149,6 +154,18 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getSelectedMember());
     }
 
+    @Test
+    public void updateFilteredBookingList_timeRange_onlyBookingsInRangeShown() {
+        modelManager = new ModelManager(TypicalBookings.getTypicalAddressBook(), new UserPrefs());
+
+        modelManager.updateFilteredBookingList(START_TIME, START_TIME.plusHours(1));
+        assertEquals(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING), modelManager.getFilteredBookingList());
+
+        // a predicate clears the range
+        modelManager.updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
+        assertEquals(5, modelManager.getFilteredBookingList().size());
+    }
+
     @Test
     public void equals() {
         RestaurantBook restaurantBook = new AddressBookBuilder().withMember(ALICE).withMember(BENSON).build();
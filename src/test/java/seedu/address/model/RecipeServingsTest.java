@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalIngredients.CHEESE;
+import static seedu.address.testutil.TypicalIngredients.COFFEE;
+import static seedu.address.testutil.TypicalIngredients.TOMATO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.IngredientBuilder;
+
+public class RecipeServingsTest {
+
+    private final Ingredient cheese = new IngredientBuilder(CHEESE).withIngredientQuantity(6).build();
+    private final Ingredient tomato = new IngredientBuilder(TOMATO).withIngredientQuantity(2).build();
+    private final Recipe pizza = buildRecipe("Pizza", cheese, tomato);
+    private final Recipe toast = buildRecipe("Toast", cheese);
+
+    private final RestaurantBook restaurantBook = new RestaurantBook();
+    private final SimpleIntegerProperty notificationCount = new SimpleIntegerProperty();
+    private RecipeServings recipeServings;
+
+    @Before
+    public void setUp() {
+        restaurantBook.addIngredient(cheese);
+        restaurantBook.addIngredient(tomato);
+        restaurantBook.addRecipe(pizza);
+        recipeServings = new RecipeServings(restaurantBook);
+        recipeServings.addListener(observable -> notificationCount.set(notificationCount.get() + 1));
+    }
+
+    @Test
+    public void constructor_existingRecipes_servingsCalculated() {
+        assertEquals(2, recipeServings.getNumberOfServings(pizza));
+    }
+
+    @Test
+    public void getNumberOfServings_recipeNotInRestaurantBook_calculated() {
+        assertEquals(6, recipeServings.getNumberOfServings(toast));
+    }
+
+    @Test
+    public void setIngredient_ingredientConsumed_servingsUpdated() {
+        restaurantBook.setIngredient(tomato, new IngredientBuilder(tomato).withIngredientQuantity(1).build());
+        assertEquals(1, recipeServings.getNumberOfServings(pizza));
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void setIngredient_servingsUnchanged_listenersNotNotified() {
+        // still limited by the tomatoes
+        restaurantBook.setIngredient(cheese, new IngredientBuilder(cheese).withIngredientQuantity(5).build());
+        restaurantBook.addIngredient(COFFEE);
+
+        assertEquals(2, recipeServings.getNumberOfServings(pizza));
+        assertEquals(0, notificationCount.get());
+    }
+
+    @Test
+    public void setIngredient_withinNotificationScope_listenersNotifiedOnceWhenClosed() {
+        RestaurantBook.NotificationScope notificationScope = restaurantBook.openNotificationScope();
+        restaurantBook.setIngredient(tomato, new IngredientBuilder(tomato).withIngredientQuantity(1).build());
+        restaurantBook.addRecipe(toast);
+        assertEquals(1, recipeServings.getNumberOfServings(pizza));
+        assertEquals(0, notificationCount.get());
+
+        notificationScope.close();
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void addRecipe_newRecipe_servingsCalculated() {
+        restaurantBook.addRecipe(toast);
+        assertEquals(6, recipeServings.getNumberOfServings(toast));
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void setRecipe_sameNameAndServings_listenersNotNotified() {
+        // still limited by the tomatoes
+        restaurantBook.setRecipe(pizza, buildRecipe("Pizza", tomato));
+        assertEquals(2, recipeServings.getNumberOfServings(pizza));
+        assertEquals(0, notificationCount.get());
+    }
+
+    @Test
+    public void setRecipe_sameNameDifferentServings_listenersNotified() {
+        restaurantBook.setRecipe(pizza, buildRecipe("Pizza", cheese));
+        assertEquals(6, recipeServings.getNumberOfServings(pizza));
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void setRecipe_renamedWithSameServings_listenersNotified() {
+        Recipe renamedPizza = buildRecipe("Margherita", cheese, tomato);
+        restaurantBook.setRecipe(pizza, renamedPizza);
+        assertEquals(2, recipeServings.getNumberOfServings(renamedPizza));
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void getServableRecipes_ingredientUsedUp_recipeNotServable() {
+        restaurantBook.addRecipe(toast);
+        assertEquals(Arrays.asList(pizza, toast), recipeServings.getServableRecipes());
+
+        restaurantBook.setIngredient(tomato, new IngredientBuilder(tomato).withIngredientQuantity(0).build());
+        assertEquals(Collections.singletonList(toast), recipeServings.getServableRecipes());
+    }
+
+    @Test
+    public void restoreSnapshot_ingredientsRestored_servingsRecalculated() {
+        RestaurantBookSnapshot snapshot = restaurantBook.getSnapshot();
+        restaurantBook.removeIngredient(tomato);
+        assertEquals(0, recipeServings.getNumberOfServings(pizza));
+
+        restaurantBook.restoreSnapshot(snapshot);
+        assertEquals(2, recipeServings.getNumberOfServings(pizza));
+    }
+
+    /**
+     * Returns a recipe named {@code name} that needs one unit of each of {@code ingredients}.
+     */
+    private static Recipe buildRecipe(String name, Ingredient... ingredients) {
+        Map<Ingredient, IngredientQuantity> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredients) {
+            ingredientMap.put(ingredient, new IngredientQuantity(1));
+        }
+        return new Recipe(new RecipeName(name), new RecipeIngredientSet(ingredientMap));
+    }
+}
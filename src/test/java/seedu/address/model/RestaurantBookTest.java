@@ -2,14 +2,32 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSON_BOOKING;
+import static seedu.address.testutil.TypicalBookings.CARL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING;
+import static seedu.address.testutil.TypicalBookings.DANIEL_BOOKING_SECOND;
+import static seedu.address.testutil.TypicalBookings.START_TIME;
+import static seedu.address.testutil.TypicalIngredients.CHEESE;
+import static seedu.address.testutil.TypicalIngredients.COFFEE;
+import static seedu.address.testutil.TypicalIngredients.TOMATO;
 import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.HOON;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,13 +38,24 @@ import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingSize;
+import seedu.address.model.booking.BookingWindow;
 import seedu.address.model.booking.Capacity;
+import seedu.address.model.booking.CoverCounts;
 import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
 import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.person.exceptions.RestaurantOverbookedException;
 import seedu.address.model.person.member.Member;
 import seedu.address.model.person.staff.Staff;
 import seedu.address.model.recipe.Recipe;
+import seedu.address.model.recipe.RecipeIngredientSet;
+import seedu.address.model.recipe.RecipeName;
+import seedu.address.testutil.IngredientBuilder;
 import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TypicalBookings;
 
 public class RestaurantBookTest {
 
@@ -64,6 +93,74 @@ public class RestaurantBookTest {
         restaurantBook.resetData(newData);
     }
 
+    @Test
+    public void setBookings_unsortedBookings_bookingsSortedAndFound() {
+        Booking laterBooking = new Booking(new BookingWindow(START_TIME.plusHours(3)), BOB, new BookingSize(2));
+        Booking latestBooking = new Booking(new BookingWindow(START_TIME.plusHours(6)), ALICE, new BookingSize(2));
+        restaurantBook.setBookings(Arrays.asList(latestBooking, ALICE_BOOKING, laterBooking));
+        assertEquals(Arrays.asList(ALICE_BOOKING, laterBooking, latestBooking), restaurantBook.getBookingList());
+
+        // bookings can be looked up in the sorted list
+        Booking editedBooking = new Booking(new BookingWindow(START_TIME.plusHours(9)), BOB, new BookingSize(2));
+        restaurantBook.setBooking(laterBooking, editedBooking);
+        restaurantBook.removeBooking(latestBooking);
+        assertEquals(Arrays.asList(ALICE_BOOKING, editedBooking), restaurantBook.getBookingList());
+    }
+
+    @Test
+    public void loadData_unsortedBookings_bookingsSortedAndListenersNotifiedOnce() {
+        Booking laterBooking = new Booking(new BookingWindow(START_TIME.plusHours(3)), BOB, new BookingSize(2));
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        restaurantBook.addListener(observable -> counter.set(counter.get() + 1));
+
+        restaurantBook.loadData(Arrays.asList(ALICE, BOB), Arrays.asList(laterBooking, ALICE_BOOKING),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), new Capacity(10));
+
+        assertEquals(Arrays.asList(ALICE_BOOKING, laterBooking), restaurantBook.getBookingList());
+        assertEquals(new Capacity(10), restaurantBook.getCapacity());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void loadData_bookingsExceedCapacity_dataUnchanged() {
+        restaurantBook.addMember(ALICE);
+        Booking overlappingBooking =
+                new Booking(new BookingWindow(START_TIME.plusMinutes(30)), BOB, new BookingSize(2));
+
+        try {
+            restaurantBook.loadData(Collections.emptyList(), Arrays.asList(ALICE_BOOKING, overlappingBooking),
+                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), new Capacity(6));
+            throw new AssertionError("The operation should fail.");
+        } catch (RestaurantOverbookedException roe) {
+            assertEquals(Collections.singletonList(ALICE), restaurantBook.getMemberList());
+            assertTrue(restaurantBook.getBookingList().isEmpty());
+            assertTrue(restaurantBook.canAccommodate(overlappingBooking));
+        }
+    }
+
+    @Test
+    public void loadData_duplicateBookings_throwsDuplicateItemException() {
+        thrown.expect(DuplicateItemException.class);
+        restaurantBook.loadData(Collections.emptyList(), Arrays.asList(ALICE_BOOKING, ALICE_BOOKING),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), new Capacity(10));
+    }
+
+    @Test
+    public void loadData_duplicateMembers_dataUnchanged() {
+        restaurantBook.addMember(ALICE);
+        restaurantBook.addBooking(ALICE_BOOKING);
+        Booking otherBooking = new Booking(new BookingWindow(START_TIME.plusHours(3)), BOB, new BookingSize(2));
+
+        try {
+            restaurantBook.loadData(Arrays.asList(BOB, BOB), Collections.singletonList(otherBooking),
+                    Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), new Capacity(10));
+            throw new AssertionError("The operation should fail.");
+        } catch (DuplicateItemException die) {
+            assertEquals(Collections.singletonList(ALICE), restaurantBook.getMemberList());
+            assertEquals(Collections.singletonList(ALICE_BOOKING), restaurantBook.getBookingList());
+        }
+    }
+
     @Test
     public void hasMember_nullMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -88,6 +185,216 @@ public class RestaurantBookTest {
         assertTrue(restaurantBook.hasMember(editedAlice));
     }
 
+    @Test
+    public void addBooking_exceedsCapacity_bookingNotAdded() {
+        restaurantBook.setCapacity(new Capacity(6));
+        restaurantBook.addBooking(ALICE_BOOKING);
+        Booking overlappingBooking =
+                new Booking(new BookingWindow(START_TIME.plusMinutes(30)), BOB, new BookingSize(2));
+        assertFalse(restaurantBook.canAccommodate(overlappingBooking));
+
+        try {
+            restaurantBook.addBooking(overlappingBooking);
+        } catch (RestaurantOverbookedException e) {
+            assertEquals(Collections.singletonList(ALICE_BOOKING), restaurantBook.getBookingList());
+        }
+
+        // once the overlapping booking is gone, the slot is free again
+        restaurantBook.removeBooking(ALICE_BOOKING);
+        assertTrue(restaurantBook.canAccommodate(overlappingBooking));
+    }
+
+    @Test
+    public void countBookings_bookingsAddedAndRemoved_countsMemberBookings() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        assertEquals(2, typicalRestaurantBook.countBookings(DANIEL));
+        assertEquals(1, typicalRestaurantBook.countBookings(ALICE));
+
+        typicalRestaurantBook.removeBooking(DANIEL_BOOKING);
+        assertEquals(1, typicalRestaurantBook.countBookings(DANIEL));
+        assertEquals(0, typicalRestaurantBook.countBookings(HOON));
+    }
+
+    @Test
+    public void setMember_memberWithBookings_onlyMemberBookingsUpdated() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        List<Change> changes = new ArrayList<>();
+        typicalRestaurantBook.addChangeRecorder(changes::add);
+        Member editedDaniel = new MemberBuilder(DANIEL).withPhone("81234567").build();
+
+        typicalRestaurantBook.setMember(DANIEL, editedDaniel);
+
+        assertEquals(Arrays.asList(DANIEL_BOOKING.editContacts(editedDaniel), ALICE_BOOKING, BENSON_BOOKING,
+                CARL_BOOKING, DANIEL_BOOKING_SECOND.editContacts(editedDaniel)),
+                typicalRestaurantBook.getBookingList());
+        assertEquals(0, typicalRestaurantBook.countBookings(DANIEL));
+        assertEquals(2, typicalRestaurantBook.countBookings(editedDaniel));
+        // one change for the member and one for each of the member's bookings
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void removeMember_memberWithBookings_memberBookingsRemoved() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        typicalRestaurantBook.removeMember(DANIEL);
+
+        assertEquals(Arrays.asList(ALICE_BOOKING, BENSON_BOOKING, CARL_BOOKING),
+                typicalRestaurantBook.getBookingList());
+        assertEquals(0, typicalRestaurantBook.countBookings(DANIEL));
+    }
+
+    @Test
+    public void archiveBookingsBefore_oldBookings_bookingsArchivedAndStillCounted() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        LocalDate date = START_TIME.toLocalDate();
+
+        assertEquals(3, typicalRestaurantBook.archiveBookingsBefore(date.plusDays(1)));
+
+        assertEquals(Arrays.asList(CARL_BOOKING, DANIEL_BOOKING_SECOND), typicalRestaurantBook.getBookingList());
+        assertEquals(1, typicalRestaurantBook.countBookings(DANIEL));
+        assertEquals(5, typicalRestaurantBook.getArchivedCovers().getCovers(date.minusDays(1), date.minusDays(1)));
+        assertEquals(10, typicalRestaurantBook.getArchivedCovers().getCovers(date, date));
+        assertEquals(0, typicalRestaurantBook.getCoverCounts().getCovers(date, date));
+    }
+
+    @Test
+    public void archiveBookingsBefore_changesInverted_bookingsRestored() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        RestaurantBook original = new RestaurantBook(typicalRestaurantBook);
+        List<Change> changes = new ArrayList<>();
+        typicalRestaurantBook.addChangeRecorder(changes::add);
+
+        typicalRestaurantBook.archiveBookingsBefore(START_TIME.toLocalDate().plusDays(1));
+        typicalRestaurantBook.applyChange(new ChangeSet(changes).inverse());
+
+        assertEquals(original, typicalRestaurantBook);
+        assertTrue(typicalRestaurantBook.getArchivedCovers().isEmpty());
+        assertEquals(15, typicalRestaurantBook.getCoverCounts().getCovers(START_TIME.toLocalDate().minusDays(1),
+                START_TIME.toLocalDate()));
+    }
+
+    @Test
+    public void archiveBookingsBefore_noOldBookings_nothingChanged() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        List<Change> changes = new ArrayList<>();
+        typicalRestaurantBook.addChangeRecorder(changes::add);
+
+        assertEquals(0, typicalRestaurantBook.archiveBookingsBefore(START_TIME.toLocalDate().minusDays(1)));
+        assertEquals(Collections.emptyList(), changes);
+    }
+
+    @Test
+    public void restoreSnapshot_bookingsArchived_archivedCoversRestored() {
+        RestaurantBook typicalRestaurantBook = TypicalBookings.getTypicalAddressBook();
+        RestaurantBookSnapshot snapshot = typicalRestaurantBook.getSnapshot();
+        typicalRestaurantBook.archiveBookingsBefore(START_TIME.toLocalDate().plusDays(1));
+
+        typicalRestaurantBook.restoreSnapshot(snapshot);
+
+        assertEquals(snapshot.getBookingList(), typicalRestaurantBook.getBookingList());
+        assertTrue(typicalRestaurantBook.getArchivedCovers().isEmpty());
+    }
+
+    @Test
+    public void getRecipesAssociated_recipesUsingIngredient_recipeNamesReturned() {
+        restaurantBook.addIngredient(CHEESE);
+        restaurantBook.addIngredient(TOMATO);
+        restaurantBook.addRecipe(buildRecipe("Pizza", CHEESE, TOMATO));
+        restaurantBook.addRecipe(buildRecipe("Salad", TOMATO));
+
+        assertEquals(new HashSet<>(Arrays.asList("Pizza", "Salad")), restaurantBook.getRecipesAssociated(TOMATO));
+        assertEquals(Collections.singleton("Pizza"), restaurantBook.getRecipesAssociated(CHEESE));
+        assertEquals(Collections.emptySet(), restaurantBook.getRecipesAssociated(COFFEE));
+    }
+
+    @Test
+    public void setIngredient_ingredientRestocked_recipesNotChanged() {
+        restaurantBook.addIngredient(CHEESE);
+        restaurantBook.addIngredient(TOMATO);
+        Recipe pizza = buildRecipe("Pizza", CHEESE, TOMATO);
+        restaurantBook.addRecipe(pizza);
+        List<Change> changes = new ArrayList<>();
+        restaurantBook.addChangeRecorder(changes::add);
+        Ingredient restockedCheese = new IngredientBuilder(CHEESE).withIngredientQuantity(40).build();
+
+        restaurantBook.setIngredient(CHEESE, restockedCheese);
+
+        assertSame(pizza, restaurantBook.getRecipeList().get(0));
+        assertEquals(Collections.singleton("Pizza"), restaurantBook.getRecipesAssociated(restockedCheese));
+        // only the ingredient changes
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setIngredient_ingredientRenamed_onlyRecipesUsingIngredientUpdated() {
+        restaurantBook.addIngredient(CHEESE);
+        restaurantBook.addIngredient(TOMATO);
+        restaurantBook.addRecipe(buildRecipe("Pizza", CHEESE, TOMATO));
+        restaurantBook.addRecipe(buildRecipe("Salad", TOMATO));
+        List<Change> changes = new ArrayList<>();
+        restaurantBook.addChangeRecorder(changes::add);
+        Ingredient renamedCheese = new IngredientBuilder(CHEESE).withIngredientName("mozzarella").build();
+
+        restaurantBook.setIngredient(CHEESE, renamedCheese);
+
+        assertEquals(buildRecipe("Pizza", renamedCheese, TOMATO), restaurantBook.getRecipeList().get(0));
+        assertEquals(buildRecipe("Salad", TOMATO), restaurantBook.getRecipeList().get(1));
+        assertEquals(Collections.singleton("Pizza"), restaurantBook.getRecipesAssociated(renamedCheese));
+        assertEquals(Collections.emptySet(), restaurantBook.getRecipesAssociated(CHEESE));
+        // one change for the ingredient and one for the only recipe using it
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void getNumberOfServings_ingredientsInInventory_limitedByScarcestIngredient() {
+        restaurantBook.addIngredient(new IngredientBuilder(CHEESE).withIngredientQuantity(5).build());
+        Ingredient tomato = new IngredientBuilder(TOMATO).withIngredientQuantity(3).build();
+        restaurantBook.addIngredient(tomato);
+        Recipe pizza = buildRecipe("Pizza", CHEESE, TOMATO);
+        restaurantBook.addRecipe(pizza);
+        assertEquals(3, restaurantBook.getNumberOfServings(pizza));
+
+        Ingredient consumedTomato = new IngredientBuilder(TOMATO).withIngredientQuantity(1).build();
+        restaurantBook.setIngredient(tomato, consumedTomato);
+        assertEquals(1, restaurantBook.getNumberOfServings(pizza));
+
+        restaurantBook.removeIngredient(consumedTomato);
+        assertEquals(0, restaurantBook.getNumberOfServings(pizza));
+    }
+
+    @Test
+    public void removeIngredient_ingredientInRecipe_recipesUsingIngredientRemoved() {
+        restaurantBook.addIngredient(CHEESE);
+        restaurantBook.addIngredient(TOMATO);
+        restaurantBook.addRecipe(buildRecipe("Pizza", CHEESE, TOMATO));
+        restaurantBook.addRecipe(buildRecipe("Salad", TOMATO));
+
+        restaurantBook.removeIngredient(CHEESE);
+
+        assertEquals(Collections.singletonList(buildRecipe("Salad", TOMATO)), restaurantBook.getRecipeList());
+        assertEquals(Collections.singleton("Salad"), restaurantBook.getRecipesAssociated(TOMATO));
+    }
+
+    @Test
+    public void removeIngredient_ingredientInSeveralRecipes_recipesRemovedAndChangesReversible() {
+        restaurantBook.addIngredient(CHEESE);
+        restaurantBook.addIngredient(TOMATO);
+        restaurantBook.addRecipe(buildRecipe("Pizza", CHEESE, TOMATO));
+        restaurantBook.addRecipe(buildRecipe("Salad", TOMATO));
+        restaurantBook.addRecipe(buildRecipe("Pasta", CHEESE));
+        List<Recipe> originalRecipes = new ArrayList<>(restaurantBook.getRecipeList());
+        List<Change> changes = new ArrayList<>();
+        restaurantBook.addChangeRecorder(changes::add);
+
+        restaurantBook.removeIngredient(CHEESE);
+        assertEquals(Collections.singletonList(buildRecipe("Salad", TOMATO)), restaurantBook.getRecipeList());
+
+        // the recorded positions of the removed recipes restore them to where they were
+        restaurantBook.applyChange(new ChangeSet(changes).inverse());
+        assertEquals(originalRecipes, restaurantBook.getRecipeList());
+        assertEquals(2, restaurantBook.getRecipesUsing(CHEESE.getIngredientName()).size());
+    }
+
     @Test
     public void getMemberList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -113,6 +420,46 @@ public class RestaurantBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void openNotificationScope_multipleModifications_listenersNotifiedOnceWhenClosed() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        restaurantBook.addListener(observable -> counter.set(counter.get() + 1));
+
+        RestaurantBook.NotificationScope outerScope = restaurantBook.openNotificationScope();
+        RestaurantBook.NotificationScope innerScope = restaurantBook.openNotificationScope();
+        restaurantBook.addMember(ALICE);
+        restaurantBook.addMember(BOB);
+        innerScope.close();
+        restaurantBook.addIngredient(CHEESE);
+        assertEquals(0, counter.get());
+
+        outerScope.close();
+        assertEquals(1, counter.get());
+
+        // closing a scope again has no effect
+        outerScope.close();
+        restaurantBook.addMember(DANIEL);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void openNotificationScope_noModifications_listenersNotNotified() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        restaurantBook.addListener(observable -> counter.set(counter.get() + 1));
+
+        restaurantBook.openNotificationScope().close();
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void resetData_listenersNotifiedOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        restaurantBook.addListener(observable -> counter.set(counter.get() + 1));
+
+        restaurantBook.resetData(getTypicalAddressBook());
+        assertEquals(1, counter.get());
+    }
+
     /**
      * A stub ReadOnlyRestaurantBook whose members list can violate interface constraints.
      */
@@ -162,6 +509,22 @@ public class RestaurantBookTest {
         public Capacity getCapacity() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public CoverCounts getArchivedCovers() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
+
+    /**
+     * Returns a recipe named {@code name} that needs one unit of each of {@code ingredients}.
+     */
+    private static Recipe buildRecipe(String name, Ingredient... ingredients) {
+        Map<Ingredient, IngredientQuantity> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredients) {
+            ingredientMap.put(ingredient, new IngredientQuantity(1));
+        }
+        return new Recipe(new RecipeName(name), new RecipeIngredientSet(ingredientMap));
+    }
 }
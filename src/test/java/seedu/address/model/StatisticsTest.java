@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -104,4 +105,23 @@ public class StatisticsTest {
             }
         }
     }
+
+    @Test
+    public void generateGraphDataDays_bookingsChanged_countsUpdated() {
+        LocalDate today = LocalDate.of(2019, 3, 16);
+        RestaurantBook restaurantBook = new RestaurantBook();
+        Booking booking = new Booking(new BookingWindow(today.atTime(10, 0)), TypicalMembers.ALICE,
+                new BookingSize(5));
+        restaurantBook.addMember(TypicalMembers.ALICE);
+        restaurantBook.addBooking(booking);
+
+        List<XYChart.Data<String, Integer>> datas =
+                new Statistics(restaurantBook.getCoverCounts(), 1, today).generateGraphDataDays();
+        assertEquals(Integer.valueOf(5), datas.get(0).getYValue());
+        assertEquals("16 Mar 2019", datas.get(0).getXValue());
+
+        restaurantBook.removeBooking(booking);
+        datas = new Statistics(restaurantBook.getCoverCounts(), 1, today).generateGraphDataDays();
+        assertEquals(Integer.valueOf(0), datas.get(0).getYValue());
+    }
 }
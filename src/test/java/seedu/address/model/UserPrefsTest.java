@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -18,4 +20,25 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setRestaurantBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryDepth_nonPositiveDepth_defaultDepthUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(5);
+        assertEquals(5, userPrefs.getUndoHistoryDepth());
+        userPrefs.setUndoHistoryDepth(0);
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, userPrefs.getUndoHistoryDepth());
+        userPrefs.setUndoHistoryDepth(-1);
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, userPrefs.getUndoHistoryDepth());
+    }
+
+    @Test
+    public void setUndoHistoryItemLimit_nonPositiveLimit_defaultLimitUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryItemLimit(5);
+        assertEquals(5, userPrefs.getUndoHistoryItemLimit());
+        userPrefs.setUndoHistoryItemLimit(0);
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT, userPrefs.getUndoHistoryItemLimit());
+        userPrefs.setUndoHistoryItemLimit(-1);
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT, userPrefs.getUndoHistoryItemLimit());
+    }
 }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalMembers.AMY;
 import static seedu.address.testutil.TypicalMembers.BOB;
 import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,7 +15,12 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.VersionedRestaurantBook.HistoryMode;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Capacity;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.TypicalBookings;
 
 public class VersionedRestaurantBookTest {
 
@@ -207,6 +213,185 @@ public class VersionedRestaurantBookTest {
         assertThrows(VersionedRestaurantBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void commit_unchangedLists_sharedWithPreviousState() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(addressBookWithAmy);
+        assertEquals(1, versionedAddressBook.getRetainedItemCount());
+
+        versionedAddressBook.addMember(BOB);
+        versionedAddressBook.commit();
+
+        // only the member list is copied again
+        assertEquals(3, versionedAddressBook.getRetainedItemCount());
+        assertEquals(2, versionedAddressBook.getHistorySize());
+    }
+
+    @Test
+    public void commit_exceedsHistoryDepth_oldestStatesDiscarded() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook,
+                HistoryMode.SNAPSHOTS, 2, VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithCarl);
+        versionedAddressBook.commit();
+
+        assertEquals(3, versionedAddressBook.getHistorySize());
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 2);
+        assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_exceedsHistoryItemLimit_oldestStatesDiscarded() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(addressBookWithAmy,
+                HistoryMode.SNAPSHOTS, VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, 2);
+        versionedAddressBook.addMember(BOB);
+        versionedAddressBook.commit();
+
+        // the state with only Amy no longer fits, but the current state is always kept
+        assertEquals(2, versionedAddressBook.getRetainedItemCount());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void setHistoryLimits_invalidLimits_throwsIllegalArgumentException() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook);
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setHistoryLimits(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setHistoryLimits(1, 0));
+    }
+
+    @Test
+    public void undoRedo_journalMode_cascadedChangesReverted() {
+        RestaurantBook initialState = TypicalBookings.getTypicalAddressBook();
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(initialState, HistoryMode.JOURNAL,
+                VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+
+        // removing a member also removes the bookings
+        versionedAddressBook.removeMember(DANIEL);
+        versionedAddressBook.commit();
+        RestaurantBook withoutDaniel = new RestaurantBook(versionedAddressBook);
+
+        // moving a booking to the end of the list
+        Booking movedBooking = new BookingBuilder(TypicalBookings.ALICE_BOOKING)
+                .withDate(TypicalBookings.START_TIME.plusDays(7)).build();
+        versionedAddressBook.setBooking(TypicalBookings.ALICE_BOOKING, movedBooking);
+        versionedAddressBook.setCapacity(new Capacity(50));
+        versionedAddressBook.commit();
+        RestaurantBook withMovedBooking = new RestaurantBook(versionedAddressBook);
+        assertEquals(movedBooking, withMovedBooking.getBookingList().get(withMovedBooking.getBookingList().size() - 1));
+
+        versionedAddressBook.undo();
+        assertEquals(withoutDaniel, new RestaurantBook(versionedAddressBook));
+        assertEquals(Capacity.getDefaultCapacity(), versionedAddressBook.getCapacity());
+
+        versionedAddressBook.undo();
+        assertEquals(initialState, new RestaurantBook(versionedAddressBook));
+        assertEquals(initialState.getBookingList(), versionedAddressBook.getBookingList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(withMovedBooking, new RestaurantBook(versionedAddressBook));
+        assertEquals(new Capacity(50), versionedAddressBook.getCapacity());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_journalModeWithUncommittedChanges_revertedToPreviousCommit() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook,
+                HistoryMode.JOURNAL, VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH,
+                VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+        versionedAddressBook.addMember(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addMember(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new RestaurantBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_journalModeExceedsHistoryItemLimit_oldestStatesDiscarded() {
+        VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook,
+                HistoryMode.JOURNAL, VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, 1);
+        versionedAddressBook.addMember(AMY);
+        versionedAddressBook.commit();
+        assertEquals(1, versionedAddressBook.getRetainedItemCount());
+
+        versionedAddressBook.addMember(BOB);
+        versionedAddressBook.commit();
+        assertEquals(1, versionedAddressBook.getRetainedItemCount());
+        assertEquals(2, versionedAddressBook.getHistorySize());
+    }
+
+    @Test
+    public void commitTransaction_multipleCommits_singleStateSaved() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(emptyAddressBook, historyMode,
+                    VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+            versionedAddressBook.startTransaction();
+            versionedAddressBook.addMember(AMY);
+            versionedAddressBook.commit();
+            versionedAddressBook.addMember(BOB);
+            versionedAddressBook.commit();
+            assertTrue(versionedAddressBook.isInTransaction());
+            assertFalse(versionedAddressBook.canUndo());
+
+            versionedAddressBook.commitTransaction();
+            assertFalse(versionedAddressBook.isInTransaction());
+            assertEquals(2, versionedAddressBook.getHistorySize());
+            versionedAddressBook.undo();
+            assertEquals(emptyAddressBook, new RestaurantBook(versionedAddressBook));
+        }
+    }
+
+    @Test
+    public void commitTransaction_noCommits_noStateSaved() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.startTransaction();
+        versionedAddressBook.commitTransaction();
+        assertEquals(1, versionedAddressBook.getHistorySize());
+    }
+
+    @Test
+    public void rollbackTransaction_changesReverted() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedRestaurantBook versionedAddressBook = new VersionedRestaurantBook(addressBookWithAmy, historyMode,
+                    VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT);
+            versionedAddressBook.startTransaction();
+            versionedAddressBook.addMember(BOB);
+            versionedAddressBook.commit();
+            versionedAddressBook.removeMember(AMY);
+            versionedAddressBook.setCapacity(new Capacity(5));
+
+            versionedAddressBook.rollbackTransaction();
+            assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+            assertEquals(1, versionedAddressBook.getHistorySize());
+
+            // later commits are unaffected by the rolled back changes
+            versionedAddressBook.addMember(CARL);
+            versionedAddressBook.commit();
+            versionedAddressBook.undo();
+            assertEquals(addressBookWithAmy, new RestaurantBook(versionedAddressBook));
+        }
+    }
+
+    @Test
+    public void transaction_invalidCalls_throwExceptions() {
+        VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        assertThrows(VersionedRestaurantBook.NoTransactionException.class, versionedAddressBook::commitTransaction);
+        assertThrows(VersionedRestaurantBook.NoTransactionException.class, versionedAddressBook::rollbackTransaction);
+
+        versionedAddressBook.startTransaction();
+        assertThrows(VersionedRestaurantBook.TransactionInProgressException.class,
+                versionedAddressBook::startTransaction);
+        assertThrows(VersionedRestaurantBook.TransactionInProgressException.class, versionedAddressBook::undo);
+        assertThrows(VersionedRestaurantBook.TransactionInProgressException.class, versionedAddressBook::redo);
+    }
+
     @Test
     public void equals() {
         VersionedRestaurantBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -0,0 +1,118 @@
+package seedu.address.model.booking;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.Assert;
+
+public class BookingTimeRangeListTest {
+    private static final LocalDate DAY = LocalDate.of(2019, Month.MARCH, 16);
+    private static final LocalDateTime FROM = DAY.atTime(12, 0);
+    private static final LocalDateTime TO = DAY.atTime(14, 0);
+
+    private final ObservableList<Booking> source = FXCollections.observableArrayList(
+            buildBooking(10, 0), buildBooking(12, 0), buildBooking(13, 0), buildBooking(14, 0),
+            buildBooking(15, 0));
+    private final BookingTimeRangeList bookingsInRange = new BookingTimeRangeList(source);
+    /** A copy of {@code bookingsInRange} kept up to date only through its change events. */
+    private final List<Booking> mirror = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        mirror.addAll(bookingsInRange);
+        bookingsInRange.addListener((ListChangeListener<Booking>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_noRange_allBookings() {
+        assertEquals(source, bookingsInRange);
+    }
+
+    @Test
+    public void setRange_boundsInclusive_bookingsInRange() {
+        bookingsInRange.setRange(FROM, TO);
+        assertEquals(Arrays.asList(source.get(1), source.get(2), source.get(3)), bookingsInRange);
+        assertEquals(bookingsInRange, mirror);
+
+        bookingsInRange.setRange(TO.plusHours(5), TO.plusHours(6));
+        assertEquals(Collections.emptyList(), bookingsInRange);
+        assertEquals(bookingsInRange, mirror);
+
+        bookingsInRange.clearRange();
+        assertEquals(source, bookingsInRange);
+        assertEquals(bookingsInRange, mirror);
+    }
+
+    @Test
+    public void setRange_endBeforeStart_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> bookingsInRange.setRange(TO, FROM));
+    }
+
+    @Test
+    public void sourceChanged_bookingsAddedAndRemoved_rangeKeptUpToDate() {
+        bookingsInRange.setRange(FROM, TO);
+
+        source.add(0, buildBooking(9, 0)); // before the range
+        source.add(3, buildBooking(12, 30)); // in the range
+        source.add(buildBooking(16, 0)); // after the range
+        assertInRange();
+
+        source.remove(1); // before the range
+        source.remove(2); // in the range
+        assertInRange();
+
+        source.set(1, buildBooking(12, 0, BOB)); // replaced in the range
+        assertInRange();
+
+        source.remove(0, source.size() - 1); // across the range
+        assertInRange();
+
+        source.setAll(buildBooking(11, 0), buildBooking(13, 0), buildBooking(13, 30));
+        assertInRange();
+    }
+
+    /**
+     * Asserts that the view holds exactly the bookings of the source in the range, and that its change events
+     * described the changes correctly.
+     */
+    private void assertInRange() {
+        List<Booking> expected = source.stream()
+                .filter(booking -> !booking.getStartTime().isBefore(FROM) && !booking.getStartTime().isAfter(TO))
+                .collect(Collectors.toList());
+        assertEquals(expected, bookingsInRange);
+        assertEquals(expected, mirror);
+    }
+
+    private static Booking buildBooking(int hour, int minute) {
+        return buildBooking(hour, minute, ALICE);
+    }
+
+    /**
+     * Returns a booking by {@code customer} starting on {@code DAY} at {@code hour}:{@code minute}.
+     */
+    private static Booking buildBooking(int hour, int minute, Member customer) {
+        return new Booking(new BookingWindow(DAY.atTime(hour, minute)), customer, new BookingSize(2));
+    }
+}
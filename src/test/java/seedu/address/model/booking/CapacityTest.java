@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalMembers.DANIEL;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
@@ -83,6 +84,29 @@ public class CapacityTest {
         assertTrue(new Capacity(10).canAccommodate(bookingList));
     }
 
+    @Test
+    public void suggestAvailableTimes() {
+        LocalDateTime startTime1130 = LocalDateTime.of(2019, Month.APRIL, 7, 11, 30);
+        LocalDateTime startTime1200 = LocalDateTime.of(2019, Month.APRIL, 7, 12, 0);
+        LocalDateTime startTime1300 = LocalDateTime.of(2019, Month.APRIL, 7, 13, 0);
+        OccupancyTimeline timeline = new OccupancyTimeline(Arrays.asList(
+                new Booking(new BookingWindow(startTime1200), ALICE, new BookingSize(7))));
+        Capacity capacity = new Capacity(10);
+
+        // the booking fits at the requested time
+        Booking smallBooking = new Booking(new BookingWindow(startTime1130), BOB, new BookingSize(3));
+        assertEquals(startTime1130, capacity.suggestNextAvailableTime(smallBooking, timeline));
+
+        // the restaurant only has space once alice leaves
+        Booking largeBooking = new Booking(new BookingWindow(startTime1130), BOB, new BookingSize(7));
+        assertEquals(Arrays.asList(startTime1300), capacity.suggestAvailableTimes(largeBooking, timeline, 3));
+
+        // booking larger than the capacity
+        Booking tooLargeBooking = new Booking(new BookingWindow(startTime1130), BOB, new BookingSize(11));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                capacity.suggestAvailableTimes(tooLargeBooking, timeline, 3));
+    }
+
     @Test
     public void constructorTest() {
         // checks that the same object is returned when using String and int
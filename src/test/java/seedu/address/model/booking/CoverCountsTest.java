@@ -0,0 +1,109 @@
+package seedu.address.model.booking;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class CoverCountsTest {
+    private static final LocalDate DAY_1 = LocalDate.of(2019, Month.MARCH, 16);
+    private static final LocalDate DAY_2 = DAY_1.plusDays(1);
+    private static final LocalDate NEXT_YEAR = DAY_1.plusYears(1);
+
+    private static final Booking BOOKING_DAY_1_0600 =
+            new Booking(new BookingWindow(DAY_1.atTime(6, 0)), ALICE, new BookingSize(5));
+    private static final Booking BOOKING_DAY_1_0630 =
+            new Booking(new BookingWindow(DAY_1.atTime(6, 30)), BOB, new BookingSize(3));
+    private static final Booking BOOKING_DAY_2_1200 =
+            new Booking(new BookingWindow(DAY_2.atTime(12, 0)), CARL, new BookingSize(2));
+    private static final Booking BOOKING_NEXT_YEAR =
+            new Booking(new BookingWindow(NEXT_YEAR.atTime(6, 0)), CARL, new BookingSize(4));
+
+    private final CoverCounts coverCounts = new CoverCounts(Arrays.asList(BOOKING_DAY_1_0600, BOOKING_DAY_1_0630,
+            BOOKING_DAY_2_1200, BOOKING_NEXT_YEAR));
+
+    @Test
+    public void getCovers_rangeOfDays_sumOfDays() {
+        assertEquals(8, coverCounts.getCovers(DAY_1, DAY_1));
+        assertEquals(2, coverCounts.getCovers(DAY_2, DAY_2));
+        assertEquals(10, coverCounts.getCovers(DAY_1.minusDays(100), DAY_2));
+        assertEquals(14, coverCounts.getCovers(DAY_1, NEXT_YEAR));
+        assertEquals(0, coverCounts.getCovers(DAY_2.plusDays(1), NEXT_YEAR.minusDays(1)));
+    }
+
+    @Test
+    public void getCovers_hour_onlyBookingsStartingInHour() {
+        assertEquals(8, coverCounts.getCovers(DAY_1, DAY_2, 6));
+        assertEquals(12, coverCounts.getCovers(DAY_1, NEXT_YEAR, 6));
+        assertEquals(2, coverCounts.getCovers(DAY_1, DAY_2, 12));
+        assertEquals(0, coverCounts.getCovers(DAY_1, DAY_2, 7));
+    }
+
+    @Test
+    public void getCovers_invalidHour_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> coverCounts.getCovers(DAY_1, DAY_2, 24));
+    }
+
+    @Test
+    public void remove_addedBooking_coversRemoved() {
+        coverCounts.remove(BOOKING_DAY_1_0600);
+        assertEquals(3, coverCounts.getCovers(DAY_1, DAY_1));
+        assertEquals(3, coverCounts.getCovers(DAY_1, DAY_1, 6));
+
+        coverCounts.remove(BOOKING_DAY_1_0630);
+        coverCounts.remove(BOOKING_DAY_2_1200);
+        assertEquals(0, coverCounts.getCovers(DAY_1, DAY_2));
+    }
+
+    @Test
+    public void getDates_daysWithBookings_earliestFirst() {
+        assertEquals(Arrays.asList(DAY_1, DAY_2, NEXT_YEAR), coverCounts.getDates());
+
+        coverCounts.remove(BOOKING_DAY_2_1200);
+        assertEquals(Arrays.asList(DAY_1, NEXT_YEAR), coverCounts.getDates());
+    }
+
+    @Test
+    public void getHourlyCovers_addedToCopy_sameCounts() {
+        CoverCounts copy = new CoverCounts();
+        for (LocalDate date : coverCounts.getDates()) {
+            int[] hourlyCovers = coverCounts.getHourlyCovers(date);
+            for (int hour = 0; hour < hourlyCovers.length; hour++) {
+                copy.add(date, hour, hourlyCovers[hour]);
+            }
+        }
+
+        assertEquals(coverCounts, copy);
+        assertEquals(coverCounts.hashCode(), copy.hashCode());
+        assertArrayEquals(new int[CoverCounts.HOURS_IN_A_DAY], coverCounts.getHourlyCovers(DAY_2.plusDays(1)));
+    }
+
+    @Test
+    public void constructor_copy_independentOfOriginal() {
+        CoverCounts copy = new CoverCounts(coverCounts);
+        assertEquals(coverCounts, copy);
+
+        copy.remove(BOOKING_DAY_1_0600);
+        assertEquals(8, coverCounts.getCovers(DAY_1, DAY_1));
+        assertFalse(coverCounts.equals(copy));
+    }
+
+    @Test
+    public void add_bookingBeforeEpoch_counted() {
+        LocalDateTime longAgo = LocalDateTime.of(1900, Month.JANUARY, 1, 10, 0);
+        coverCounts.add(new Booking(new BookingWindow(longAgo), ALICE, new BookingSize(7)));
+        assertEquals(7, coverCounts.getCovers(longAgo.toLocalDate(), longAgo.toLocalDate()));
+        assertEquals(7, coverCounts.getCovers(longAgo.toLocalDate().minusDays(40), DAY_1.minusDays(1), 10));
+    }
+}
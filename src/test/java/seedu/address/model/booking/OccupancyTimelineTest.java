@@ -0,0 +1,178 @@
+package seedu.address.model.booking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class OccupancyTimelineTest {
+    private static final LocalDateTime TIME_0600 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 0);
+    private static final LocalDateTime TIME_0630 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 30);
+    private static final LocalDateTime TIME_0659 = LocalDateTime.of(2019, Month.MARCH, 16, 6, 59);
+    private static final LocalDateTime TIME_0700 = LocalDateTime.of(2019, Month.MARCH, 16, 7, 0);
+    private static final LocalDateTime TIME_0800 = LocalDateTime.of(2019, Month.MARCH, 16, 8, 0);
+
+    private static final Booking BOOKING_0600 = new Booking(new BookingWindow(TIME_0600), ALICE, new BookingSize(5));
+    private static final Booking BOOKING_0630 = new Booking(new BookingWindow(TIME_0630), BOB, new BookingSize(3));
+    private static final Booking BOOKING_0659 = new Booking(new BookingWindow(TIME_0659), CARL, new BookingSize(2));
+    private static final Booking BOOKING_0700 = new Booking(new BookingWindow(TIME_0700), DANIEL, new BookingSize(5));
+
+    private static final List<Booking> BOOKINGS = Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659,
+            BOOKING_0700);
+
+    @Test
+    public void getMaxOccupancy() {
+        OccupancyTimeline timeline = new OccupancyTimeline(BOOKINGS);
+
+        // at 0700, alice would have left. there are at most 10 persons in the restaurant at any point in time
+        assertEquals(10, timeline.getMaxOccupancy());
+
+        // occupancy at a point in time, with departures taking effect at the end time
+        assertEquals(0, timeline.getOccupancyAt(TIME_0600.minusMinutes(1)));
+        assertEquals(8, timeline.getOccupancyAt(TIME_0630));
+        assertEquals(10, timeline.getOccupancyAt(TIME_0659));
+        assertEquals(10, timeline.getOccupancyAt(TIME_0700));
+        assertEquals(0, timeline.getOccupancyAt(TIME_0800));
+
+        // occupancy within a window only considers that window
+        assertEquals(8, timeline.getMaxOccupancy(TIME_0600, TIME_0659));
+        assertEquals(10, timeline.getMaxOccupancy(TIME_0630, TIME_0700));
+        assertEquals(0, timeline.getMaxOccupancy(TIME_0800, TIME_0800.plusHours(1)));
+    }
+
+    @Test
+    public void addAndRemove_matchesRebuiltTimeline() {
+        OccupancyTimeline timeline = new OccupancyTimeline();
+        for (Booking booking : BOOKINGS) {
+            timeline.add(booking);
+        }
+        assertEquals(new OccupancyTimeline(BOOKINGS), timeline);
+
+        timeline.remove(BOOKING_0600);
+        assertEquals(new OccupancyTimeline(Arrays.asList(BOOKING_0630, BOOKING_0659, BOOKING_0700)), timeline);
+        assertEquals(10, timeline.getMaxOccupancy());
+
+        // removing everything leaves an empty timeline
+        timeline.remove(BOOKING_0630);
+        timeline.remove(BOOKING_0659);
+        timeline.remove(BOOKING_0700);
+        assertEquals(new OccupancyTimeline(), timeline);
+        assertEquals(0, timeline.getMaxOccupancy());
+    }
+
+    @Test
+    public void canAddBooking_timelineMatchesList() {
+        OccupancyTimeline timeline = new OccupancyTimeline(Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659));
+        List<Booking> bookingList = Arrays.asList(BOOKING_0600, BOOKING_0630, BOOKING_0659);
+
+        assertFalse(new Capacity(9).canAddBooking(BOOKING_0700, timeline));
+        assertFalse(new Capacity(9).canAddBooking(BOOKING_0700, bookingList));
+        assertTrue(new Capacity(10).canAddBooking(BOOKING_0700, timeline));
+        assertTrue(new Capacity(10).canAddBooking(BOOKING_0700, bookingList));
+
+        timeline.add(BOOKING_0700);
+        assertFalse(new Capacity(9).canAccommodate(timeline));
+        assertTrue(new Capacity(10).canAccommodate(timeline));
+    }
+
+    @Test
+    public void findAvailableStartTimes() {
+        OccupancyTimeline timeline = new OccupancyTimeline(BOOKINGS);
+        Duration oneHour = Duration.ofHours(1);
+
+        // enough room at the requested time
+        assertEquals(Arrays.asList(TIME_0600), timeline.findAvailableStartTimes(TIME_0600, oneHour, 10, 1));
+
+        // at most 5 persons only once carl has left at 0759, as there are still 7 persons after bob leaves at 0730
+        assertEquals(Arrays.asList(TIME_0700.plusMinutes(59), TIME_0800),
+                timeline.findAvailableStartTimes(TIME_0600, oneHour, 5, 3));
+
+        // limit is respected
+        assertEquals(Arrays.asList(TIME_0700.plusMinutes(30)),
+                timeline.findAvailableStartTimes(TIME_0600, oneHour, 7, 1));
+
+        // fewer times are returned once the restaurant is empty for good
+        assertEquals(Arrays.asList(TIME_0800), timeline.findAvailableStartTimes(TIME_0600, oneHour, 0, 3));
+
+        // requested time after all bookings
+        assertEquals(Arrays.asList(TIME_0800.plusHours(1)),
+                timeline.findAvailableStartTimes(TIME_0800.plusHours(1), oneHour, 0, 3));
+    }
+
+    @Test
+    public void findAvailableStartTimes_startJumpsPastWindow_earlierChangesIgnored() {
+        LocalDateTime midnight = TIME_0600.toLocalDate().atStartOfDay();
+        Booking bigBooking = new Booking(new BookingWindow(midnight.plusMinutes(30)), ALICE, new BookingSize(5));
+        Booking smallBooking = new Booking(new BookingWindow(midnight.plusMinutes(70)), BOB, new BookingSize(2));
+        OccupancyTimeline timeline = new OccupancyTimeline(Arrays.asList(bigBooking, smallBooking));
+
+        // the occupancy peaks at 2 from 0130 to 0230, as the big booking has left
+        assertEquals(Arrays.asList(midnight.plusMinutes(90)),
+                timeline.findAvailableStartTimes(midnight, Duration.ofHours(1), 4, 1));
+    }
+
+    @Test
+    public void findAvailableStartTimes_randomTimelines_sameAsBruteForce() {
+        Random random = new Random(0);
+        for (int trial = 0; trial < 500; trial++) {
+            List<Booking> bookings = new ArrayList<>();
+            int bookingCount = random.nextInt(8);
+            for (int i = 0; i < bookingCount; i++) {
+                LocalDateTime startTime = TIME_0600.plusMinutes(random.nextInt(240));
+                bookings.add(new Booking(new BookingWindow(startTime), ALICE, new BookingSize(random.nextInt(6) + 1)));
+            }
+            OccupancyTimeline timeline = new OccupancyTimeline(bookings);
+            LocalDateTime earliestStart = TIME_0600.plusMinutes(random.nextInt(300) - 30);
+            Duration duration = Duration.ofMinutes(random.nextInt(150) + 1);
+            int maxOccupancy = random.nextInt(12);
+            int limit = random.nextInt(4) + 1;
+
+            assertEquals("Trial " + trial,
+                    findAvailableStartTimesByBruteForce(timeline, bookings, earliestStart, duration, maxOccupancy,
+                            limit),
+                    timeline.findAvailableStartTimes(earliestStart, duration, maxOccupancy, limit));
+        }
+    }
+
+    /**
+     * Returns the start times that {@code findAvailableStartTimes} should find, by checking {@code earliestStart} and
+     * every later time at which the occupancy of {@code timeline}, which holds {@code bookings}, drops.
+     */
+    private static List<LocalDateTime> findAvailableStartTimesByBruteForce(OccupancyTimeline timeline,
+            List<Booking> bookings, LocalDateTime earliestStart, Duration duration, int maxOccupancy, int limit) {
+        TreeSet<LocalDateTime> candidates = new TreeSet<>();
+        candidates.add(earliestStart);
+        for (Booking booking : bookings) {
+            for (LocalDateTime time : Arrays.asList(booking.getStartTime(), booking.getEndTime())) {
+                // booking times are whole minutes, so the occupancy is unchanged in the second before a change
+                if (time.isAfter(earliestStart)
+                        && timeline.getOccupancyAt(time) < timeline.getOccupancyAt(time.minusSeconds(1))) {
+                    candidates.add(time);
+                }
+            }
+        }
+
+        List<LocalDateTime> availableStartTimes = new ArrayList<>();
+        for (LocalDateTime start : candidates) {
+            if (availableStartTimes.size() < limit
+                    && timeline.getMaxOccupancy(start, start.plus(duration)) <= maxOccupancy) {
+                availableStartTimes.add(start);
+            }
+        }
+        return availableStartTimes;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.journal;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BOB;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.model.booking.Capacity;
+
+public class ChangeSetTest {
+
+    @Test
+    public void inverse_revertsChangesInReverseOrder() {
+        ChangeSet changeSet = new ChangeSet(Arrays.asList(
+                new ItemAdded(ItemListType.MEMBERS, 0, ALICE),
+                new ItemReplaced(ItemListType.MEMBERS, 0, ALICE, BOB),
+                new CapacityChanged(new Capacity(1), new Capacity(2))));
+
+        ChangeSet expectedInverse = new ChangeSet(Arrays.asList(
+                new CapacityChanged(new Capacity(2), new Capacity(1)),
+                new ItemReplaced(ItemListType.MEMBERS, 0, BOB, ALICE),
+                new ItemRemoved(ItemListType.MEMBERS, 0, ALICE)));
+        assertEquals(expectedInverse, changeSet.inverse());
+        assertEquals(changeSet, changeSet.inverse().inverse());
+        assertEquals(3, changeSet.getItemCount());
+    }
+}
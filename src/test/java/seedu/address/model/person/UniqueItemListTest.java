@@ -2,10 +2,18 @@ package seedu.address.model.person;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+import static seedu.address.testutil.TypicalMembers.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +22,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.model.UniqueItemList;
 import seedu.address.model.person.exceptions.DuplicateItemException;
 import seedu.address.model.person.exceptions.ItemNotFoundException;
@@ -50,6 +60,31 @@ public class UniqueItemListTest {
         assertTrue(uniqueItemList.contains(editedAlice));
     }
 
+    @Test
+    public void getSnapshot_unmodifiedList_returnsSameCopy() {
+        uniqueItemList.add(ALICE);
+        List<Member> snapshot = uniqueItemList.getSnapshot();
+        assertSame(snapshot, uniqueItemList.getSnapshot());
+
+        uniqueItemList.add(BOB);
+        assertNotSame(snapshot, uniqueItemList.getSnapshot());
+        assertEquals(Collections.singletonList(ALICE), snapshot);
+    }
+
+    @Test
+    public void restoreSnapshot_modifiedList_contentsReplaced() {
+        uniqueItemList.add(ALICE);
+        ObservableList<Member> snapshot = uniqueItemList.getSnapshot();
+        uniqueItemList.add(BOB);
+
+        assertTrue(uniqueItemList.restoreSnapshot(snapshot));
+        assertEquals(Collections.singletonList(ALICE), uniqueItemList.asUnmodifiableObservableList());
+
+        // restoring the same snapshot again does nothing
+        assertFalse(uniqueItemList.restoreSnapshot(snapshot));
+        assertSame(snapshot, uniqueItemList.getSnapshot());
+    }
+
     @Test
     public void add_nullMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -63,6 +98,13 @@ public class UniqueItemListTest {
         uniqueItemList.add(ALICE);
     }
 
+    @Test
+    public void requireUnique_duplicateMembers_throwsDuplicateItemException() {
+        UniqueItemList.requireUnique(Arrays.asList(ALICE, BOB));
+        thrown.expect(DuplicateItemException.class);
+        UniqueItemList.requireUnique(Arrays.asList(ALICE, BOB, ALICE));
+    }
+
     @Test
     public void setMember_nullTargetMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -117,6 +159,35 @@ public class UniqueItemListTest {
         uniqueItemList.setItem(ALICE, BOB);
     }
 
+    @Test
+    public void setMember_editedMemberHasDifferentIdentity_targetNoLongerContained() {
+        uniqueItemList.add(ALICE);
+        uniqueItemList.setItem(ALICE, BOB);
+        assertFalse(uniqueItemList.contains(ALICE));
+        assertTrue(uniqueItemList.contains(BOB));
+
+        // the identity of the replaced member is free to be reused
+        uniqueItemList.add(ALICE);
+        assertTrue(uniqueItemList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_memberWithSameNameDifferentIdentity_returnsFalse() {
+        uniqueItemList.add(ALICE);
+        Member aliceWithOtherContacts = new MemberBuilder(ALICE).withPhone(PERSON_VALID_PHONE_BOB)
+                .withEmail(PERSON_VALID_EMAIL_BOB).build();
+        assertFalse(uniqueItemList.contains(aliceWithOtherContacts));
+    }
+
+    @Test
+    public void remove_existingMember_identityCanBeAddedAgain() {
+        uniqueItemList.add(ALICE);
+        uniqueItemList.remove(ALICE);
+        assertFalse(uniqueItemList.contains(ALICE));
+        uniqueItemList.add(ALICE);
+        assertTrue(uniqueItemList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullMember_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -169,6 +240,47 @@ public class UniqueItemListTest {
         assertEquals(expectedUniqueItemList, uniqueItemList);
     }
 
+    @Test
+    public void setMembers_oneMemberChanged_onlyThatMemberReplaced() {
+        uniqueItemList.setItems(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        List<String> changes = recordChanges();
+
+        uniqueItemList.setItems(Arrays.asList(ALICE, ELLE, CARL, DANIEL));
+        assertEquals(Collections.singletonList("replaced 1-2 removing 1"), changes);
+        assertEquals(Arrays.asList(ALICE, ELLE, CARL, DANIEL), uniqueItemList.asUnmodifiableObservableList());
+        assertTrue(uniqueItemList.contains(ELLE));
+        assertFalse(uniqueItemList.contains(BOB));
+    }
+
+    @Test
+    public void setMembers_leadingMembersRemoved_onlyThoseMembersRemoved() {
+        uniqueItemList.setItems(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        List<String> changes = recordChanges();
+
+        uniqueItemList.setItems(Arrays.asList(CARL, DANIEL));
+        assertEquals(Collections.singletonList("removed 0-0 removing 2"), changes);
+        assertEquals(Arrays.asList(CARL, DANIEL), uniqueItemList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMembers_middleMembersChanged_onlyThoseMembersReplaced() {
+        uniqueItemList.setItems(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        List<String> changes = recordChanges();
+
+        uniqueItemList.setItems(Arrays.asList(ALICE, ELLE, DANIEL));
+        assertEquals(Arrays.asList("removed 1-1 removing 2", "added 1-2"), changes);
+        assertEquals(Arrays.asList(ALICE, ELLE, DANIEL), uniqueItemList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMembers_noMembersShared_wholeListReplaced() {
+        uniqueItemList.setItems(Arrays.asList(ALICE, BOB));
+        List<String> changes = recordChanges();
+
+        uniqueItemList.setItems(Arrays.asList(CARL, DANIEL, ELLE));
+        assertEquals(Collections.singletonList("replaced 0-3 removing 2"), changes);
+    }
+
     @Test
     public void setMembers_listWithDuplicateMembers_throwsDuplicateMemberException() {
         List<Member> listWithDuplicateMembers = Arrays.asList(ALICE, ALICE);
@@ -181,4 +293,19 @@ public class UniqueItemListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueItemList.asUnmodifiableObservableList().remove(0);
     }
+
+    /**
+     * Returns a list to which every change to {@code uniqueItemList} will be described from now on.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniqueItemList.asUnmodifiableObservableList().addListener((ListChangeListener<Member>) change -> {
+            while (change.next()) {
+                String kind = change.wasReplaced() ? "replaced" : change.wasAdded() ? "added" : "removed";
+                changes.add(kind + " " + change.getFrom() + "-" + change.getTo()
+                        + (change.wasRemoved() ? " removing " + change.getRemovedSize() : ""));
+            }
+        });
+        return changes;
+    }
 }
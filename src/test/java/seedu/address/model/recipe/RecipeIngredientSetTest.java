@@ -0,0 +1,78 @@
+package seedu.address.model.recipe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalIngredients.CHEESE;
+import static seedu.address.testutil.TypicalIngredients.COFFEE;
+import static seedu.address.testutil.TypicalIngredients.TOMATO;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.ingredient.Ingredient;
+import seedu.address.model.ingredient.IngredientQuantity;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.IngredientBuilder;
+
+public class RecipeIngredientSetTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new RecipeIngredientSet(null));
+    }
+
+    @Test
+    public void equals_ingredientRestocked_stillEqual() {
+        Ingredient restockedCheese = new IngredientBuilder(CHEESE).withIngredientQuantity(100).build();
+        assertEquals(buildSet(CHEESE, 2, TOMATO, 1), buildSet(restockedCheese, 2, TOMATO, 1));
+        assertEquals(buildSet(CHEESE, 2, TOMATO, 1).hashCode(), buildSet(restockedCheese, 2, TOMATO, 1).hashCode());
+
+        // different quantity required -> returns false
+        assertFalse(buildSet(CHEESE, 2, TOMATO, 1).equals(buildSet(CHEESE, 3, TOMATO, 1)));
+    }
+
+    @Test
+    public void getRequiredQuantity() {
+        RecipeIngredientSet set = buildSet(TOMATO, 1, CHEESE, 2);
+        assertEquals(2, set.getRequiredQuantity(CHEESE.getIngredientName()));
+        assertEquals(1, set.getRequiredQuantity(TOMATO.getIngredientName()));
+        assertEquals(0, set.getRequiredQuantity(COFFEE.getIngredientName()));
+        assertTrue(set.contains(CHEESE.getIngredientName()));
+        assertFalse(set.contains(COFFEE.getIngredientName()));
+        assertEquals(Arrays.asList(CHEESE.getIngredientName(), TOMATO.getIngredientName()), set.getIngredientNames());
+    }
+
+    @Test
+    public void calculateNumberOfServings() {
+        RecipeIngredientSet set = buildSet(CHEESE, 2, TOMATO, 1);
+        assertEquals(2, set.calculateNumberOfServings(name -> name.equals(CHEESE.getIngredientName()) ? 5 : 7));
+        assertEquals(0, set.calculateNumberOfServings(name -> name.equals(TOMATO.getIngredientName()) ? 0 : 7));
+    }
+
+    @Test
+    public void replaceIngredient_ingredientRenamed_keepsQuantityRequired() {
+        RecipeIngredientSet set = buildSet(CHEESE, 2, TOMATO, 1);
+        Ingredient renamedCheese = new IngredientBuilder(CHEESE).withIngredientName("zucchini").build();
+
+        RecipeIngredientSet editedSet = set.replaceIngredient(CHEESE.getIngredientName(), renamedCheese);
+
+        assertEquals(buildSet(renamedCheese, 2, TOMATO, 1), editedSet);
+        // the original set is not modified
+        assertEquals(buildSet(CHEESE, 2, TOMATO, 1), set);
+    }
+
+    /**
+     * Returns a set that needs {@code firstQuantity} of {@code first} and {@code secondQuantity} of {@code second}.
+     */
+    private static RecipeIngredientSet buildSet(Ingredient first, int firstQuantity, Ingredient second,
+                                                int secondQuantity) {
+        Map<Ingredient, IngredientQuantity> map = new HashMap<>();
+        map.put(first, new IngredientQuantity(firstQuantity));
+        map.put(second, new IngredientQuantity(secondQuantity));
+        return new RecipeIngredientSet(map);
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBookings.ALICE_BOOKING;
+import static seedu.address.testutil.TypicalBookings.START_TIME;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalMembers.HOON;
+import static seedu.address.testutil.TypicalMembers.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Capacity;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
+
+public class JournaledRestaurantBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+    private RestaurantBook restaurantBook;
+    private List<Change> changes;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempRestaurantBook.json");
+        journalFilePath = JournaledRestaurantBookStorage.getJournalFilePath(filePath);
+        restaurantBook = getTypicalAddressBook();
+        changes = new ArrayList<>();
+        restaurantBook.addChangeRecorder(changes::add);
+    }
+
+    @Test
+    public void saveRestaurantBookChanges_changesAppendedToJournal() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+        String savedData = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+        restaurantBook.removeBooking(ALICE_BOOKING);
+        restaurantBook.setCapacity(new Capacity(150));
+        saveChanges(storage);
+
+        // only the journal is written, with one entry per save
+        assertEquals(savedData, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        // the journal is replayed on top of the data file
+        assertEquals(restaurantBook, new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+    }
+
+    @Test
+    public void saveRestaurantBookChanges_bookingsArchived_archivedCoversReplayed() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.archiveBookingsBefore(START_TIME.toLocalDate().plusDays(1));
+        saveChanges(storage);
+
+        RestaurantBook readRestaurantBook = new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get());
+        assertEquals(restaurantBook, readRestaurantBook);
+        assertEquals(restaurantBook.getArchivedCovers(), readRestaurantBook.getArchivedCovers());
+    }
+
+    @Test
+    public void saveRestaurantBookChanges_notReadOrSaved_wholeRestaurantBookSaved() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(restaurantBook, new RestaurantBook(storage.readRestaurantBook().get()));
+    }
+
+    @Test
+    public void saveRestaurantBookChanges_compactionDue_journalCompacted() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath, true, 0,
+                Duration.ofDays(1));
+        storage.saveRestaurantBook(restaurantBook);
+
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(restaurantBook, new RestaurantBook(new JsonRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+
+        // changes saved after a compaction are still journaled
+        restaurantBook.addMember(IDA);
+        saveChanges(storage);
+        storage.awaitCompaction();
+        assertEquals(restaurantBook, new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+    }
+
+    @Test
+    public void readRestaurantBook_partialEntryAtEnd_entryIgnored() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+        RestaurantBook savedRestaurantBook = new RestaurantBook(restaurantBook);
+        Files.write(journalFilePath, "{\"sequenceNumber\":2,\"cha".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledRestaurantBookStorage reopenedStorage = new JournaledRestaurantBookStorage(filePath);
+        assertEquals(savedRestaurantBook, new RestaurantBook(reopenedStorage.readRestaurantBook().get()));
+
+        // the next save rewrites the data file rather than appending after the partial entry
+        restaurantBook.addMember(IDA);
+        saveChanges(reopenedStorage);
+        assertFalse(Files.exists(journalFilePath));
+        assertTrue(new RestaurantBook(reopenedStorage.readRestaurantBook().get()).hasMember(IDA));
+    }
+
+    @Test
+    public void jsonStorage_journalDisabledThenEnabled_noChangesLostOrResurrected() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+        restaurantBook.addMember(IDA);
+        saveChanges(storage);
+
+        // with the journal disabled, the changes left in the journal are still read
+        JsonRestaurantBookStorage jsonStorage = new JsonRestaurantBookStorage(filePath);
+        RestaurantBook readRestaurantBook = new RestaurantBook(jsonStorage.readRestaurantBook().get());
+        assertEquals(restaurantBook, readRestaurantBook);
+
+        // and a full save replaces them
+        readRestaurantBook.removeMember(HOON);
+        jsonStorage.saveRestaurantBook(readRestaurantBook);
+        assertFalse(Files.exists(journalFilePath));
+
+        // with the journal enabled again, the removed member does not come back
+        JournaledRestaurantBookStorage reopenedStorage = new JournaledRestaurantBookStorage(filePath);
+        assertEquals(readRestaurantBook, new RestaurantBook(reopenedStorage.readRestaurantBook().get()));
+
+        // and later changes are journaled after the replaced ones
+        restaurantBook = readRestaurantBook;
+        restaurantBook.addChangeRecorder(changes::add);
+        restaurantBook.addMember(HOON);
+        saveChanges(reopenedStorage);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(restaurantBook, new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+    }
+
+    @Test
+    public void jsonStorage_journalOutlivesSave_journaledChangesSkipped() throws Exception {
+        JournaledRestaurantBookStorage storage = new JournaledRestaurantBookStorage(filePath);
+        storage.saveRestaurantBook(restaurantBook);
+        restaurantBook.addMember(HOON);
+        saveChanges(storage);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        RestaurantBook savedRestaurantBook = new RestaurantBook(restaurantBook);
+        savedRestaurantBook.removeMember(HOON);
+        new JsonRestaurantBookStorage(filePath).saveRestaurantBook(savedRestaurantBook);
+        // the app stopped after writing the data file but before deleting the journal
+        Files.write(journalFilePath, journal);
+
+        assertEquals(savedRestaurantBook, new RestaurantBook(new JournaledRestaurantBookStorage(filePath)
+                .readRestaurantBook().get()));
+    }
+
+    /**
+     * Saves the changes recorded since the previous save to {@code storage}.
+     */
+    private void saveChanges(JournaledRestaurantBookStorage storage) throws Exception {
+        storage.saveRestaurantBookChanges(restaurantBook, new ChangeSet(changes));
+        changes.clear();
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.address.storage.JsonAdaptedBooking.MISSING_FIELD_MESSAGE_FORMAT;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -56,6 +60,23 @@ public class JsonAdaptedBookingTest {
         assertEquals(VALID_BOOKING, booking.toModelType());
     }
 
+    @Test
+    public void toModelType_memberId_returnsBookingWithSameMember() throws Exception {
+        Member otherMember = new MemberBuilder().build();
+        JsonAdaptedBooking booking = new JsonAdaptedBooking(VALID_BOOKING, 1);
+        Booking modelBooking = booking.toModelType(Arrays.asList(otherMember, VALID_MEMBER));
+        assertEquals(VALID_BOOKING, modelBooking);
+        assertSame(VALID_MEMBER, modelBooking.getCustomer());
+    }
+
+    @Test
+    public void toModelType_unknownMemberId_throwsIllegalValueException() {
+        JsonAdaptedBooking booking = new JsonAdaptedBooking(VALID_BOOKING, 1);
+        String expectedMessage = String.format(JsonAdaptedBooking.MESSAGE_UNKNOWN_MEMBER, 1);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () ->
+                booking.toModelType(Collections.singletonList(VALID_MEMBER)));
+    }
+
     @Test
     public void toModelType_invalidCustomerName_throwsIllegalValueException() {
         JsonAdaptedBooking booking =
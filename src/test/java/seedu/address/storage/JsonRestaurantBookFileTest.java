@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalBookings.START_TIME;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.RestaurantBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.member.Member;
+import seedu.address.testutil.TypicalMembers;
+
+public class JsonRestaurantBookFileTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRestaurantBookFileTest");
+    private static final Path TYPICAL_MEMBERS_FILE = TEST_DATA_FOLDER.resolve("typicalMembersAddressBook.json");
+    private static final Path INVALID_MEMBER_FILE = TEST_DATA_FOLDER.resolve("invalidMemberAddressBook.json");
+    private static final Path DUPLICATE_MEMBER_FILE = TEST_DATA_FOLDER.resolve("duplicateMemberAddressBook.json");
+    private static final Path UNVERSIONED_BOOKINGS_FILE = TEST_DATA_FOLDER.resolve("typicalBookingsAddressBook.json");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_typicalMembersFile_success() throws Exception {
+        RestaurantBook restaurantBookFromFile = new JsonRestaurantBookFile(TYPICAL_MEMBERS_FILE).read().get();
+        RestaurantBook typicalMembersRestaurantBook = TypicalMembers.getTypicalAddressBook();
+        assertEquals(restaurantBookFromFile, typicalMembersRestaurantBook);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonRestaurantBookFile(TEST_DATA_FOLDER.resolve("NonExistentFile.json")).read().isPresent());
+    }
+
+    @Test
+    public void read_invalidMemberFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new JsonRestaurantBookFile(INVALID_MEMBER_FILE).read();
+    }
+
+    @Test
+    public void read_duplicateMembers_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(JsonRestaurantBookFile.MESSAGE_DUPLICATE_MEMBER);
+        new JsonRestaurantBookFile(DUPLICATE_MEMBER_FILE).read();
+    }
+
+    @Test
+    public void read_newerVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Temp.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : " + (JsonRestaurantBookFile.FORMAT_VERSION + 1) + " }");
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(JsonRestaurantBookFile.MESSAGE_UNSUPPORTED_VERSION,
+                JsonRestaurantBookFile.FORMAT_VERSION + 1, JsonRestaurantBookFile.FORMAT_VERSION));
+        new JsonRestaurantBookFile(filePath).read();
+    }
+
+    @Test
+    public void write_unversionedFile_bookingsReferToMembers() throws Exception {
+        RestaurantBook unversionedRestaurantBook = new JsonRestaurantBookFile(UNVERSIONED_BOOKINGS_FILE).read().get();
+        Path filePath = testFolder.getRoot().toPath().resolve("Temp.json");
+        JsonRestaurantBookFile file = new JsonRestaurantBookFile(filePath);
+        file.write(unversionedRestaurantBook, 0, true);
+
+        // customers are no longer embedded in the bookings
+        assertFalse(FileUtil.readFromFile(filePath).contains("customerName"));
+
+        RestaurantBook migratedRestaurantBook = file.read().get();
+        assertEquals(unversionedRestaurantBook, migratedRestaurantBook);
+        List<Member> members = migratedRestaurantBook.getMemberList();
+        for (Booking booking : migratedRestaurantBook.getBookingList()) {
+            assertSame(members.get(members.indexOf(booking.getCustomer())), booking.getCustomer());
+        }
+    }
+
+    @Test
+    public void write_notPrettyPrinted_writtenOnSingleLineAndReadBack() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        JsonRestaurantBookFile file = new JsonRestaurantBookFile(testFolder.getRoot().toPath().resolve("Temp.json"));
+        file.write(original, 3, false);
+
+        Path filePath = testFolder.getRoot().toPath().resolve("Temp.json");
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, file.read().get());
+        assertEquals(3, file.getJournalSequenceNumber());
+    }
+
+    @Test
+    public void write_archivedBookings_archivedCoversReadBack() throws Exception {
+        RestaurantBook original = getTypicalAddressBook();
+        original.archiveBookingsBefore(START_TIME.toLocalDate().plusDays(1));
+        JsonRestaurantBookFile file = new JsonRestaurantBookFile(testFolder.getRoot().toPath().resolve("Temp.json"));
+        file.write(original, 0, true);
+
+        RestaurantBook readBack = file.read().get();
+        assertEquals(original, readBack);
+        assertEquals(10, readBack.getArchivedCovers().getCovers(START_TIME.toLocalDate(), START_TIME.toLocalDate()));
+    }
+}
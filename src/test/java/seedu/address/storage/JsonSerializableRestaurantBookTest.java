@@ -1,52 +0,0 @@
-package seedu.address.storage;
-
-import static org.junit.Assert.assertEquals;
-
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import org.junit.Rule;
-import org.junit.Test;
-import org.junit.rules.ExpectedException;
-
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.JsonUtil;
-import seedu.address.model.RestaurantBook;
-import seedu.address.testutil.TypicalMembers;
-
-public class JsonSerializableRestaurantBookTest {
-
-    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableRestaurantBookTest");
-    private static final Path TYPICAL_MEMBERS_FILE = TEST_DATA_FOLDER.resolve("typicalMembersAddressBook.json");
-    private static final Path INVALID_MEMBER_FILE = TEST_DATA_FOLDER.resolve("invalidMemberAddressBook.json");
-    private static final Path DUPLICATE_MEMBER_FILE = TEST_DATA_FOLDER.resolve("duplicateMemberAddressBook.json");
-
-    @Rule
-    public ExpectedException thrown = ExpectedException.none();
-
-    @Test
-    public void toModelType_typicalMembersFile_success() throws Exception {
-        JsonSerializableRestaurantBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_MEMBERS_FILE,
-                JsonSerializableRestaurantBook.class).get();
-        RestaurantBook restaurantBookFromFile = dataFromFile.toModelType();
-        RestaurantBook typicalMembersRestaurantBook = TypicalMembers.getTypicalAddressBook();
-        assertEquals(restaurantBookFromFile, typicalMembersRestaurantBook);
-    }
-
-    @Test
-    public void toModelType_invalidMemberFile_throwsIllegalValueException() throws Exception {
-        JsonSerializableRestaurantBook dataFromFile = JsonUtil.readJsonFile(INVALID_MEMBER_FILE,
-                JsonSerializableRestaurantBook.class).get();
-        thrown.expect(IllegalValueException.class);
-        dataFromFile.toModelType();
-    }
-
-    @Test
-    public void toModelType_duplicateMembers_throwsIllegalValueException() throws Exception {
-        JsonSerializableRestaurantBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_MEMBER_FILE,
-                JsonSerializableRestaurantBook.class).get();
-        thrown.expect(IllegalValueException.class);
-        thrown.expectMessage(JsonSerializableRestaurantBook.MESSAGE_DUPLICATE_MEMBER);
-        dataFromFile.toModelType();
-    }
-}
@@ -15,7 +15,10 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.RestaurantBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedRestaurantBook;
 
 public class JsonUserPrefsStorageTest {
 
@@ -80,6 +83,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidUndoHistoryLimits_defaultLimitsUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("InvalidUndoHistoryLimitsUserPrefs.json").get();
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_DEPTH, actual.getUndoHistoryDepth());
+        assertEquals(VersionedRestaurantBook.DEFAULT_HISTORY_ITEM_LIMIT, actual.getUndoHistoryItemLimit());
+
+        // the prefs can be used to create a model
+        new ModelManager(new RestaurantBook(), actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
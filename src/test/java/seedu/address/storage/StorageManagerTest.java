@@ -2,9 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static seedu.address.testutil.TypicalMembers.HOON;
+import static seedu.address.testutil.TypicalMembers.IDA;
 import static seedu.address.testutil.TypicalMembers.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -15,6 +23,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.ReadOnlyRestaurantBook;
 import seedu.address.model.RestaurantBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.journal.Change;
+import seedu.address.model.journal.ChangeSet;
 
 public class StorageManagerTest {
 
@@ -62,6 +72,58 @@ public class StorageManagerTest {
         assertEquals(original, new RestaurantBook(retrieved));
     }
 
+    @Test
+    public void saveRestaurantBookInBackground_burstOfSaves_coalesced() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        List<Change> savedChanges = new ArrayList<>();
+        JsonRestaurantBookStorage restaurantBookStorage = new JsonRestaurantBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveRestaurantBookChanges(ReadOnlyRestaurantBook restaurantBook, Change changes)
+                    throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new AssertionError(ie);
+                }
+                savedChanges.add(changes);
+                super.saveRestaurantBookChanges(restaurantBook, changes);
+            }
+        };
+        storageManager = new StorageManager(restaurantBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        RestaurantBook restaurantBook = getTypicalAddressBook();
+        List<Change> changes = new ArrayList<>();
+        restaurantBook.addChangeRecorder(changes::add);
+
+        restaurantBook.addMember(HOON);
+        ChangeSet firstChanges = saveInBackground(restaurantBook, changes);
+        firstSaveStarted.await();
+
+        // saves made while the first save is being written are combined into one
+        restaurantBook.addMember(IDA);
+        ChangeSet secondChanges = saveInBackground(restaurantBook, changes);
+        restaurantBook.removeMember(HOON);
+        ChangeSet thirdChanges = saveInBackground(restaurantBook, changes);
+        firstSaveAllowed.countDown();
+        storageManager.flushRestaurantBookSaves();
+
+        assertEquals(Arrays.asList(new ChangeSet(Collections.singletonList(firstChanges)),
+                new ChangeSet(Arrays.asList(secondChanges, thirdChanges))), savedChanges);
+        assertEquals(restaurantBook, new RestaurantBook(storageManager.readRestaurantBook().get()));
+    }
+
+    /**
+     * Saves {@code restaurantBook} with the {@code changes} recorded since the previous save in the background.
+     */
+    private ChangeSet saveInBackground(RestaurantBook restaurantBook, List<Change> changes) {
+        ChangeSet changeSet = new ChangeSet(changes);
+        changes.clear();
+        storageManager.saveRestaurantBookInBackground(restaurantBook, changeSet);
+        return changeSet;
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getRestaurantBookFilePath());